@@ -27,9 +27,11 @@ import org.jbehave.core.io.StoryLoader;
 import org.jbehave.core.io.StoryPathResolver;
 import org.jbehave.core.io.UnderscoredCamelCaseResolver;
 import org.jbehave.core.model.TableTransformers;
+import org.jbehave.core.parsers.NullStoryCache;
 import org.jbehave.core.parsers.RegexPrefixCapturingPatternParser;
 import org.jbehave.core.parsers.RegexStoryParser;
 import org.jbehave.core.parsers.StepPatternParser;
+import org.jbehave.core.parsers.StoryCache;
 import org.jbehave.core.parsers.StoryParser;
 import org.jbehave.core.reporters.ConsoleOutput;
 import org.jbehave.core.reporters.FreemarkerViewGenerator;
@@ -39,11 +41,13 @@ import org.jbehave.core.reporters.StoryReporter;
 import org.jbehave.core.reporters.StoryReporterBuilder;
 import org.jbehave.core.reporters.ViewGenerator;
 import org.jbehave.core.steps.MarkUnmatchedStepsAsPending;
+import org.jbehave.core.steps.MethodHandleStepMethodInvoker;
 import org.jbehave.core.steps.ParameterControls;
 import org.jbehave.core.steps.ParameterConverters.ParameterConverter;
 import org.jbehave.core.steps.SilentStepMonitor;
 import org.jbehave.core.steps.StepCollector;
 import org.jbehave.core.steps.StepFinder;
+import org.jbehave.core.steps.StepMethodInvoker;
 import org.jbehave.core.steps.StepMonitor;
 
 @Retention(RetentionPolicy.RUNTIME)
@@ -62,6 +66,8 @@ public @interface Configure {
 
     Class<? extends StoryParser> storyParser() default RegexStoryParser.class;
 
+    Class<? extends StoryCache> storyCache() default NullStoryCache.class;
+
     Class<? extends StoryLoader> storyLoader() default LoadFromClasspath.class;
 
     Class<? extends StoryPathResolver> storyPathResolver() default UnderscoredCamelCaseResolver.class;
@@ -78,6 +84,8 @@ public @interface Configure {
 
     Class<? extends StepMonitor> stepMonitor() default SilentStepMonitor.class;
 
+    Class<? extends StepMethodInvoker> stepMethodInvoker() default MethodHandleStepMethodInvoker.class;
+
     Class<? extends ParameterConverter>[] parameterConverters() default {};
 
     boolean inheritParameterConverters() default true;
@@ -28,6 +28,7 @@ import org.jbehave.core.io.StoryLoader;
 import org.jbehave.core.io.StoryPathResolver;
 import org.jbehave.core.model.TableTransformers;
 import org.jbehave.core.parsers.StepPatternParser;
+import org.jbehave.core.parsers.StoryCache;
 import org.jbehave.core.parsers.StoryParser;
 import org.jbehave.core.reporters.StepdocReporter;
 import org.jbehave.core.reporters.StoryReporter;
@@ -42,6 +43,7 @@ import org.jbehave.core.steps.ParameterConverters.ParameterConverter;
 import org.jbehave.core.steps.ScanningStepsFactory;
 import org.jbehave.core.steps.StepCollector;
 import org.jbehave.core.steps.StepFinder;
+import org.jbehave.core.steps.StepMethodInvoker;
 import org.jbehave.core.steps.StepMonitor;
 
 /**
@@ -97,9 +99,12 @@ public class AnnotationBuilder {
         configuration.useStepdocReporter(configurationElement(finder, "stepdocReporter", StepdocReporter.class));
         configuration.useStepFinder(configurationElement(finder, "stepFinder", StepFinder.class));
         configuration.useStepMonitor(configurationElement(finder, "stepMonitor", StepMonitor.class));
+        configuration.useStepMethodInvoker(configurationElement(finder, "stepMethodInvoker",
+                StepMethodInvoker.class));
         configuration.useStepPatternParser(configurationElement(finder, "stepPatternParser", StepPatternParser.class));
         configuration.useStoryLoader(configurationElement(finder, "storyLoader", StoryLoader.class));
         configuration.useStoryParser(configurationElement(finder, "storyParser", StoryParser.class));
+        configuration.useStoryCache(configurationElement(finder, "storyCache", StoryCache.class));
         configuration.useStoryPathResolver(configurationElement(finder, "storyPathResolver", StoryPathResolver.class));
         configuration
                 .useDefaultStoryReporter(configurationElement(finder, "defaultStoryReporter", StoryReporter.class));
@@ -28,10 +28,12 @@ import org.jbehave.core.model.Story;
 import org.jbehave.core.model.TableParsers;
 import org.jbehave.core.model.TableTransformers;
 import org.jbehave.core.parsers.CompositeParser;
+import org.jbehave.core.parsers.NullStoryCache;
 import org.jbehave.core.parsers.RegexCompositeParser;
 import org.jbehave.core.parsers.RegexPrefixCapturingPatternParser;
 import org.jbehave.core.parsers.RegexStoryParser;
 import org.jbehave.core.parsers.StepPatternParser;
+import org.jbehave.core.parsers.StoryCache;
 import org.jbehave.core.parsers.StoryParser;
 import org.jbehave.core.reporters.ConsoleOutput;
 import org.jbehave.core.reporters.FreemarkerViewGenerator;
@@ -41,12 +43,14 @@ import org.jbehave.core.reporters.StoryReporter;
 import org.jbehave.core.reporters.StoryReporterBuilder;
 import org.jbehave.core.reporters.ViewGenerator;
 import org.jbehave.core.steps.MarkUnmatchedStepsAsPending;
+import org.jbehave.core.steps.MethodHandleStepMethodInvoker;
 import org.jbehave.core.steps.ParameterControls;
 import org.jbehave.core.steps.ParameterConverters;
 import org.jbehave.core.steps.PrintStreamStepMonitor;
 import org.jbehave.core.steps.SilentStepMonitor;
 import org.jbehave.core.steps.StepCollector;
 import org.jbehave.core.steps.StepFinder;
+import org.jbehave.core.steps.StepMethodInvoker;
 import org.jbehave.core.steps.StepMonitor;
 import org.jbehave.core.steps.context.StepsContext;
 
@@ -87,6 +91,11 @@ public abstract class Configuration {
      */
     protected StoryParser storyParser;
 
+    /**
+     * Caches the parsed stories in memory, until their text changes
+     */
+    protected StoryCache storyCache;
+
     /**
      * Parses composite steps from their textual representation
      */
@@ -170,6 +179,11 @@ public abstract class Configuration {
      */
     protected Paranamer paranamer;
 
+    /**
+     * Invokes the step methods via method handles
+     */
+    protected StepMethodInvoker stepMethodInvoker;
+
     /**
      * Use default built-in parameter converters
      */
@@ -243,6 +257,13 @@ public abstract class Configuration {
         return storyParser;
     }
 
+    public StoryCache storyCache() {
+        if (storyCache == null) {
+            storyCache = new NullStoryCache();
+        }
+        return storyCache;
+    }
+
     public CompositeParser compositeParser() {
         if (compositeParser == null) {
             compositeParser = new RegexCompositeParser(keywords());
@@ -367,6 +388,13 @@ public abstract class Configuration {
         return paranamer;
     }
 
+    public StepMethodInvoker stepMethodInvoker() {
+        if (stepMethodInvoker == null) {
+            stepMethodInvoker = new MethodHandleStepMethodInvoker();
+        }
+        return stepMethodInvoker;
+    }
+
     public ParameterConverters parameterConverters() {
         if (parameterConverters == null) {
             parameterConverters = new ParameterConverters(stepMonitor(), keywords(), storyLoader(), parameterControls(),
@@ -440,6 +468,11 @@ public abstract class Configuration {
         return this;
     }
 
+    public Configuration useStoryCache(StoryCache storyCache) {
+        this.storyCache = storyCache;
+        return this;
+    }
+
     public Configuration useCompositeParser(CompositeParser compositeParser) {
         this.compositeParser = compositeParser;
         return this;
@@ -510,6 +543,11 @@ public abstract class Configuration {
         return this;
     }
 
+    public Configuration useStepMethodInvoker(StepMethodInvoker stepMethodInvoker) {
+        this.stepMethodInvoker = stepMethodInvoker;
+        return this;
+    }
+
     public Configuration useParameterConverters(ParameterConverters parameterConverters) {
         this.parameterConverters = parameterConverters;
         return this;
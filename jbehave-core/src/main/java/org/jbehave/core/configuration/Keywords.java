@@ -6,8 +6,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
-import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 import org.jbehave.core.steps.StepType;
@@ -21,6 +21,7 @@ import org.jbehave.core.steps.StepType;
 public class Keywords {
 
     private static final String SYNONYM_SEPARATOR = "\\|";
+    private static final char WORD_SEPARATOR = ' ';
     
     public static final String META = "Meta";
     public static final String META_PROPERTY = "MetaProperty";
@@ -122,6 +123,8 @@ public class Keywords {
     private final String yes;
     private final String no;
     private final Map<StepType, String> startingWordsByType = new HashMap<>();
+    private final Map<StepType, StepStartingWord[]> stepStartingWordsByType = new ConcurrentHashMap<>();
+    private volatile StepStartingWord[] stepStartingWords;
 
 
     public static Map<String, String> defaultKeywords() {
@@ -238,7 +241,6 @@ public class Keywords {
         startingWordsByType.put(StepType.THEN, then());
         startingWordsByType.put(StepType.AND, and());
         startingWordsByType.put(StepType.IGNORABLE, ignorable());
-
     }
 
     private String keyword(String name, Map<String, String> keywords) {
@@ -450,14 +452,7 @@ public class Keywords {
     }
 
     private boolean ofStepType(String stepAsString, StepType stepType) {
-        boolean isType = false;
-        for (String word : startingWordsFor(stepType)) {
-            isType = stepStartsWithWord(stepAsString, word);
-            if (isType) {
-                break;
-            }
-        }
-        return isType;
+        return findStepStartingWord(stepAsString, stepStartingWordsFor(stepType)) != null;
     }
 
     public boolean isAndStep(String stepAsString) {
@@ -479,49 +474,121 @@ public class Keywords {
     }
 
     public String startingWord(String stepAsString, StepType stepType) throws StartingWordNotFound {
-        for (String wordForType : startingWordsFor(stepType)) {
-            if (stepStartsWithWord(stepAsString, wordForType)) {
-                return wordForType;
-            }
+        StepStartingWord stepStartingWord = stepStartingWord(stepAsString, stepType);
+        if (stepStartingWord == null) {
+            throw new StartingWordNotFound(stepAsString, stepType, startingWordsByType);
+        }
+        return stepStartingWord.getWord();
+    }
+
+    public String startingWord(String stepAsString) throws StartingWordNotFound {
+        return startingWordOf(stepAsString).getWord();
+    }
+
+    public StepType stepTypeFor(String stepAsString) throws StartingWordNotFound {
+        return startingWordOf(stepAsString).getStepType();
+    }
+
+    private StepStartingWord startingWordOf(String stepAsString) throws StartingWordNotFound {
+        StepStartingWord stepStartingWord = stepStartingWord(stepAsString);
+        if (stepStartingWord == null) {
+            throw new StartingWordNotFound(stepAsString, startingWordsByType);
         }
-        for (String andWord : startingWordsFor(StepType.AND)) {
-            if (stepStartsWithWord(stepAsString, andWord)) {
-                return andWord;
+        return stepStartingWord;
+    }
+
+    /**
+     * Finds the starting word which the step starts with, amongst the starting words of all step types
+     *
+     * @param stepAsString the textual step
+     * @return The {@link StepStartingWord} or <code>null</code> if the step does not start with any starting word
+     */
+    public StepStartingWord stepStartingWord(String stepAsString) {
+        return findStepStartingWord(stepAsString, stepStartingWords());
+    }
+
+    /**
+     * Finds the starting word which the step starts with, amongst the starting words of the given step type or else
+     * of the AND step type, as {@link #stepWithoutStartingWord(String, StepType)} does
+     *
+     * @param stepAsString the textual step
+     * @param stepType the StepType
+     * @return The {@link StepStartingWord} or <code>null</code> if the step does not start with any such starting
+     *         word
+     */
+    public StepStartingWord stepStartingWord(String stepAsString, StepType stepType) {
+        StepStartingWord stepStartingWord = findStepStartingWord(stepAsString, stepStartingWordsFor(stepType));
+        if (stepStartingWord == null) {
+            stepStartingWord = findStepStartingWord(stepAsString, stepStartingWordsFor(StepType.AND));
+        }
+        return stepStartingWord;
+    }
+
+    /**
+     * Returns the starting words of all step types, split once and kept in the order in which the step types are
+     * looked up
+     */
+    private StepStartingWord[] stepStartingWords() {
+        StepStartingWord[] allStepStartingWords = stepStartingWords;
+        if (allStepStartingWords == null) {
+            List<StepStartingWord> words = new ArrayList<>();
+            for (StepType stepType : startingWordsByType.keySet()) {
+                words.addAll(asList(stepStartingWordsFor(stepType)));
             }
+            allStepStartingWords = words.toArray(new StepStartingWord[0]);
+            stepStartingWords = allStepStartingWords;
         }
-        throw new StartingWordNotFound(stepAsString, stepType, startingWordsByType);
+        return allStepStartingWords;
     }
 
-    public String startingWord(String stepAsString) throws StartingWordNotFound {
-        for (StepType stepType : startingWordsByType.keySet()) {
-            for (String wordForType : startingWordsFor(stepType)) {
-                if (stepStartsWithWord(stepAsString, wordForType)) {
-                    return wordForType;
-                }
+    private StepStartingWord[] stepStartingWordsFor(StepType stepType) {
+        StepStartingWord[] stepStartingWords = stepStartingWordsByType.get(stepType);
+        if (stepStartingWords == null) {
+            String[] synonyms = synonymsOf(startingWordFor(stepType));
+            stepStartingWords = new StepStartingWord[synonyms.length];
+            for (int i = 0; i < synonyms.length; i++) {
+                stepStartingWords[i] = new StepStartingWord(stepType, synonyms[i]);
             }
+            stepStartingWordsByType.put(stepType, stepStartingWords);
         }
-        throw new StartingWordNotFound(stepAsString, startingWordsByType);
+        return stepStartingWords;
     }
 
-    public StepType stepTypeFor(String stepAsString) throws StartingWordNotFound {
-        for (StepType stepType : startingWordsByType.keySet()) {
-            for (String wordForType : startingWordsFor(stepType)) {
-                if (stepStartsWithWord(stepAsString, wordForType)) {
-                    return stepType;
-                }
+    private static StepStartingWord findStepStartingWord(String stepAsString, StepStartingWord[] stepStartingWords) {
+        for (StepStartingWord stepStartingWord : stepStartingWords) {
+            if (startsWithWord(stepAsString, 0, stepStartingWord.getWord())) {
+                return stepStartingWord;
             }
         }
-        throw new StartingWordNotFound(stepAsString, startingWordsByType);
+        return null;
     }
 
     public boolean stepStartsWithWord(String step, String word) {
-        return stepStartsWithWords(step, word);
+        return startsWithWord(step, 0, word);
     }
 
     public boolean stepStartsWithWords(String step, String... words) {
-        char separator = ' '; // space after qualifies it as word
-        String start = StringUtils.join(words, separator) + separator;
-        return step.startsWith(start);
+        if (words.length == 0) {
+            return step.startsWith(String.valueOf(WORD_SEPARATOR));
+        }
+        int offset = 0;
+        for (String word : words) {
+            if (!startsWithWord(step, offset, word)) {
+                return false;
+            }
+            offset += word.length() + 1;
+        }
+        return true;
+    }
+
+    /**
+     * Determines if the text starts with the word at the given offset, the word being followed by the separator,
+     * which qualifies it as word
+     */
+    private static boolean startsWithWord(String text, int offset, String word) {
+        int separatorIndex = offset + word.length();
+        return separatorIndex < text.length() && text.charAt(separatorIndex) == WORD_SEPARATOR
+                && text.startsWith(word, offset);
     }
 
     public String startingWordFor(StepType stepType) {
@@ -533,7 +600,12 @@ public class Keywords {
     }
 
     public String[] startingWordsFor(StepType stepType) {
-        return synonymsOf(startingWordFor(stepType));
+        StepStartingWord[] stepStartingWords = stepStartingWordsFor(stepType);
+        String[] words = new String[stepStartingWords.length];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = stepStartingWords[i].getWord();
+        }
+        return words;
     }
 
     @Override
@@ -541,6 +613,47 @@ public class Keywords {
         return ToStringBuilder.reflectionToString(this, ToStringStyle.SHORT_PREFIX_STYLE);
     }
 
+    /**
+     * A starting word of a step type, as found at the start of a textual step
+     */
+    public static class StepStartingWord {
+
+        private final StepType stepType;
+        private final String word;
+
+        StepStartingWord(StepType stepType, String word) {
+            this.stepType = stepType;
+            this.word = word;
+        }
+
+        public StepType getStepType() {
+            return stepType;
+        }
+
+        public String getWord() {
+            return word;
+        }
+
+        /**
+         * Returns the offset of the body of the step, following the starting word and the space after it
+         *
+         * @return The offset of the step body
+         */
+        public int getBodyOffset() {
+            return word.length() + 1;
+        }
+
+        /**
+         * Returns the body of the step which starts with this starting word
+         *
+         * @param stepAsString the textual step
+         * @return The step without its starting word
+         */
+        public String stepWithoutStartingWord(String stepAsString) {
+            return stepAsString.substring(getBodyOffset());
+        }
+    }
+
     @SuppressWarnings("serial")
     public static class KeywordNotFound extends RuntimeException {
 
@@ -11,9 +11,11 @@ import org.jbehave.core.failures.RethrowingFailure;
 import org.jbehave.core.i18n.LocalizedKeywords;
 import org.jbehave.core.io.LoadFromClasspath;
 import org.jbehave.core.io.StoryLoader;
+import org.jbehave.core.parsers.NullStoryCache;
 import org.jbehave.core.parsers.RegexPrefixCapturingPatternParser;
 import org.jbehave.core.parsers.RegexStoryParser;
 import org.jbehave.core.parsers.StepPatternParser;
+import org.jbehave.core.parsers.StoryCache;
 import org.jbehave.core.parsers.StoryParser;
 import org.jbehave.core.reporters.ConsoleOutput;
 import org.jbehave.core.reporters.FreemarkerViewGenerator;
@@ -21,10 +23,12 @@ import org.jbehave.core.reporters.PrintStreamStepdocReporter;
 import org.jbehave.core.reporters.StepdocReporter;
 import org.jbehave.core.reporters.ViewGenerator;
 import org.jbehave.core.steps.MarkUnmatchedStepsAsPending;
+import org.jbehave.core.steps.MethodHandleStepMethodInvoker;
 import org.jbehave.core.steps.ParameterControls;
 import org.jbehave.core.steps.SilentStepMonitor;
 import org.jbehave.core.steps.StepCollector;
 import org.jbehave.core.steps.StepFinder;
+import org.jbehave.core.steps.StepMethodInvoker;
 import org.jbehave.core.steps.StepMonitor;
 
 /**
@@ -33,6 +37,7 @@ import org.jbehave.core.steps.StepMonitor;
  * <ul>
  * <li>{@link Keywords}: {@link LocalizedKeywords}</li>
  * <li>{@link StoryParser}: {@link RegexStoryParser}</li>
+ * <li>{@link StoryCache}: {@link NullStoryCache}</li>
  * <li>{@link StoryLoader}: {@link LoadFromClasspath}</li>
  * <li>{@link StoryControls}: {@link StoryControls}</li>
  * <li>{@link FailureStrategy}: {@link RethrowingFailure}</li>
@@ -44,6 +49,7 @@ import org.jbehave.core.steps.StepMonitor;
  * <li>{@link StepdocReporter}: {@link PrintStreamStepdocReporter}</li>
  * <li>{@link StepMonitor}: {@link SilentStepMonitor}
  * <li>{@link Paranamer}: {@link NullParanamer}</li>
+ * <li>{@link StepMethodInvoker}: {@link MethodHandleStepMethodInvoker}</li>
  * <li>{@link ParameterControls}: {@link ParameterControls}</li>
  * <li>{@link ViewGenerator}: {@link FreemarkerViewGenerator}</li>
  * </ul>
@@ -54,6 +60,7 @@ public class MostUsefulConfiguration extends Configuration {
         useKeywords(new LocalizedKeywords());
         useStoryControls(new StoryControls());
         useStoryLoader(new LoadFromClasspath());
+        useStoryCache(new NullStoryCache());
         useParameterControls(new ParameterControls());
         useFailureStrategy(new RethrowingFailure());
         usePendingStepStrategy(new PassingUponPendingStep());
@@ -63,6 +70,7 @@ public class MostUsefulConfiguration extends Configuration {
         useStepMonitor(new SilentStepMonitor());
         useStepdocReporter(new PrintStreamStepdocReporter());
         useParanamer(new NullParanamer());
+        useStepMethodInvoker(new MethodHandleStepMethodInvoker());
         useViewGenerator(new FreemarkerViewGenerator());
     }
 
@@ -15,6 +15,7 @@ import org.jbehave.core.model.ExamplesTableFactory;
 import org.jbehave.core.model.Story;
 import org.jbehave.core.parsers.CompositeParser;
 import org.jbehave.core.parsers.StepPatternParser;
+import org.jbehave.core.parsers.StoryCache;
 import org.jbehave.core.parsers.StoryParser;
 import org.jbehave.core.reporters.StoryReporter;
 import org.jbehave.core.reporters.StoryReporterBuilder;
@@ -22,6 +23,7 @@ import org.jbehave.core.reporters.ViewGenerator;
 import org.jbehave.core.steps.ParameterControls;
 import org.jbehave.core.steps.ParameterConverters;
 import org.jbehave.core.steps.StepCollector;
+import org.jbehave.core.steps.StepMethodInvoker;
 import org.jbehave.core.steps.StepMonitor;
 
 /**
@@ -46,6 +48,11 @@ public class UnmodifiableConfiguration extends Configuration {
         return delegate.storyParser();
     }
 
+    @Override
+    public StoryCache storyCache() {
+        return delegate.storyCache();
+    }
+
     @Override
     public CompositeParser compositeParser() {
         return delegate.compositeParser();
@@ -85,6 +92,11 @@ public class UnmodifiableConfiguration extends Configuration {
         return delegate.paranamer();
     }
 
+    @Override
+    public StepMethodInvoker stepMethodInvoker() {
+        return delegate.stepMethodInvoker();
+    }
+
     @Override
     public ViewGenerator viewGenerator() {
         return delegate.viewGenerator();
@@ -175,6 +187,11 @@ public class UnmodifiableConfiguration extends Configuration {
         throw notAllowed();
     }
 
+    @Override
+    public Configuration useStoryCache(StoryCache storyCache) {
+        throw notAllowed();
+    }
+
     @Override
     public Configuration useCompositeParser(CompositeParser compositeParser) {
         throw notAllowed();
@@ -200,6 +217,11 @@ public class UnmodifiableConfiguration extends Configuration {
         throw notAllowed();
     }
 
+    @Override
+    public Configuration useStepMethodInvoker(StepMethodInvoker stepMethodInvoker) {
+        throw notAllowed();
+    }
+
     @Override
     public Configuration useStepMonitor(StepMonitor stepMonitor) {
         throw notAllowed();
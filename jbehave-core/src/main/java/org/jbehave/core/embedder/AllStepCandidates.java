@@ -10,6 +10,7 @@ import org.jbehave.core.annotations.ScenarioType;
 import org.jbehave.core.steps.BeforeOrAfterStep;
 import org.jbehave.core.steps.CandidateSteps;
 import org.jbehave.core.steps.StepCandidate;
+import org.jbehave.core.steps.StepCandidateIndex;
 
 public class AllStepCandidates
 {
@@ -26,6 +27,7 @@ public class AllStepCandidates
     private final Map<ScenarioType, List<BeforeOrAfterStep>> afterScenarioSteps = new EnumMap<>(ScenarioType.class);
 
     private final List<StepCandidate> regularSteps = new ArrayList<>();
+    private final StepCandidateIndex regularStepsIndex;
 
     public AllStepCandidates(List<CandidateSteps> candidateSteps) {
         for (ScenarioType type : ScenarioType.values()) {
@@ -61,6 +63,8 @@ public class AllStepCandidates
 
         beforeScenarioSteps.values().forEach(this::sortBeforeSteps);
         afterScenarioSteps.values().forEach(this::sortAfterSteps);
+
+        regularStepsIndex = new StepCandidateIndex(regularSteps);
     }
 
     private void sortBeforeSteps(List<BeforeOrAfterStep> beforeSteps) {
@@ -99,7 +103,16 @@ public class AllStepCandidates
         return afterScenarioSteps.get(scenarioType);
     }
 
+    /**
+     * Returns the regular steps as a read-only view of their index, which the step collector then reuses
+     *
+     * @return The List of StepCandidate
+     */
     public List<StepCandidate> getRegularSteps() {
-        return regularSteps;
+        return regularStepsIndex.asList();
+    }
+
+    public StepCandidateIndex getRegularStepsIndex() {
+        return regularStepsIndex;
     }
 }
@@ -7,7 +7,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.ThreadPoolExecutor;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.builder.ToStringBuilder;
@@ -18,7 +17,7 @@ import org.jbehave.core.configuration.Configuration;
 import org.jbehave.core.configuration.MostUsefulConfiguration;
 import org.jbehave.core.embedder.MetaFilter.MetaMatcher;
 import org.jbehave.core.embedder.StoryTimeouts.TimeoutParser;
-import org.jbehave.core.embedder.executors.FixedThreadExecutors;
+import org.jbehave.core.embedder.executors.ExecutorServiceFactories;
 import org.jbehave.core.failures.BatchFailures;
 import org.jbehave.core.failures.FailingUponPendingStep;
 import org.jbehave.core.junit.AnnotatedEmbedderRunner;
@@ -395,13 +394,15 @@ public class Embedder {
     }
 
     /**
-     * Creates a {@link ThreadPoolExecutor} using the number of threads defined
+     * Creates an ExecutorService using the executors selected by
+     * {@link EmbedderControls#executors()} and the number of threads defined
      * in the {@link EmbedderControls#threads()}
      * 
      * @return An ExecutorService
      */
     private ExecutorService createExecutorService() {
-        return new FixedThreadExecutors().create(embedderControls());
+        EmbedderControls embedderControls = embedderControls();
+        return ExecutorServiceFactories.forName(embedderControls.executors(), classLoader()).create(embedderControls);
     }
 
     /**
@@ -2,6 +2,7 @@ package org.jbehave.core.embedder;
 
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
+import org.jbehave.core.embedder.executors.ExecutorServiceFactories;
 
 /**
  * Holds values used by the Embedder to control execution flow.
@@ -18,6 +19,8 @@ public class EmbedderControls {
     private String storyTimeouts = "300";
     private int threads = 1;
     private boolean failOnStoryTimeout = false;
+    private boolean scheduleLongestStoriesFirst = false;
+    private String executors = ExecutorServiceFactories.FIXED;
 
     public EmbedderControls() {
     }
@@ -62,6 +65,14 @@ public class EmbedderControls {
        return threads;
     }
 
+    public boolean scheduleLongestStoriesFirst() {
+        return scheduleLongestStoriesFirst;
+    }
+
+    public String executors() {
+        return executors;
+    }
+
     public EmbedderControls doBatch(boolean batch) {
         this.batch = batch;
         return this;
@@ -111,6 +122,32 @@ public class EmbedderControls {
         this.threads = threads;
         return this;
     }
+
+    /**
+     * Submits the stories in descending order of the durations recorded by the previous run, so that the longest
+     * stories do not start last and leave the other threads idle. Stories with no recorded duration are submitted
+     * first, the remaining ties keep the order of the configured story execution comparator.
+     *
+     * @param scheduleLongestStoriesFirst the boolean flag
+     * @return The EmbedderControls
+     */
+    public EmbedderControls doScheduleLongestStoriesFirst(boolean scheduleLongestStoriesFirst) {
+        this.scheduleLongestStoriesFirst = scheduleLongestStoriesFirst;
+        return this;
+    }
+
+    /**
+     * Selects the executor service performing the stories, unless provided to the Embedder: one of the names in
+     * {@link ExecutorServiceFactories}, i.e. "fixed" (the default), "direct", "forkJoin" or "virtual", or the class
+     * name of an {@link org.jbehave.core.embedder.executors.ExecutorServiceFactory} implementation.
+     *
+     * @param executors the name of the executors
+     * @return The EmbedderControls
+     */
+    public EmbedderControls useExecutors(String executors) {
+        this.executors = executors;
+        return this;
+    }
     
     @Override
     public String toString() {
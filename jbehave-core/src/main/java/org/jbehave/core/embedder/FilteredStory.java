@@ -24,7 +24,7 @@ public class FilteredStory {
         Meta storyMeta = story.getMeta().inheritFrom(story.asMeta(storyMetaPrefix));
         storyExcluded = filter.excluded(storyMeta);
         for (Scenario scenario : story.getScenarios()) {
-            if (scenario.getExamplesTable().getRowCount() > 0 && metaByRow(scenario, storyControls)) {
+            if (metaByRow(scenario, storyControls) && scenario.getExamplesTable().getRowCount() > 0) {
                 // allow filtering on meta by row
                 scenariosIncluded.add(scenario);
             } else {
@@ -3,11 +3,26 @@ package org.jbehave.core.embedder;
 import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.builder.ToStringBuilder;
@@ -32,8 +47,10 @@ import org.jbehave.core.model.Meta;
 import org.jbehave.core.model.Scenario;
 import org.jbehave.core.model.Story;
 import org.jbehave.core.model.StoryDuration;
+import org.jbehave.core.model.StreamingExamplesTable;
 import org.jbehave.core.reporters.ConcurrentStoryReporter;
 import org.jbehave.core.reporters.DelegatingStoryReporter;
+import org.jbehave.core.reporters.NullStoryReporter;
 import org.jbehave.core.reporters.StoryReporter;
 import org.jbehave.core.steps.AbstractStepResult;
 import org.jbehave.core.steps.PendingStepMethodGenerator;
@@ -87,6 +104,9 @@ public class PerformableTree {
         boolean storyExcluded = filteredStory.excluded();
 
         performableStory.excluded(storyExcluded);
+        performableStory.parallelScenarios(storyMeta.getOptionalProperty(StoryControls.PARALLEL_SCENARIOS)
+                .map(value -> value.trim().isEmpty() || Boolean.parseBoolean(value.trim()))
+                .orElseGet(() -> context.configuration().storyControls().parallelScenarios()));
 
         if (!storyExcluded) {
 
@@ -173,27 +193,25 @@ public class PerformableTree {
 
             if (isParameterisedByExamples(scenario)) {
                 ExamplesTable table = scenario.getExamplesTable();
-                List<Map<String, String>> tableRows = table.getRows();
-                for (int exampleIndex = 0; exampleIndex < tableRows.size(); exampleIndex++) {
-                    Map<String, String> scenarioParameters = tableRows.get(exampleIndex);
-                    Map<String, String> scenarioParametersCopy = new HashMap<String, String>(storyParameters);
-                    scenarioParametersCopy.putAll(storyExamplesTableRow);
-                    scenarioParametersCopy.putAll(scenarioParameters);
-                    for (Map.Entry<String, String> scenarioParameterEntry : scenarioParametersCopy.entrySet()) {
-                        String value = context.configuration().parameterControls().replaceAllDelimitedNames(
-                                scenarioParameterEntry.getValue(), storyExamplesTableRow);
-                        scenarioParameterEntry.setValue((String) context.configuration().parameterConverters()
-                                 .convert(value, String.class));
-                    }
-                    Map<String, String> parameters = new LinkedHashMap<String, String>(scenarioParametersCopy);
-                    for (Map.Entry<String, String> storyExamplesTableRowEntry: storyExamplesTableRow.entrySet()) {
-                        String key = storyExamplesTableRowEntry.getKey();
-                        if (!parameters.containsKey(key)) {
-                            parameters.put(key, storyExamplesTableRowEntry.getValue());
-                        }
+                if (table.isStreaming()) {
+                    Scenario streamedScenario = scenario;
+                    performableScenario.useExampleScenarios(() -> {
+                        AtomicInteger exampleIndex = new AtomicInteger();
+                        return table.streamRows()
+                                .map(row -> filteredExampleScenario(context, streamedScenario, story,
+                                        storyAndScenarioMeta,
+                                        exampleParameters(context, storyParameters, storyExamplesTableRow, row),
+                                        exampleIndex.getAndIncrement()))
+                                .filter(Objects::nonNull);
+                    });
+                } else {
+                    List<Map<String, String>> tableRows = table.getRows();
+                    for (int exampleIndex = 0; exampleIndex < tableRows.size(); exampleIndex++) {
+                        Map<String, String> parameters = exampleParameters(context, storyParameters,
+                                storyExamplesTableRow, tableRows.get(exampleIndex));
+                        addExampleScenario(context, scenario, performableScenario, story, storyAndScenarioMeta,
+                                parameters, exampleIndex);
                     }
-                    addExampleScenario(context, scenario, performableScenario, story, storyAndScenarioMeta,
-                            parameters, exampleIndex);
                 }
             } else if (!storyExamplesTableRow.isEmpty()) {
                     addExampleScenario(context, scenario, performableScenario, story, storyAndScenarioMeta,
@@ -217,17 +235,45 @@ public class PerformableTree {
         return performableScenario;
     }
 
+    private Map<String, String> exampleParameters(RunContext context, Map<String, String> storyParameters,
+            Map<String, String> storyExamplesTableRow, Map<String, String> scenarioParameters) {
+        Map<String, String> scenarioParametersCopy = new HashMap<String, String>(storyParameters);
+        scenarioParametersCopy.putAll(storyExamplesTableRow);
+        scenarioParametersCopy.putAll(scenarioParameters);
+        for (Map.Entry<String, String> scenarioParameterEntry : scenarioParametersCopy.entrySet()) {
+            String value = context.configuration().parameterControls().replaceAllDelimitedNames(
+                    scenarioParameterEntry.getValue(), storyExamplesTableRow);
+            scenarioParameterEntry.setValue((String) context.configuration().parameterConverters()
+                     .convert(value, String.class));
+        }
+        Map<String, String> parameters = new LinkedHashMap<String, String>(scenarioParametersCopy);
+        for (Map.Entry<String, String> storyExamplesTableRowEntry: storyExamplesTableRow.entrySet()) {
+            String key = storyExamplesTableRowEntry.getKey();
+            if (!parameters.containsKey(key)) {
+                parameters.put(key, storyExamplesTableRowEntry.getValue());
+            }
+        }
+        return parameters;
+    }
+
     private void addExampleScenario(RunContext context, Scenario scenario, PerformableScenario performableScenario,
             Story story, Meta storyAndScenarioMeta, Map<String, String> parameters, int exampleIndex) {
-        Meta exampleScenarioMeta = parameterMeta(context, parameters).inheritFrom(storyAndScenarioMeta);
-
-        if (!context.filter().excluded(exampleScenarioMeta)) {
-            ExamplePerformableScenario exampleScenario = exampleScenario(context, story, scenario,
-                    storyAndScenarioMeta, parameters, exampleIndex);
+        ExamplePerformableScenario exampleScenario = filteredExampleScenario(context, scenario, story,
+                storyAndScenarioMeta, parameters, exampleIndex);
+        if (exampleScenario != null) {
             performableScenario.addExampleScenario(exampleScenario);
         }
     }
 
+    private ExamplePerformableScenario filteredExampleScenario(RunContext context, Scenario scenario, Story story,
+            Meta storyAndScenarioMeta, Map<String, String> parameters, int exampleIndex) {
+        Meta exampleScenarioMeta = parameterMeta(context, parameters).inheritFrom(storyAndScenarioMeta);
+        if (context.filter().excluded(exampleScenarioMeta)) {
+            return null;
+        }
+        return exampleScenario(context, story, scenario, storyAndScenarioMeta, parameters, exampleIndex);
+    }
+
     private NormalPerformableScenario normalScenario(RunContext context, Story story, Scenario scenario,
             Meta storyAndScenarioMeta, Map<String, String> storyParameters) {
         NormalPerformableScenario normalScenario = new NormalPerformableScenario(story, scenario);
@@ -323,7 +369,7 @@ public class PerformableTree {
      */
     public Story storyOfPath(Configuration configuration, String storyPath) {
         String storyAsText = configuration.storyLoader().loadStoryAsText(storyPath);
-        return configuration.storyParser().parseStory(storyAsText, storyPath);
+        return configuration.storyCache().storyOf(storyPath, storyAsText, configuration.storyParser());
     }
 
     /**
@@ -515,9 +561,10 @@ public class PerformableTree {
         private final MetaFilter filter;
         private final BatchFailures failures;
         private final StepsContext stepsContext;
-        private final Map<Story, StoryDuration> cancelledStories = new HashMap<>();
-        private final Map<String, List<PendingStep>> pendingStories = new HashMap<>();
+        private final Map<Story, StoryDuration> cancelledStories = new ConcurrentHashMap<>();
+        private final Map<String, List<PendingStep>> pendingStories = new ConcurrentHashMap<>();
         private final ThreadLocal<StoryRunContext> storyRunContext = ThreadLocal.withInitial(StoryRunContext::new);
+        private ExecutorService executorService;
 
         public RunContext(Configuration configuration, AllStepCandidates allStepCandidates,
                 EmbedderMonitor embedderMonitor, MetaFilter filter, BatchFailures failures) {
@@ -540,6 +587,41 @@ public class PerformableTree {
             return stepsContext;
         }
 
+        /**
+         * Uses the executor service to perform in parallel the scenarios of the stories which enable it
+         *
+         * @param executorService the ExecutorService of the embedder
+         */
+        public void useExecutorService(ExecutorService executorService) {
+            this.executorService = executorService;
+        }
+
+        /**
+         * Scenarios are performed in parallel only if independent of each other, i.e. if the state is reset before
+         * each scenario and scenarios are not skipped after a failure, and if no failure has occurred before them
+         *
+         * @return A boolean
+         */
+        private boolean canPerformScenariosInParallel() {
+            return canPerformInParallel() && !failureOccurred();
+        }
+
+        /**
+         * Examples are performed in parallel if more than one examples thread is configured and the state is reset
+         * before each example, so that each example is performed from a fresh state as when performed in sequence
+         *
+         * @return A boolean
+         */
+        private boolean canPerformExamplesInParallel() {
+            return canPerformInParallel() && configuration.storyControls().examplesThreads() > 1;
+        }
+
+        private boolean canPerformInParallel() {
+            StoryControls storyControls = configuration.storyControls();
+            return executorService != null && !givenStory
+                    && storyControls.resetStateBeforeScenario() && !storyControls.skipScenariosAfterFailure();
+        }
+
         public boolean restartScenario() {
             Throwable cause = failure(state());
             while (cause != null) {
@@ -660,6 +742,7 @@ public class PerformableTree {
             RunContext child = new RunContext(configuration, allStepCandidates, embedderMonitor, filter,
                     failures, true);
             child.currentRunContext().pathIs(configuration.pathCalculator().calculate(path(), givenStory.getPath()));
+            child.useExecutorService(executorService);
             return child;
         }
 
@@ -884,6 +967,7 @@ public class PerformableTree {
         private final transient Keywords keywords;
         private final boolean givenStory;
         private boolean excluded;
+        private boolean parallelScenarios;
         private Status status;
         private Timing timing = new Timing();
         private List<PerformableStory> givenStories = new ArrayList<>();
@@ -905,6 +989,14 @@ public class PerformableTree {
             return excluded;
         }
 
+        public void parallelScenarios(boolean parallelScenarios) {
+            this.parallelScenarios = parallelScenarios;
+        }
+
+        public boolean isParallelScenarios() {
+            return parallelScenarios;
+        }
+
         public Story getStory() {
             return story;
         }
@@ -993,8 +1085,13 @@ public class PerformableTree {
 
         private void performScenarios(RunContext context) throws InterruptedException {
             context.reporter().beforeScenarios();
-            for (PerformableScenario scenario : scenarios) {
-                scenario.perform(context);
+            if (parallelScenarios && scenarios.size() > 1 && context.canPerformScenariosInParallel()) {
+                new ParallelPerformables<>(story, scenarios, scenario -> !scenario.isExcluded(),
+                        StepsContext.Scope::isolated, scenarios.size(), context).perform();
+            } else {
+                for (PerformableScenario scenario : scenarios) {
+                    scenario.perform(context);
+                }
             }
             context.reporter().afterScenarios();
         }
@@ -1008,6 +1105,202 @@ public class PerformableTree {
         }
     }
 
+    /**
+     * Performs in parallel the scenarios of a story, or the examples of a scenario, via the executor service of the
+     * run context, with at most the given number of threads. Each performable has its own state and reporter, and
+     * objects stored in the steps context isolated from the other performables. The current thread performs as well,
+     * so that it never waits for performables queued behind other tasks. Once all are performed, their reported events
+     * are replayed in their order and the state left is the one of the last performed, as if performed one after
+     * another.
+     */
+    private static class ParallelPerformables<T extends Performable> {
+
+        private final Story story;
+        private final List<T> performables;
+        private final Predicate<T> performed;
+        private final UnaryOperator<StepsContext.Scope> isolation;
+        private final int threads;
+        private final RunContext context;
+        private final StoryRunContext storyRunContext;
+        private final StepsContext.Scope scope;
+        private final StoryRunContext[] runContexts;
+        private final ConcurrentStoryReporter[] reporters;
+        private final StepsContext.Scope[] scopes;
+        private final Throwable[] failures;
+        private final AtomicInteger next = new AtomicInteger();
+        private final CountDownLatch done;
+        private final Set<Thread> helperThreads = new HashSet<>();
+        private boolean stopped;
+
+        /**
+         * @param story the story of the performables
+         * @param performables the performables
+         * @param performed whether a performable is actually performed, replacing the state left by the previous one
+         * @param isolation the isolation of the steps context scope for each performable
+         * @param threads the maximum number of threads performing
+         * @param context the run context
+         */
+        ParallelPerformables(Story story, List<T> performables, Predicate<T> performed,
+                UnaryOperator<StepsContext.Scope> isolation, int threads, RunContext context) {
+            this.story = story;
+            this.performables = performables;
+            this.performed = performed;
+            this.isolation = isolation;
+            this.threads = threads;
+            this.context = context;
+            this.storyRunContext = context.currentRunContext();
+            this.scope = context.stepsContext().currentScope();
+            this.runContexts = new StoryRunContext[performables.size()];
+            this.reporters = new ConcurrentStoryReporter[performables.size()];
+            this.scopes = new StepsContext.Scope[performables.size()];
+            this.failures = new Throwable[performables.size()];
+            this.done = new CountDownLatch(performables.size());
+        }
+
+        void perform() throws InterruptedException {
+            List<Future<?>> helpers = new ArrayList<>();
+            try {
+                for (int i = 1; i < Math.min(threads, performables.size()); i++) {
+                    helpers.add(context.executorService.submit(this::help));
+                }
+                performAll();
+                awaitDone();
+            } catch (InterruptedException e) {
+                // no more performables are started, those started by the helpers are interrupted
+                stop();
+                for (Future<?> helper : helpers) {
+                    helper.cancel(true);
+                }
+                throw e;
+            } finally {
+                for (Future<?> helper : helpers) {
+                    helper.cancel(false);
+                }
+            }
+            State state = storyRunContext.state();
+            Throwable failure = null;
+            for (int i = 0; i < performables.size(); i++) {
+                reporters[i].invokeDelayed();
+                // the objects outliving the isolation are stored in the order of the performables
+                try {
+                    scopes[i].mergeIntoParent();
+                } catch (StepsContext.ObjectAlreadyStoredException e) {
+                    if (failures[i] == null) {
+                        failures[i] = e;
+                    }
+                }
+                if (performed.test(performables.get(i))) {
+                    if (context.failed(state)) {
+                        context.addFailure(story, context.failure(state));
+                    }
+                    state = runContexts[i].state();
+                }
+                if (failure == null) {
+                    failure = failures[i];
+                }
+            }
+            storyRunContext.stateIs(state);
+            if (failure instanceof InterruptedException) {
+                throw (InterruptedException) failure;
+            }
+            if (failure != null) {
+                throw failure instanceof RuntimeException ? (RuntimeException) failure
+                        : new UUIDExceptionWrapper(failure);
+            }
+        }
+
+        /**
+         * Waits for the performables claimed by the other threads, letting a {@link ForkJoinPool} compensate for the
+         * waiting thread so that its parallelism is kept
+         */
+        private void awaitDone() throws InterruptedException {
+            ForkJoinPool.managedBlock(new ForkJoinPool.ManagedBlocker() {
+                @Override
+                public boolean block() throws InterruptedException {
+                    done.await();
+                    return true;
+                }
+
+                @Override
+                public boolean isReleasable() {
+                    return done.getCount() == 0;
+                }
+            });
+        }
+
+        /**
+         * Performs the performables claimed by a helper thread, which is interrupted if the performance is stopped,
+         * also by executors whose futures are not interrupted when cancelled, e.g. a {@link ForkJoinPool}
+         */
+        private void help() {
+            Thread thread = Thread.currentThread();
+            synchronized (helperThreads) {
+                if (stopped) {
+                    return;
+                }
+                helperThreads.add(thread);
+            }
+            try {
+                performAll();
+            } finally {
+                synchronized (helperThreads) {
+                    helperThreads.remove(thread);
+                }
+            }
+        }
+
+        private void stop() {
+            next.set(performables.size());
+            synchronized (helperThreads) {
+                stopped = true;
+                for (Thread thread : helperThreads) {
+                    thread.interrupt();
+                }
+            }
+        }
+
+        private void performAll() {
+            int index = next.getAndIncrement();
+            while (index < performables.size()) {
+                try {
+                    perform(index);
+                } finally {
+                    done.countDown();
+                }
+                index = next.getAndIncrement();
+            }
+        }
+
+        private void perform(int index) {
+            StoryRunContext runContext = new StoryRunContext();
+            runContext.pathIs(storyRunContext.path());
+            runContext.resetState();
+            ConcurrentStoryReporter reporter = new ConcurrentStoryReporter(new NullStoryReporter(),
+                    storyRunContext.reporter(), true);
+            runContext.reporterIs(reporter);
+            runContexts[index] = runContext;
+            reporters[index] = reporter;
+
+            StoryRunContext threadRunContext = context.currentRunContext();
+            StepsContext.Scope threadScope = context.stepsContext().currentScope();
+            context.storyRunContext.set(runContext);
+            scopes[index] = isolation.apply(scope);
+            context.stepsContext().useScope(scopes[index]);
+            try {
+                performables.get(index).perform(context);
+            } catch (Throwable e) {
+                failures[index] = e;
+            } finally {
+                context.storyRunContext.set(threadRunContext);
+                context.stepsContext().useScope(threadScope);
+            }
+            if (failures[index] instanceof InterruptedException || context.isCancelled(story)) {
+                // the story timed out while performing, e.g. in a step interrupted without stopping its scenario
+                stop();
+            }
+        }
+    }
+
     public static class PerformableScenario implements Performable {
 
         private final Scenario scenario;
@@ -1018,6 +1311,9 @@ public class PerformableTree {
         private Timing timing = new Timing();
         private NormalPerformableScenario normalScenario;
         private List<ExamplePerformableScenario> exampleScenarios;
+        private Supplier<Stream<ExamplePerformableScenario>> streamedExampleScenarios;
+        private Boolean hasStreamedExamples;
+        private final FailureContext streamedFailures = new FailureContext();
 
         public PerformableScenario(Scenario scenario, String storyPath) {
             this.scenario = scenario;
@@ -1035,6 +1331,16 @@ public class PerformableTree {
             exampleScenarios.add(exampleScenario);
         }
 
+        /**
+         * Uses example scenarios which are created one at a time while the scenario is performed, from the rows of
+         * a streaming examples table, instead of the example scenarios added upfront
+         *
+         * @param exampleScenarios the supplier of the Stream of example scenarios
+         */
+        public void useExampleScenarios(Supplier<Stream<ExamplePerformableScenario>> exampleScenarios) {
+            this.streamedExampleScenarios = exampleScenarios;
+        }
+
         public void excluded(boolean excluded) {
             this.excluded = excluded;
         }
@@ -1073,7 +1379,20 @@ public class PerformableTree {
             return normalScenario != null;
         }
 
+        /**
+         * For a scenario whose examples are streamed, the rows are read until the first one not filtered out, once.
+         *
+         * @return Whether the scenario has example scenarios
+         */
         public boolean hasExamples() {
+            if (streamedExampleScenarios != null) {
+                if (hasStreamedExamples == null) {
+                    try (Stream<ExamplePerformableScenario> examples = streamedExampleScenarios.get()) {
+                        hasStreamedExamples = examples.findAny().isPresent();
+                    }
+                }
+                return hasStreamedExamples;
+            }
             return exampleScenarios != null && exampleScenarios.size() > 0;
         }
 
@@ -1081,10 +1400,35 @@ public class PerformableTree {
             return hasNormalScenario() || hasExamples() || isExcluded();
         }
 
+        /**
+         * Returns the example scenarios. For a scenario whose examples are streamed, they are created anew from the
+         * rows of the table and all held in memory: they are not the example scenarios performed and carry no
+         * results. Use {@link #streamExamples()} to go through them one at a time.
+         *
+         * @return The List of example scenarios
+         */
         public List<ExamplePerformableScenario> getExamples() {
+            if (streamedExampleScenarios != null) {
+                try (Stream<ExamplePerformableScenario> examples = streamedExampleScenarios.get()) {
+                    return examples.collect(Collectors.toList());
+                }
+            }
             return exampleScenarios;
         }
 
+        /**
+         * Streams the example scenarios, created one at a time from the rows of the table for a scenario whose
+         * examples are streamed. The Stream must be closed once consumed.
+         *
+         * @return The Stream of example scenarios
+         */
+        public Stream<ExamplePerformableScenario> streamExamples() {
+            if (streamedExampleScenarios != null) {
+                return streamedExampleScenarios.get();
+            }
+            return exampleScenarios != null ? exampleScenarios.stream() : Stream.empty();
+        }
+
         @Override
         public void perform(RunContext context) throws InterruptedException {
             if (isExcluded()) {
@@ -1097,10 +1441,19 @@ public class PerformableTree {
                 context.reporter().beforeScenario(scenario);
                 State state = context.state();
                 if (hasExamples()) {
-                    context.reporter().beforeExamples(scenario.getSteps(),
-                            scenario.getExamplesTable());
-                    for (ExamplePerformableScenario exampleScenario : exampleScenarios) {
-                        exampleScenario.perform(context);
+                    context.reporter().beforeExamples(scenario.getSteps(), reportedExamplesTable());
+                    if (streamedExampleScenarios != null) {
+                        performStreamedExamples(context);
+                    } else if (exampleScenarios.size() > 1 && context.canPerformExamplesInParallel()) {
+                        new ParallelPerformables<>(((AbstractPerformableScenario) exampleScenarios.get(0)).story,
+                                exampleScenarios,
+                                exampleScenario -> !exampleScenario.isExcluded(context),
+                                StepsContext.Scope::isolatedExample,
+                                context.configuration().storyControls().examplesThreads(), context).perform();
+                    } else {
+                        for (ExamplePerformableScenario exampleScenario : exampleScenarios) {
+                            exampleScenario.perform(context);
+                        }
                     }
                     context.reporter().afterExamples();
                 } else {
@@ -1114,9 +1467,32 @@ public class PerformableTree {
             }
         }
 
+        private ExamplesTable reportedExamplesTable() {
+            ExamplesTable table = scenario.getExamplesTable();
+            // the streamed rows are reported one example at a time, not read whole for the table
+            if (streamedExampleScenarios != null && table instanceof StreamingExamplesTable) {
+                return ((StreamingExamplesTable) table).withoutRows();
+            }
+            return table;
+        }
+
+        private void performStreamedExamples(RunContext context) throws InterruptedException {
+            try (Stream<ExamplePerformableScenario> examples = streamedExampleScenarios.get()) {
+                Iterator<ExamplePerformableScenario> iterator = examples.iterator();
+                while (iterator.hasNext()) {
+                    ExamplePerformableScenario exampleScenario = iterator.next();
+                    exampleScenario.perform(context);
+                    // only the failures are kept once performed
+                    exampleScenario.reportFailures(streamedFailures);
+                }
+            }
+        }
+
         @Override
         public void reportFailures(FailureContext context) {
-            if (hasExamples()) {
+            if (streamedExampleScenarios != null) {
+                streamedFailures.getFailures().forEach(context::addFailure);
+            } else if (hasExamples()) {
                 for (ExamplePerformableScenario exampleScenario : exampleScenarios) {
                     exampleScenario.reportFailures(context);
                 }
@@ -1265,8 +1641,7 @@ public class PerformableTree {
 
         @Override
         public void perform(RunContext context) throws InterruptedException {
-            Meta parameterMeta = parameterMeta(context.configuration().keywords(), parameters).inheritFrom(getStoryAndScenarioMeta());
-            if (parameterMeta.isEmpty() || !context.filter().excluded(parameterMeta)) {
+            if (!isExcluded(context)) {
                 resetStateIfConfigured(context);
                 context.stepsContext().resetExample();
                 context.reporter().example(parameters, exampleIndex);
@@ -1274,6 +1649,18 @@ public class PerformableTree {
             }
         }
 
+        /**
+         * Returns whether the example is excluded by the filter of the context, according to its meta parameter
+         *
+         * @param context the RunContext
+         * @return A boolean
+         */
+        public boolean isExcluded(RunContext context) {
+            Meta parameterMeta = parameterMeta(context.configuration().keywords(), parameters)
+                    .inheritFrom(getStoryAndScenarioMeta());
+            return !parameterMeta.isEmpty() && context.filter().excluded(parameterMeta);
+        }
+
         private Meta parameterMeta(Keywords keywords, Map<String, String> parameters) {
             String meta = keywords.meta();
             if (parameters.containsKey(meta)) {
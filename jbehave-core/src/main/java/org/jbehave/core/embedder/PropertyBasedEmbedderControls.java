@@ -17,6 +17,8 @@ public class PropertyBasedEmbedderControls extends EmbedderControls {
     public static final String STORY_TIMEOUT_IN_SECS_BY_PATH = "STORY_TIMEOUT_IN_SECS_BY_PATH";
     public static final String FAIL_ON_STORY_TIMEOUT = "FAIL_ON_STORY_TIMEOUT";
     public static final String THREADS = "THREADS";
+    public static final String SCHEDULE_LONGEST_STORIES_FIRST = "SCHEDULE_LONGEST_STORIES_FIRST";
+    public static final String EXECUTORS = "EXECUTORS";
 
     @Override
     public boolean batch() {
@@ -67,6 +69,16 @@ public class PropertyBasedEmbedderControls extends EmbedderControls {
     public int threads() {
         return propertyAs(THREADS, Integer.class, super.threads()); 
     }
+
+    @Override
+    public boolean scheduleLongestStoriesFirst() {
+        return propertyAs(SCHEDULE_LONGEST_STORIES_FIRST, Boolean.class, super.scheduleLongestStoriesFirst());
+    }
+
+    @Override
+    public String executors() {
+        return propertyAs(EXECUTORS, String.class, super.executors());
+    }
    
     @SuppressWarnings("unchecked")
     private <T> T propertyAs(String name, Class<T> type, T defaultValue) {
@@ -103,6 +115,8 @@ public class PropertyBasedEmbedderControls extends EmbedderControls {
         .append("verboseFiltering", verboseFiltering())
         .append("storyTimeouts", storyTimeouts())
         .append("threads", threads())
+        .append("scheduleLongestStoriesFirst", scheduleLongestStoriesFirst())
+        .append("executors", executors())
         .toString();        
     }
 
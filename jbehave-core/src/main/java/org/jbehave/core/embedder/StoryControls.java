@@ -8,6 +8,8 @@ import org.apache.commons.lang3.builder.ToStringStyle;
  */
 public class StoryControls {
 
+    public static final String PARALLEL_SCENARIOS = "parallelScenarios";
+
     private boolean dryRun = false;
     private boolean resetStateBeforeStory = true;
     private boolean resetStateBeforeScenario = true;
@@ -18,6 +20,8 @@ public class StoryControls {
     private String storyMetaPrefix = "";
     private String scenarioMetaPrefix = "";
     private boolean skipStoryIfGivenStoryFailed = false;
+    private boolean parallelScenarios = false;
+    private int examplesThreads = 1;
     private final ThreadLocal<StoryControls> currentStoryControls = ThreadLocal
             .withInitial(() -> new StoryControls(this));
 
@@ -32,6 +36,8 @@ public class StoryControls {
         storyMetaPrefix = storyControls.storyMetaPrefix;
         scenarioMetaPrefix = storyControls.scenarioMetaPrefix;
         skipStoryIfGivenStoryFailed = storyControls.skipStoryIfGivenStoryFailed;
+        parallelScenarios = storyControls.parallelScenarios;
+        examplesThreads = storyControls.examplesThreads;
         // should not be used
         currentStoryControls.set(null);
     }
@@ -87,6 +93,33 @@ public class StoryControls {
         return currentStoryControls().skipStoryIfGivenStoryFailed;
     }
 
+    /**
+     * Whether the scenarios of the stories are performed in parallel, via the executor service of the embedder.
+     * Scenarios can also be performed in parallel, or not, for a single story, using the meta property
+     * {@link #PARALLEL_SCENARIOS}, with no value or <code>true</code>, or with <code>false</code>. The objects stored in the steps context with the story retention level by a
+     * scenario performed in parallel are not seen by the other scenarios performed in parallel: they are kept for the
+     * rest of the story once all the scenarios are performed, in the order of the scenarios, the story failing if
+     * several scenarios store objects under the same key.
+     *
+     * @return A boolean, <code>false</code> by default
+     */
+    public boolean parallelScenarios() {
+        return currentStoryControls().parallelScenarios;
+    }
+
+    /**
+     * The maximum number of threads performing in parallel the examples of a scenario, via the executor service of
+     * the embedder. The examples are performed in sequence if only one thread is used. The objects stored in the
+     * steps context with the scenario or story retention level by an example performed in parallel are not seen by
+     * the other examples: they are kept once all the examples are performed, in the order of the examples, the
+     * story failing if several examples store objects under the same key.
+     *
+     * @return The number of threads, 1 by default
+     */
+    public int examplesThreads() {
+        return currentStoryControls().examplesThreads;
+    }
+
     public StoryControls doDryRun(boolean dryRun) {
         this.dryRun = dryRun;
         return this;
@@ -138,6 +171,16 @@ public class StoryControls {
         return this;
     }
 
+    public StoryControls doParallelScenarios(boolean parallelScenarios) {
+        this.parallelScenarios = parallelScenarios;
+        return this;
+    }
+
+    public StoryControls useExamplesThreads(int examplesThreads) {
+        this.examplesThreads = examplesThreads;
+        return this;
+    }
+
     @Override
     public String toString() {
         return ToStringBuilder.reflectionToString(this, ToStringStyle.SHORT_PREFIX_STYLE);
@@ -0,0 +1,57 @@
+package org.jbehave.core.embedder;
+
+import static java.util.Arrays.asList;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.jbehave.core.model.Story;
+
+/**
+ * Orders stories longest processing time first, using the story durations in millis recorded by a previous run, as
+ * written by {@link StoryManager} in the <code>storyDurations.props</code> file. Submitting the longest stories first
+ * keeps the threads busy until the end of the run, instead of leaving them idle while the last submitted long story
+ * completes. Stories with no recorded duration, e.g. new ones, are ordered first as they may be the longest. Stories
+ * with equal durations are ordered by the fallback comparator.
+ */
+public class StoryDurationsComparator implements Comparator<Story> {
+
+    private static final List<String> SUMMARY_KEYS = asList("total", "threads", "threadAverage");
+
+    private final Map<String, Long> durations = new HashMap<>();
+    private final Comparator<Story> fallback;
+
+    public StoryDurationsComparator(Properties storyDurations, Comparator<Story> fallback) {
+        this.fallback = fallback;
+        for (String path : storyDurations.stringPropertyNames()) {
+            if (!SUMMARY_KEYS.contains(path)) {
+                try {
+                    durations.put(path, Long.valueOf(storyDurations.getProperty(path).trim()));
+                } catch (NumberFormatException e) {
+                    // ignore unparseable duration, the story is ordered as unknown
+                }
+            }
+        }
+    }
+
+    @Override
+    public int compare(Story story, Story other) {
+        int comparison = Long.compare(durationOf(other), durationOf(story));
+        return comparison != 0 ? comparison : fallback.compare(story, other);
+    }
+
+    private long durationOf(Story story) {
+        Long duration = durations.get(story.getPath());
+        return duration != null ? duration : Long.MAX_VALUE;
+    }
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.reflectionToString(this, ToStringStyle.SHORT_PREFIX_STYLE);
+    }
+}
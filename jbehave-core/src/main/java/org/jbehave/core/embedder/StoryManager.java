@@ -1,19 +1,28 @@
 package org.jbehave.core.embedder;
 
 import java.io.File;
+import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Reader;
 import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.jbehave.core.configuration.Configuration;
 import org.jbehave.core.embedder.PerformableTree.PerformableRoot;
@@ -32,6 +41,8 @@ import org.jbehave.core.steps.StepCollector.Stage;
  */
 public class StoryManager {
 
+    public static final String STORY_DURATIONS = "storyDurations.props";
+
     private final Configuration configuration;
     private final EmbedderControls embedderControls;
     private final EmbedderMonitor embedderMonitor;
@@ -39,7 +50,10 @@ public class StoryManager {
     private final InjectableStepsFactory stepsFactory;
     private final PerformableTree performableTree;
     private final Map<String, RunningStory> runningStories = new HashMap<>();
+    private int pendingStories;
     private final Map<MetaFilter, List<Story>> excludedStories = new HashMap<>();
+    private final BlockingQueue<StoryEvent> storyEvents = new LinkedBlockingQueue<>();
+    private ScheduledExecutorService deadlines;
     private RunContext context;
     private StoryTimeouts timeouts;
     
@@ -61,20 +75,64 @@ public class StoryManager {
         return performableTree.storyOfPath(configuration, storyPath);
     }
 
+    /**
+     * Returns the parsed stories of the given paths, in the same order. If more than one thread is used, the stories
+     * are loaded and parsed concurrently via the {@link ExecutorService}, before any of them is run. The failure to
+     * load or parse any story is thrown as is, for the first such story in the order of the paths.
+     *
+     * @param storyPaths the story paths
+     * @return The parsed Stories, split by their examples if parallel story examples are enabled
+     */
     public List<Story> storiesOfPaths(List<String> storyPaths) {
-        List<Story> stories = new ArrayList<>(storyPaths.size());
-        for (String storyPath : storyPaths) {
-            stories.add(storyOfPath(storyPath));
+        List<Story> stories;
+        if (embedderControls.threads() > 1 && storyPaths.size() > 1) {
+            stories = storiesOfPathsInParallel(storyPaths);
+        } else {
+            stories = new ArrayList<>(storyPaths.size());
+            for (String storyPath : storyPaths) {
+                stories.add(storyOfPath(storyPath));
+            }
         }
         return configuration.isParallelStoryExamplesEnabled() ? StorySplitter.splitStories(stories) : stories;
     }
 
+    private List<Story> storiesOfPathsInParallel(List<String> storyPaths) {
+        List<Future<Story>> futures = new ArrayList<>(storyPaths.size());
+        try {
+            for (String storyPath : storyPaths) {
+                futures.add(executorService.submit(() -> storyOfPath(storyPath)));
+            }
+            List<Story> stories = new ArrayList<>(storyPaths.size());
+            for (Future<Story> future : futures) {
+                stories.add(future.get());
+            }
+            return stories;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new StoriesLoadingFailed(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StoriesLoadingFailed(e);
+        } finally {
+            for (Future<Story> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
     public Story storyOfText(String storyAsText, String storyId) {
         return performableTree.storyOfText(configuration, storyAsText, storyId);
     }
 
     public void clear() {
         runningStories.clear();
+        pendingStories = 0;
     }
 
     public PerformableRoot performableRoot() {
@@ -99,6 +157,7 @@ public class StoryManager {
         // create new run context
         AllStepCandidates allStepCandidates = new AllStepCandidates(stepsFactory.createCandidateSteps());
         context = performableTree.newRunContext(configuration, allStepCandidates, embedderMonitor, filter, failures);
+        context.useExecutorService(executorService);
 
         // add stories
         performableTree.addStories(context, stories);
@@ -132,15 +191,26 @@ public class StoryManager {
 
     private void runStories(RunContext context, List<Story> stories) {
         stories.stream()
-               .sorted(configuration.storyExecutionComparator())
+               .sorted(storyExecutionComparator())
                .forEach(story -> filterRunning(context, story));
     }
 
+    private Comparator<Story> storyExecutionComparator() {
+        if (embedderControls.scheduleLongestStoriesFirst()) {
+            return new StoryDurationsComparator(read(STORY_DURATIONS), configuration.storyExecutionComparator());
+        }
+        return configuration.storyExecutionComparator();
+    }
+
     private void filterRunning(RunContext context, Story story) {
         if (context.filter(story).excluded()) {
             excludedBy(context.getFilter()).add(story);
         } else {
-            runningStories.put(story.getPath(), runningStory(story));
+            RunningStory replaced = runningStories.put(story.getPath(), runningStory(story));
+            // the events of a replaced story are no longer handled
+            if (replaced == null || replaced.completed) {
+                pendingStories++;
+            }
         }
     }
 
@@ -158,65 +228,133 @@ public class StoryManager {
                 embedderControls, embedderMonitor, story, timeouts));
     }
 
+    /**
+     * Waits until all the running stories are done, handling the events of the stories as they occur rather than
+     * polling them: the start of a story, which schedules its deadline, the deadline of a story, which cancels the
+     * story if it has timed out, and the completion of a story, which adds its failure if any to the context.
+     *
+     * @param context the RunContext
+     */
     public void waitUntilAllDoneOrFailed(RunContext context) {
         if (runningStories.values().isEmpty()) {
             return;
         }
-        boolean allDone = false;
-        boolean started = false;
-        while (!allDone || !started) {
-            allDone = true;
-            for (RunningStory runningStory : runningStories.values()) {
-                if (runningStory.isStarted()) {
-                    started = true;
-                    Story story = runningStory.getStory();
-                    Future<ThrowableStory> future = runningStory.getFuture();
-                    if (!future.isDone()) {
-                        allDone = false;
-                        StoryDuration duration = runningStory.getDuration();
-                        runningStory.updateDuration();
-                        if (context.isCancelled(story)) {
-                            if (duration.cancelTimedOut()) {
-                                future.cancel(true);
-                            }
-                            continue;
-                        }
-                        if (duration.timedOut()) {
-                            embedderMonitor.storyTimeout(story, duration);
-                            context.cancelStory(story, duration);
-                            if (embedderControls.failOnStoryTimeout()) {
-                                throw new StoryExecutionFailed(story.getPath(),
-                                        new StoryTimedOut(duration));
-                            }
-                            continue;
-                        }
-                    } else {
-                        try {
-                            ThrowableStory throwableStory = future.get();
-                            Throwable throwable = throwableStory.getThrowable();
-                            if (throwable != null) {
-                                context.addFailure(story, throwable);
-                                if (!embedderControls.ignoreFailureInStories()) {
-                                    continue;
-                                }
-                            }
-                        } catch (Throwable e) {
-                            context.addFailure(story, e);
-                            if (!embedderControls.ignoreFailureInStories()) {
-                                continue;
-                            }
-                        }
-                    }
-                } else {
-                    started = false;
-                    allDone = false;
+        boolean interrupted = false;
+        try {
+            while (pendingStories > 0) {
+                StoryEvent event;
+                try {
+                    event = storyEvents.take();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                    continue;
                 }
+                RunningStory runningStory = event.getRunningStory();
+                if (runningStories.get(runningStory.getStory().getPath()) != runningStory) {
+                    // event of a story no longer managed
+                    continue;
+                }
+                switch (event.getType()) {
+                    case STARTED:
+                        storyStarted(runningStory);
+                        break;
+                    case DEADLINE:
+                        storyDeadline(context, runningStory);
+                        break;
+                    default:
+                        storyDone(context, runningStory);
+                        break;
+                }
+            }
+        } finally {
+            shutdownDeadlines();
+            if (interrupted) {
+                Thread.currentThread().interrupt();
             }
-            tickTock();
         }
         writeStoryDurations(runningStories.values());
     }
 
+    private void storyStarted(RunningStory runningStory) {
+        StoryDuration duration = runningStory.getDuration();
+        if (duration.getTimeoutInSecs() != 0) {
+            scheduleDeadline(runningStory, duration.getTimeoutInSecs());
+        }
+    }
+
+    private void storyDone(RunContext context, RunningStory runningStory) {
+        if (runningStory.completed) {
+            return;
+        }
+        runningStory.completed = true;
+        pendingStories--;
+        if (runningStory.isStarted()) {
+            runningStory.updateDuration();
+        }
+        Story story = runningStory.getStory();
+        try {
+            ThrowableStory throwableStory = runningStory.getFuture().get();
+            Throwable throwable = throwableStory.getThrowable();
+            if (throwable != null) {
+                context.addFailure(story, throwable);
+            }
+        } catch (Throwable e) {
+            context.addFailure(story, e);
+        }
+    }
+
+    private void storyDeadline(RunContext context, RunningStory runningStory) {
+        Future<ThrowableStory> future = runningStory.getFuture();
+        if (future.isDone()) {
+            return;
+        }
+        Story story = runningStory.getStory();
+        StoryDuration duration = runningStory.getDuration();
+        runningStory.updateDuration();
+        if (context.isCancelled(story)) {
+            if (duration.cancelTimedOut()) {
+                future.cancel(true);
+            } else {
+                scheduleDeadline(runningStory, duration.getTimeoutInSecs() + duration.getCancelTimeoutInSecs());
+            }
+            return;
+        }
+        if (duration.timedOut()) {
+            embedderMonitor.storyTimeout(story, duration);
+            context.cancelStory(story, duration);
+            if (embedderControls.failOnStoryTimeout()) {
+                throw new StoryExecutionFailed(story.getPath(), new StoryTimedOut(duration));
+            }
+            scheduleDeadline(runningStory, duration.getTimeoutInSecs() + duration.getCancelTimeoutInSecs());
+        } else {
+            scheduleDeadline(runningStory, duration.getTimeoutInSecs());
+        }
+    }
+
+    /**
+     * Schedules the deadline of a story, as the time elapsed since its start after which its duration exceeds the
+     * given number of seconds, as measured by {@link StoryDuration}
+     */
+    private synchronized void scheduleDeadline(RunningStory runningStory, long timeoutInSecs) {
+        if (deadlines == null) {
+            deadlines = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "jbehave-story-deadlines");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        long delay = runningStory.enqueuedStory.getStartedAtMillis() + (timeoutInSecs + 1) * 1000 - System.currentTimeMillis();
+        deadlines.schedule(() -> storyEvents.add(new StoryEvent(runningStory, StoryEventType.DEADLINE)), Math.max(delay, 0),
+                TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void shutdownDeadlines() {
+        if (deadlines != null) {
+            deadlines.shutdownNow();
+            deadlines = null;
+        }
+    }
+
     protected void writeStoryDurations(Collection<RunningStory> runningStories) {
         // collect story durations and cancel any outstanding execution which is
         // not done before returning
@@ -238,7 +376,20 @@ public class StoryManager {
         storyDurations.setProperty("threads", Long.toString(threads));
         storyDurations.setProperty("threadAverage",
                 Long.toString(threadAverage));
-        write(storyDurations, "storyDurations.props");
+        write(storyDurations, STORY_DURATIONS);
+    }
+
+    private Properties read(String name) {
+        Properties p = new Properties();
+        File file = new File(configuration.storyReporterBuilder().outputDirectory(), name);
+        if (file.exists()) {
+            try (Reader input = new FileReader(file)) {
+                p.load(input);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+        return p;
     }
 
     private void write(Properties p, String name) {
@@ -254,15 +405,53 @@ public class StoryManager {
         }
     }
 
-    private void tickTock() {
-        try {
-            Thread.sleep(100);
-        } catch (InterruptedException e) {
+    private synchronized RunningStory submit(EnqueuedStory enqueuedStory) {
+        StoryTask task = new StoryTask(enqueuedStory);
+        RunningStory runningStory = new RunningStory(enqueuedStory, task);
+        task.runningStory = runningStory;
+        enqueuedStory.onStart(() -> storyEvents.add(new StoryEvent(runningStory, StoryEventType.STARTED)));
+        executorService.execute(task);
+        return runningStory;
+    }
+
+    /**
+     * Task of a story notifying its completion, whether performed, failed or cancelled
+     */
+    private class StoryTask extends FutureTask<ThrowableStory> {
+
+        private RunningStory runningStory;
+
+        StoryTask(EnqueuedStory enqueuedStory) {
+            super(enqueuedStory);
+        }
+
+        @Override
+        protected void done() {
+            storyEvents.add(new StoryEvent(runningStory, StoryEventType.DONE));
         }
     }
 
-    private synchronized RunningStory submit(EnqueuedStory enqueuedStory) {
-        return new RunningStory(enqueuedStory, executorService.submit(enqueuedStory));
+    private enum StoryEventType {
+        STARTED, DEADLINE, DONE
+    }
+
+    private static class StoryEvent {
+
+        private final RunningStory runningStory;
+        private final StoryEventType type;
+
+        StoryEvent(RunningStory runningStory, StoryEventType type) {
+            this.runningStory = runningStory;
+            this.type = type;
+        }
+
+        RunningStory getRunningStory() {
+            return runningStory;
+        }
+
+        StoryEventType getType() {
+            return type;
+        }
     }
 
     static class EnqueuedStory implements Callable<ThrowableStory> {
@@ -273,7 +462,8 @@ public class StoryManager {
         private final EmbedderMonitor embedderMonitor;
         private final Story story;
         private final StoryTimeouts timeouts;
-        private long startedAtMillis;
+        private volatile long startedAtMillis;
+        private Runnable startListener;
 
         public EnqueuedStory(PerformableTree performableTree,
                 RunContext context, EmbedderControls embedderControls,
@@ -289,6 +479,9 @@ public class StoryManager {
         @Override
         public ThrowableStory call() {
             startedAtMillis = System.currentTimeMillis();
+            if (startListener != null) {
+                startListener.run();
+            }
             String storyPath = story.getPath();
             try {
                 embedderMonitor.runningStory(storyPath);
@@ -304,6 +497,10 @@ public class StoryManager {
             return new ThrowableStory(story, null);
         }
 
+        void onStart(Runnable startListener) {
+            this.startListener = startListener;
+        }
+
         public Story getStory() {
             return story;
         }
@@ -327,6 +524,15 @@ public class StoryManager {
 
     }
 
+    @SuppressWarnings("serial")
+    public static class StoriesLoadingFailed extends RuntimeException {
+
+        public StoriesLoadingFailed(Throwable cause) {
+            super(cause);
+        }
+
+    }
+
     @SuppressWarnings("serial")
     public static class StoryTimedOut extends RuntimeException {
 
@@ -359,6 +565,7 @@ public class StoryManager {
         private EnqueuedStory enqueuedStory;
         private Future<ThrowableStory> future;
         private StoryDuration duration;
+        private boolean completed;
 
         public RunningStory(EnqueuedStory enqueuedStory,
                 Future<ThrowableStory> future) {
@@ -378,7 +585,7 @@ public class StoryManager {
             if (duration == null) {
                 return 0;
             }
-            return duration.getDurationInSecs() * 1000;
+            return duration.getDurationInMillis();
         }
 
         public StoryDuration getDuration() {
@@ -389,7 +596,7 @@ public class StoryManager {
         }
 
         public void updateDuration() {
-            duration.update();
+            getDuration().update();
         }
 
         public boolean isDone() {
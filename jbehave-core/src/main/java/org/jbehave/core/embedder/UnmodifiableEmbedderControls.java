@@ -61,6 +61,16 @@ public class UnmodifiableEmbedderControls extends EmbedderControls {
         return delegate.threads();
     }
 
+    @Override
+    public boolean scheduleLongestStoriesFirst() {
+        return delegate.scheduleLongestStoriesFirst();
+    }
+
+    @Override
+    public String executors() {
+        return delegate.executors();
+    }
+
     @Override
     public EmbedderControls doBatch(boolean batch) {
         throw notAllowed();
@@ -101,6 +111,16 @@ public class UnmodifiableEmbedderControls extends EmbedderControls {
         throw notAllowed();
     }
 
+    @Override
+    public EmbedderControls doScheduleLongestStoriesFirst(boolean scheduleLongestStoriesFirst) {
+        throw notAllowed();
+    }
+
+    @Override
+    public EmbedderControls useExecutors(String executors) {
+        throw notAllowed();
+    }
+
     private RuntimeException notAllowed() {
         return new ModificationNotAllowed();
     }
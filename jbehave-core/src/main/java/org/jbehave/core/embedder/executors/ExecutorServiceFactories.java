@@ -0,0 +1,35 @@
+package org.jbehave.core.embedder.executors;
+
+import org.jbehave.core.embedder.EmbedderClassLoader;
+
+/**
+ * Resolves the {@link ExecutorServiceFactory} selected by name, as set in
+ * {@link org.jbehave.core.embedder.EmbedderControls#executors()}: either one of the names of the factories provided
+ * or the class name of any other implementation.
+ */
+public class ExecutorServiceFactories {
+
+    public static final String FIXED = "fixed";
+    public static final String DIRECT = "direct";
+    public static final String FORK_JOIN = "forkJoin";
+    public static final String VIRTUAL = "virtual";
+
+    private ExecutorServiceFactories() {
+    }
+
+    public static ExecutorServiceFactory forName(String name, EmbedderClassLoader classLoader) {
+        switch (name) {
+            case FIXED:
+                return new FixedThreadExecutors();
+            case DIRECT:
+                return new DirectExecutorService();
+            case FORK_JOIN:
+                return new ForkJoinExecutors();
+            case VIRTUAL:
+                return new VirtualThreadExecutors();
+            default:
+                return classLoader.newInstance(ExecutorServiceFactory.class, name);
+        }
+    }
+
+}
@@ -0,0 +1,20 @@
+package org.jbehave.core.embedder.executors;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+
+import org.jbehave.core.embedder.EmbedderControls;
+
+/**
+ * Creates instances of work-stealing {@link ForkJoinPool} with the parallelism of {@link EmbedderControls#threads()}.
+ * Stories waiting for their scenarios or example rows performed in parallel let the pool compensate with spare
+ * threads, so that nested tasks never starve for a thread.
+ */
+public class ForkJoinExecutors implements ExecutorServiceFactory {
+
+    @Override
+    public ExecutorService create(EmbedderControls controls) {
+        return new ForkJoinPool(controls.threads(), ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, true);
+    }
+
+}
@@ -0,0 +1,47 @@
+package org.jbehave.core.embedder.executors;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import org.jbehave.core.embedder.EmbedderControls;
+
+/**
+ * Creates instances of {@link Executors#newFixedThreadPool(int, ThreadFactory)} performing each story in a virtual
+ * thread, with at most {@link EmbedderControls#threads()} stories at a time. As virtual threads are cheap and release
+ * their carrier thread while blocked, the number of threads can be set to thousands for stories mostly waiting on I/O.
+ * Virtual threads require Java 21 or later and are looked up reflectively, so that the Java 8 baseline is kept.
+ */
+public class VirtualThreadExecutors implements ExecutorServiceFactory {
+
+    @Override
+    public ExecutorService create(EmbedderControls controls) {
+        return Executors.newFixedThreadPool(controls.threads(), virtualThreadFactory());
+    }
+
+    private ThreadFactory virtualThreadFactory() {
+        try {
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Method name = builderType.getMethod("name", String.class, long.class);
+            builder = name.invoke(builder, "jbehave-virtual-", 0L);
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        } catch (InvocationTargetException e) {
+            throw new VirtualThreadsNotSupported(e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new VirtualThreadsNotSupported(e);
+        }
+    }
+
+    @SuppressWarnings("serial")
+    public static class VirtualThreadsNotSupported extends RuntimeException {
+
+        public VirtualThreadsNotSupported(Throwable cause) {
+            super("Virtual threads require Java 21 or later, running Java " + System.getProperty("java.version"),
+                    cause);
+        }
+    }
+
+}
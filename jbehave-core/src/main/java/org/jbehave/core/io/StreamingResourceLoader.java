@@ -0,0 +1,18 @@
+package org.jbehave.core.io;
+
+import java.io.Reader;
+
+/**
+ * ResourceLoader which can also read a resource as a stream of characters, without loading it as text first
+ */
+public interface StreamingResourceLoader extends ResourceLoader {
+
+    /**
+     * Opens the resource for reading, the caller being responsible for closing the Reader
+     *
+     * @param resourcePath the resource path
+     * @return The Reader of the resource
+     */
+    Reader loadResourceAsReader(String resourcePath);
+
+}
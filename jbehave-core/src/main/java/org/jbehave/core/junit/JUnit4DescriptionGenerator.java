@@ -2,9 +2,11 @@ package org.jbehave.core.junit;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import org.jbehave.core.annotations.AfterScenario.Outcome;
 import org.jbehave.core.annotations.ScenarioType;
@@ -158,14 +160,18 @@ public class JUnit4DescriptionGenerator {
     private void insertDescriptionForExamples(Lifecycle lifecycle, PerformableScenario performableScenario,
             Description scenarioDescription) {
         Scenario scenario = performableScenario.getScenario();
-        for (ExamplePerformableScenario examplePerformableScenario : performableScenario.getExamples()) {
-            Description exampleRowDescription = Description.createSuiteDescription(
-                    configuration.keywords().examplesTableRow() + " " + examplePerformableScenario.getParameters());
-            scenarioDescription.addChild(exampleRowDescription);
-            if (hasGivenStories(scenario)) {
-                insertGivenStories(scenario, exampleRowDescription);
+        try (Stream<ExamplePerformableScenario> examples = performableScenario.streamExamples()) {
+            Iterator<ExamplePerformableScenario> iterator = examples.iterator();
+            while (iterator.hasNext()) {
+                ExamplePerformableScenario examplePerformableScenario = iterator.next();
+                Description exampleRowDescription = Description.createSuiteDescription(
+                        configuration.keywords().examplesTableRow() + " " + examplePerformableScenario.getParameters());
+                scenarioDescription.addChild(exampleRowDescription);
+                if (hasGivenStories(scenario)) {
+                    insertGivenStories(scenario, exampleRowDescription);
+                }
+                addScenarioSteps(lifecycle, ScenarioType.EXAMPLE, scenario, exampleRowDescription);
             }
-            addScenarioSteps(lifecycle, ScenarioType.EXAMPLE, scenario, exampleRowDescription);
         }
     }
 
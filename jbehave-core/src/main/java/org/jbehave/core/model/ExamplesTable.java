@@ -8,16 +8,23 @@ import static org.apache.commons.lang3.Validate.notBlank;
 
 import java.io.PrintStream;
 import java.lang.reflect.Type;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NoSuchElementException;
 import java.util.Properties;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -28,6 +35,7 @@ import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 import org.jbehave.core.i18n.LocalizedKeywords;
 import org.jbehave.core.io.LoadFromClasspath;
+import org.jbehave.core.model.TableTransformers.RowsTransformer;
 import org.jbehave.core.model.TableTransformers.TableTransformer;
 import org.jbehave.core.steps.ChainedRow;
 import org.jbehave.core.steps.ConvertedParameters;
@@ -146,6 +154,17 @@ import org.jbehave.core.steps.Row;
  * 
  * </p>
  * <p>
+ * A table loaded from a resource can be streamed via the "streaming" inlined property, so that its rows are read
+ * from the resource only as they are needed, for tables too large to be kept in memory:
+ * 
+ * <pre>
+ * {streaming=true}
+ * path/to/large.table
+ * </pre>
+ * 
+ * The rows of a streaming table cannot be transformed or modified.
+ * </p>
+ * <p>
  * Once created, the table row can be modified, via the
  * {@link #withRowValues(int, Map)} method, by specifying the map of row values
  * to be changed.
@@ -176,6 +195,7 @@ public class ExamplesTable {
     private final Row defaults;
     private final TableRows tableRows;
     private final Deque<TableProperties> tablePropertiesQueue = new LinkedList<>();
+    private String input;
 
     private Map<String, String> namedParameters = new HashMap<>();
     private ParameterControls parameterControls;
@@ -203,18 +223,29 @@ public class ExamplesTable {
 
     private ExamplesTable(String tableAsString, String headerSeparator, String valueSeparator, String ignorableSeparator,
             ParameterConverters parameterConverters, TableParsers tableParsers, TableTransformers tableTransformers) {
-        this(tableParsers.parseProperties(tableAsString, headerSeparator, valueSeparator, ignorableSeparator),
+        this(tableAsString,
+                tableParsers.parseProperties(tableAsString, headerSeparator, valueSeparator, ignorableSeparator),
                 parameterConverters, new ParameterControls(), tableParsers, tableTransformers);
     }
 
-    ExamplesTable(TablePropertiesQueue tablePropertiesQueue, ParameterConverters parameterConverters,
+    ExamplesTable(String input, TablePropertiesQueue tablePropertiesQueue, ParameterConverters parameterConverters,
             ParameterControls parameterControls, TableParsers tableParsers, TableTransformers tableTransformers) {
+        this.input = input;
+        this.parameterConverters = parameterConverters;
+        this.parameterControls = parameterControls;
+        this.defaults = new ConvertedParameters(EMPTY_MAP, parameterConverters);
+        this.tablePropertiesQueue.addAll(tablePropertiesQueue.getProperties());
+        this.tableRows = applyTransformers(tableTransformers, tablePropertiesQueue.getTable(), tableParsers);
+    }
+
+    ExamplesTable(String input, TablePropertiesQueue tablePropertiesQueue, ParameterConverters parameterConverters,
+            ParameterControls parameterControls, TableRows tableRows) {
+        this.input = input;
         this.parameterConverters = parameterConverters;
         this.parameterControls = parameterControls;
         this.defaults = new ConvertedParameters(EMPTY_MAP, parameterConverters);
         this.tablePropertiesQueue.addAll(tablePropertiesQueue.getProperties());
-        String transformedTable = applyTransformers(tableTransformers, tablePropertiesQueue.getTable(), tableParsers);
-        this.tableRows = tableParsers.parseRows(transformedTable, lastTableProperties());
+        this.tableRows = tableRows;
     }
 
     private TableProperties lastTableProperties() {
@@ -222,16 +253,28 @@ public class ExamplesTable {
     }
 
     private ExamplesTable(ExamplesTable other, Row defaults) {
-        this.tableRows = new TableRows(other.tableRows.getHeaders(),
-                other.tableRows.getRows());
+        this.tableRows = new TableRows(other.tableRows);
         this.parameterConverters = other.parameterConverters;
-        this.tablePropertiesQueue.addAll(other.tablePropertiesQueue);
+        this.parameterControls = other.parameterControls;
+        // the properties are copied as well, as they can be changed via getProperties()
+        other.tablePropertiesQueue.forEach(properties -> this.tablePropertiesQueue.add(properties.copy()));
         this.defaults = defaults;
+        this.input = other.input;
+    }
+
+    ExamplesTable copy() {
+        return new ExamplesTable(this, defaults);
+    }
+
+    Deque<TableProperties> getTablePropertiesQueue() {
+        return tablePropertiesQueue;
     }
 
-    private String applyTransformers(TableTransformers tableTransformers, String tableAsString,
+    private TableRows applyTransformers(TableTransformers tableTransformers, String tableAsString,
             TableParsers tableParsers) {
         String transformedTable = tableAsString;
+        // the rows transformed by rows transformers, rendered as text only if followed by a text transformer
+        List<List<String>> transformedRows = null;
         TableProperties previousProperties = null;
         for (TableProperties properties : tablePropertiesQueue) {
             String transformer = properties.getTransformer();
@@ -239,11 +282,27 @@ public class ExamplesTable {
                 if (previousProperties != null) {
                     properties.overrideSeparatorsFrom(previousProperties);
                 }
-                transformedTable = tableTransformers.transform(transformer, transformedTable, tableParsers, properties);
+                RowsTransformer rowsTransformer = tableTransformers.rowsTransformer(transformer);
+                if (rowsTransformer != null) {
+                    if (transformedRows == null) {
+                        transformedRows = rowsTransformer.parseRows(transformedTable, tableParsers, properties);
+                    }
+                    transformedRows = rowsTransformer.transformRows(transformedRows, properties);
+                } else {
+                    if (transformedRows != null) {
+                        transformedTable = RowsTransformer.render(transformedRows, properties);
+                        transformedRows = null;
+                    }
+                    transformedTable = tableTransformers.transform(transformer, transformedTable, tableParsers,
+                            properties);
+                }
             }
             previousProperties = properties;
         }
-        return transformedTable;
+        if (transformedRows != null) {
+            return tableParsers.parseRows(transformedRows, lastTableProperties());
+        }
+        return tableParsers.parseRows(transformedTable, lastTableProperties());
     }
 
     public ExamplesTable withDefaults(Parameters defaults) {
@@ -256,6 +315,7 @@ public class ExamplesTable {
     }
 
     public ExamplesTable withRowValues(int row, Map<String, String> values) {
+        input = null;
         getRow(row).putAll(values);
         for (String header : values.keySet()) {
             if (!getHeaders().contains(header)) {
@@ -266,12 +326,8 @@ public class ExamplesTable {
     }
 
     public ExamplesTable withRows(List<Map<String, String>> values) {
-        getHeaders().clear();
-        tableRows.getRows().clear();
-        if (!values.isEmpty()) {
-            getHeaders().addAll(values.get(0).keySet());
-            tableRows.getRows().addAll(values);
-        }
+        input = null;
+        tableRows.replaceRows(values);
         return this;
     }
 
@@ -284,7 +340,7 @@ public class ExamplesTable {
     }
 
     public Map<String, String> getRow(int row) {
-        if (row > tableRows.getRows().size() - 1) {
+        if (row > tableRows.size() - 1) {
             throw new RowNotFound(row);
         }
         Map<String, String> values = tableRows.getRows().get(row);
@@ -320,7 +376,7 @@ public class ExamplesTable {
     }
 
     public int getRowCount() {
-        return tableRows.getRows().size();
+        return tableRows.size();
     }
 
     public boolean metaByRow() {
@@ -335,6 +391,26 @@ public class ExamplesTable {
         return rows;
     }
 
+    /**
+     * Returns the rows as a sequential Stream, which needs to be closed once used if the table is
+     * {@link #isStreaming() streaming}, as its rows are then read from the table resource while the Stream is consumed
+     *
+     * @return The Stream of rows
+     */
+    public Stream<Map<String, String>> streamRows() {
+        return getRows().stream();
+    }
+
+    /**
+     * Whether the table is declared with the "streaming" inlined property, and its rows are to be consumed via
+     * {@link #streamRows()} one at a time
+     *
+     * @return A boolean, <code>true</code> if streaming
+     */
+    public boolean isStreaming() {
+        return tablePropertiesQueue.stream().anyMatch(TableProperties::isStreaming);
+    }
+
     public List<Parameters> getRowsAsParameters() {
         return getRowsAsParameters(false);
     }
@@ -387,12 +463,22 @@ public class ExamplesTable {
     }
 
     public String asString() {
-        if (tableRows.getRows().isEmpty()) {
+        if (tableRows.size() == 0) {
             return EMPTY_VALUE;
         }
         return format();
     }
 
+    /**
+     * Returns the textual input the table was created from, by which the {@link ExamplesTableFactory} can create
+     * an equal table again
+     *
+     * @return The input or <code>null</code> if the rows of the table were changed after its creation
+     */
+    public String getInput() {
+        return input;
+    }
+
     public boolean isEmpty() {
         return getHeaders().isEmpty();
     }
@@ -515,6 +601,16 @@ public class ExamplesTable {
             this.propertiesAsString = propertiesAsString;
         }
 
+        private TableProperties(TableProperties other) {
+            this.parameterConverters = other.parameterConverters;
+            this.properties.putAll(other.properties);
+            this.propertiesAsString = other.propertiesAsString;
+        }
+
+        TableProperties copy() {
+            return new TableProperties(this);
+        }
+
         private Map<String, String> parseProperties(String propertiesAsString) {
             Map<String, String> result = new LinkedHashMap<>();
             if (!StringUtils.isEmpty(propertiesAsString)) {
@@ -599,6 +695,10 @@ public class ExamplesTable {
             return parseBoolean(properties.getProperty("metaByRow", "false"));
         }
 
+        public boolean isStreaming() {
+            return parseBoolean(properties.getProperty("streaming", "false"));
+        }
+
         public String getTransformer() {
             return properties.getProperty("transformer");
         }
@@ -630,13 +730,56 @@ public class ExamplesTable {
         }
     }
 
+    /**
+     * The headers and rows of a table, stored by columns: the names of the columns are indexed once per table and
+     * each row only holds the array of its values, exposed as a lightweight {@link Map} view. The arrays of values
+     * are shared between a table and its copies and only copied once the row is changed.
+     */
     public static final class TableRows {
         private final List<String> headers;
-        private final List<Map<String, String>> rows;
+        private Columns columns;
+        private final List<TableRow> rows = new ArrayList<>();
 
-        public TableRows(List<String> headers, List<Map<String, String>> rows) {
+        public TableRows(List<String> headers) {
             this.headers = headers;
-            this.rows = rows;
+            this.columns = new Columns(headers);
+        }
+
+        public TableRows(List<String> headers, List<Map<String, String>> rows) {
+            this(headers);
+            for (Map<String, String> row : rows) {
+                this.rows.add(new TableRow(columns, row));
+            }
+        }
+
+        TableRows(TableRows other) {
+            this.headers = new ArrayList<>(other.headers);
+            this.columns = new Columns(other.columns);
+            for (TableRow row : other.rows) {
+                this.rows.add(new TableRow(columns, row));
+            }
+        }
+
+        void addRow(List<String> values) {
+            String[] row = new String[columns.size()];
+            for (int column = 0; column < values.size() && column < headers.size(); column++) {
+                row[columns.indexOf(headers.get(column))] = values.get(column);
+            }
+            rows.add(new TableRow(columns, row));
+        }
+
+        void replaceRows(List<Map<String, String>> rows) {
+            List<String> headers = rows.isEmpty() ? Collections.emptyList() : new ArrayList<>(rows.get(0).keySet());
+            Columns columns = new Columns(headers);
+            List<TableRow> replaced = new ArrayList<>(rows.size());
+            for (Map<String, String> row : rows) {
+                replaced.add(new TableRow(columns, row));
+            }
+            this.headers.clear();
+            this.headers.addAll(headers);
+            this.columns = columns;
+            this.rows.clear();
+            this.rows.addAll(replaced);
         }
 
         public List<String> getHeaders() {
@@ -644,7 +787,229 @@ public class ExamplesTable {
         }
 
         public List<Map<String, String>> getRows() {
-            return rows;
+            return new AbstractList<Map<String, String>>() {
+
+                @Override
+                public Map<String, String> get(int index) {
+                    return rows.get(index);
+                }
+
+                @Override
+                public Map<String, String> set(int index, Map<String, String> row) {
+                    return rows.set(index, new TableRow(columns, row));
+                }
+
+                @Override
+                public void add(int index, Map<String, String> row) {
+                    rows.add(index, new TableRow(columns, row));
+                }
+
+                @Override
+                public Map<String, String> remove(int index) {
+                    return rows.remove(index);
+                }
+
+                @Override
+                public int size() {
+                    return rows.size();
+                }
+            };
+        }
+
+        int size() {
+            return rows.size();
+        }
+    }
+
+    /**
+     * The positions of the named values in the rows of a table. Columns are only ever added, so that the values of
+     * rows created before a column was added stay where they are.
+     */
+    private static final class Columns {
+        private final Map<String, Integer> positions;
+
+        Columns(List<String> names) {
+            this.positions = new LinkedHashMap<>();
+            for (String name : names) {
+                indexOf(name);
+            }
+        }
+
+        Columns(Columns other) {
+            this.positions = new LinkedHashMap<>(other.positions);
+        }
+
+        int indexOf(String name) {
+            return positions.computeIfAbsent(name, n -> positions.size());
+        }
+
+        Integer find(Object name) {
+            return positions.get(name);
+        }
+
+        Set<Entry<String, Integer>> entries() {
+            return positions.entrySet();
+        }
+
+        int size() {
+            return positions.size();
+        }
+    }
+
+    /**
+     * A row of a table, as a view of its array of values by column. A column without a value, i.e. <code>null</code>,
+     * is not mapped, while a column mapped to <code>null</code> holds {@link #NULL_VALUE}.
+     */
+    private static final class TableRow extends AbstractMap<String, String> {
+        /**
+         * The value of a column mapped to <code>null</code>, only ever compared by identity
+         */
+        private static final String NULL_VALUE = new String();
+
+        private final Columns columns;
+        private String[] values;
+        private boolean shared;
+
+        TableRow(Columns columns, String[] values) {
+            this.columns = columns;
+            this.values = values;
+        }
+
+        TableRow(Columns columns, Map<String, String> row) {
+            this(columns, new String[columns.size()]);
+            putAll(row);
+        }
+
+        TableRow(Columns columns, TableRow other) {
+            this(columns, other.values);
+            this.shared = true;
+            other.shared = true;
+        }
+
+        @Override
+        public String get(Object key) {
+            return valueOf(stored(columns.find(key)));
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return stored(columns.find(key)) != null;
+        }
+
+        @Override
+        public String put(String key, String value) {
+            return valueOf(store(columns.indexOf(key), value != null ? value : NULL_VALUE));
+        }
+
+        @Override
+        public String remove(Object key) {
+            Integer column = columns.find(key);
+            return column != null ? valueOf(store(column, null)) : null;
+        }
+
+        private String stored(Integer column) {
+            return column != null && column < values.length ? values[column] : null;
+        }
+
+        private String store(int column, String stored) {
+            String previous = stored(column);
+            if (!isSame(previous, stored)) {
+                if (shared || column >= values.length) {
+                    values = Arrays.copyOf(values, Math.max(values.length, columns.size()));
+                    shared = false;
+                }
+                values[column] = stored;
+            }
+            return previous;
+        }
+
+        private static boolean isSame(String stored, String other) {
+            return stored == other || stored != null && stored != NULL_VALUE && other != NULL_VALUE
+                    && stored.equals(other);
+        }
+
+        private static String valueOf(String stored) {
+            return stored != NULL_VALUE ? stored : null;
+        }
+
+        @Override
+        public int size() {
+            int size = 0;
+            for (String value : values) {
+                if (value != null) {
+                    size++;
+                }
+            }
+            return size;
+        }
+
+        @Override
+        public Set<Entry<String, String>> entrySet() {
+            return new AbstractSet<Entry<String, String>>() {
+
+                @Override
+                public Iterator<Entry<String, String>> iterator() {
+                    Iterator<Entry<String, Integer>> columnIterator = columns.entries().iterator();
+                    return new Iterator<Entry<String, String>>() {
+                        private Entry<String, String> next = nextEntry();
+                        private Entry<String, String> last;
+
+                        private Entry<String, String> nextEntry() {
+                            while (columnIterator.hasNext()) {
+                                Entry<String, Integer> column = columnIterator.next();
+                                int index = column.getValue();
+                                if (index < values.length && values[index] != null) {
+                                    return new TableRowEntry(column.getKey(), valueOf(values[index]));
+                                }
+                            }
+                            return null;
+                        }
+
+                        @Override
+                        public boolean hasNext() {
+                            return next != null;
+                        }
+
+                        @Override
+                        public Entry<String, String> next() {
+                            if (next == null) {
+                                throw new NoSuchElementException();
+                            }
+                            last = next;
+                            next = nextEntry();
+                            return last;
+                        }
+
+                        @Override
+                        public void remove() {
+                            if (last == null) {
+                                throw new IllegalStateException();
+                            }
+                            TableRow.this.remove(last.getKey());
+                            last = null;
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return TableRow.this.size();
+                }
+            };
+        }
+
+        @SuppressWarnings("serial")
+        private final class TableRowEntry extends SimpleEntry<String, String> {
+
+            TableRowEntry(String key, String value) {
+                super(key, value);
+            }
+
+            @Override
+            public String setValue(String value) {
+                put(getKey(), value);
+                return super.setValue(value);
+            }
         }
     }
 
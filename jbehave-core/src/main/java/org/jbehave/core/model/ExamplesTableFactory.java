@@ -1,9 +1,21 @@
 package org.jbehave.core.model;
 
+import static org.apache.commons.lang3.Validate.isTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import org.jbehave.core.configuration.Configuration;
 import org.jbehave.core.configuration.Keywords;
 import org.jbehave.core.i18n.LocalizedKeywords;
+import org.jbehave.core.io.InvalidStoryResource;
 import org.jbehave.core.io.ResourceLoader;
+import org.jbehave.core.io.StreamingResourceLoader;
 import org.jbehave.core.model.ExamplesTable.TableProperties;
 import org.jbehave.core.model.ExamplesTable.TablePropertiesQueue;
 import org.jbehave.core.steps.ParameterControls;
@@ -17,10 +29,22 @@ import org.jbehave.core.steps.ParameterConverters;
  * {@link Keywords#examplesTableHeaderSeparator()}</li>
  * <li>resource path input, the table as text is loaded via the
  * {@link ResourceLoader}.</li>
+ * <li>resource path input with the "streaming" inlined property, the table
+ * rows are read when used via the {@link StreamingResourceLoader}, if
+ * supported by the ResourceLoader, see {@link StreamingExamplesTable}.</li>
  * </ul>
  * Factory also supports optional specification of {@link ParameterConverters}
  * to allow the ExamplesTable to convert row values.
  * <p>
+ * The tables created are cached by their input, so that the same input is
+ * parsed and transformed only once, each table created being a copy of the
+ * cached one, whose rows are copied only once modified. Streaming tables and
+ * tables transformed by a transformer registered as non-cacheable via
+ * {@link TableTransformers#useTransformer(String, TableTransformers.TableTransformer, boolean)}
+ * are not cached. The cache is cleared once a transformer is (re)registered.
+ * Table resources are expected not to change while the factory is used.
+ * </p>
+ * <p>
  * <b>NOTE</b>: Users needing parameter conversion in the ExamplesTable, i.e.
  * invoking {@link ExamplesTable#getRowAsParameters(int)}, will need to use a
  * factory constructor providing explicitly the ParameterConverters instance
@@ -30,12 +54,22 @@ import org.jbehave.core.steps.ParameterConverters;
  */
 public class ExamplesTableFactory {
 
+    private static final int MAX_CACHED_TABLES = 1000;
+
     private Keywords keywords;
     private final ResourceLoader resourceLoader;
     private final ParameterConverters parameterConverters;
     private final ParameterControls parameterControls;
     private final TableParsers tableParsers;
     private final TableTransformers tableTransformers;
+    private final Map<String, ExamplesTable> cachedTables = Collections.synchronizedMap(
+            new LinkedHashMap<String, ExamplesTable>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, ExamplesTable> eldest) {
+                    return size() > MAX_CACHED_TABLES;
+                }
+            });
+    private int cachedTablesVersion;
 
     public ExamplesTableFactory(ResourceLoader resourceLoader, TableTransformers tableTransformers) {
         this(new LocalizedKeywords(), resourceLoader, tableTransformers);
@@ -73,21 +107,116 @@ public class ExamplesTableFactory {
     }
 
     public ExamplesTable createExamplesTable(String input) {
+        int transformersVersion = tableTransformers.version();
+        ExamplesTable cached = cachedTable(input, transformersVersion);
+        if (cached != null) {
+            return cached.copy();
+        }
+        ExamplesTable table = parseExamplesTable(input);
+        if (isCacheable(table)) {
+            cacheTable(input, table, transformersVersion);
+            return table.copy();
+        }
+        return table;
+    }
+
+    private ExamplesTable cachedTable(String input, int transformersVersion) {
+        synchronized (cachedTables) {
+            if (transformersVersion != cachedTablesVersion) {
+                cachedTables.clear();
+                cachedTablesVersion = transformersVersion;
+            }
+            return cachedTables.get(input);
+        }
+    }
+
+    private void cacheTable(String input, ExamplesTable table, int transformersVersion) {
+        synchronized (cachedTables) {
+            // not cached if a transformer has been registered while the table was transformed
+            if (transformersVersion == tableTransformers.version()) {
+                cachedTables.put(input, table);
+            }
+        }
+    }
+
+    private boolean isCacheable(ExamplesTable table) {
+        if (table.getClass() != ExamplesTable.class) {
+            return false;
+        }
+        for (TableProperties properties : table.getTablePropertiesQueue()) {
+            String transformer = properties.getTransformer();
+            if (transformer != null && !tableTransformers.isCacheable(transformer)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private ExamplesTable parseExamplesTable(String input) {
         TablePropertiesQueue tablePropertiesQueue = tableParsers.parseProperties(input);
 
         String tableAsString = tablePropertiesQueue.getTable().trim();
         TableProperties properties = tablePropertiesQueue.getProperties().peekLast();
 
         if (!isTable(tableAsString, properties) && !tableAsString.isEmpty()) {
-            String loadedTable = resourceLoader.loadResourceAsText(tableAsString.trim());
-            tablePropertiesQueue = tableParsers.parseProperties(loadedTable);
-            tablePropertiesQueue.getProperties().addFirst(properties);
+            String resourcePath = tableAsString.trim();
+            if (properties.isStreaming()) {
+                return createStreamingExamplesTable(input, resourcePath, properties);
+            }
+            return loadExamplesTable(input, resourcePath, properties);
         }
 
-        return new ExamplesTable(tablePropertiesQueue, parameterConverters, parameterControls, tableParsers,
+        return new ExamplesTable(input, tablePropertiesQueue, parameterConverters, parameterControls, tableParsers,
+                tableTransformers);
+    }
+
+    private ExamplesTable loadExamplesTable(String input, String resourcePath, TableProperties properties) {
+        String loadedTable = resourceLoader.loadResourceAsText(resourcePath);
+        TablePropertiesQueue tablePropertiesQueue = tableParsers.parseProperties(loadedTable);
+        tablePropertiesQueue.getProperties().addFirst(properties);
+        return new ExamplesTable(input, tablePropertiesQueue, parameterConverters, parameterControls, tableParsers,
                 tableTransformers);
     }
 
+    private ExamplesTable createStreamingExamplesTable(String input, String resourcePath,
+            TableProperties properties) {
+        // only the lines up to the headers are read, including any inlined properties of the table resource
+        StringBuilder head = new StringBuilder();
+        int headLines = 0;
+        TablePropertiesQueue tablePropertiesQueue = tableParsers.parseProperties("");
+        try (BufferedReader reader = new BufferedReader(resourceReader(resourcePath))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                headLines++;
+                head.append(line).append('\n');
+                TablePropertiesQueue headPropertiesQueue = tableParsers.parseProperties(head.toString());
+                String headers = headPropertiesQueue.getTable();
+                String ignorableSeparator = headPropertiesQueue.getProperties().getLast().getIgnorableSeparator();
+                if (!headers.isEmpty() && !headers.startsWith("{") && !headers.startsWith(ignorableSeparator)) {
+                    tablePropertiesQueue = headPropertiesQueue;
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            throw new InvalidStoryResource(resourcePath, e);
+        }
+        tablePropertiesQueue.getProperties().addFirst(properties);
+        for (TableProperties tableProperties : tablePropertiesQueue.getProperties()) {
+            isTrue(tableProperties.getTransformer() == null, "Streaming ExamplesTable '%s' cannot be transformed",
+                    resourcePath);
+        }
+        return new StreamingExamplesTable(input, tablePropertiesQueue, parameterConverters, parameterControls,
+                tableParsers, () -> resourceReader(resourcePath), headLines,
+                () -> loadExamplesTable(input, resourcePath, properties));
+    }
+
+    private Reader resourceReader(String resourcePath) {
+        if (resourceLoader instanceof StreamingResourceLoader) {
+            return ((StreamingResourceLoader) resourceLoader).loadResourceAsReader(resourcePath);
+        }
+        return new StringReader(resourceLoader.loadResourceAsText(resourcePath));
+    }
+
     protected boolean isTable(String table, TableProperties properties) {
         String headerSeparator = properties == null ? keywords.examplesTableHeaderSeparator()
                 : properties.getHeaderSeparator();
@@ -96,6 +225,7 @@ public class ExamplesTableFactory {
 
     public void useKeywords(Keywords keywords) {
         this.keywords = keywords;
+        cachedTables.clear();
     }
 
     public Keywords keywords() {
@@ -28,10 +28,12 @@ public class GivenStories {
     }
 
     public List<GivenStory> getStories() {
+        // copies are parametrised, as the parsed story may be shared across threads when cached
+        List<GivenStory> parametrisedStories = new ArrayList<>(stories.size());
         for (GivenStory story : stories) {
-            story.useParameters(parametersByAnchor(story.getAnchor()));
+            parametrisedStories.add(story.withParameters(parametersByAnchor(story.getAnchor())));
         }
-        return stories;
+        return parametrisedStories;
     }
 
     private Map<String, String> parametersByAnchor(String anchor) {
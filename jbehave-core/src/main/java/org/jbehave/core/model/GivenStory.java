@@ -26,6 +26,13 @@ public class GivenStory {
         parse();
     }
 
+    private GivenStory(GivenStory givenStory, Map<String, String> parameters) {
+        this.givenStoryAsString = givenStory.givenStoryAsString;
+        this.path = givenStory.path;
+        this.anchor = givenStory.anchor;
+        this.parameters = parameters;
+    }
+
     private void parse() {
         Pattern pattern = compile(PATH_REGEX, DOTALL);
         Matcher matcher = pattern.matcher(givenStoryAsString.trim());
@@ -73,6 +80,10 @@ public class GivenStory {
         this.parameters = parameters;
     }
 
+    GivenStory withParameters(Map<String, String> parameters) {
+        return new GivenStory(this, parameters);
+    }
+
     public String asString() {
         return givenStoryAsString;
     }
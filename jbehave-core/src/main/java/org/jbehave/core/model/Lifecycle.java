@@ -189,6 +189,22 @@ public class Lifecycle {
             this.steps = steps;
         }
 
+        public Scope getScope() {
+            return scope;
+        }
+
+        public Outcome getOutcome() {
+            return outcome;
+        }
+
+        public String getMetaFilter() {
+            return metaFilter;
+        }
+
+        public List<String> getSteps() {
+            return steps;
+        }
+
         @Override
         public String toString() {
             return ToStringBuilder.reflectionToString(this, ToStringStyle.SHORT_PREFIX_STYLE);
@@ -26,10 +26,18 @@ public class StoryDuration {
         return durationInMillis / 1000;
     }
 
+    public long getDurationInMillis() {
+        return durationInMillis;
+    }
+
     public long getTimeoutInSecs() {
         return timeoutInSecs;
     }
 
+    public long getCancelTimeoutInSecs() {
+        return cancelTimeoutInSecs;
+    }
+
     public StoryDuration setDurationInSecs(long durationInSecs) {
         this.durationInMillis = durationInSecs * 1000;
         return this;
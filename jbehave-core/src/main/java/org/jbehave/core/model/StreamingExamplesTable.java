@@ -0,0 +1,161 @@
+package org.jbehave.core.model;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.jbehave.core.model.ExamplesTable.TableProperties;
+import org.jbehave.core.model.ExamplesTable.TablePropertiesQueue;
+import org.jbehave.core.model.ExamplesTable.TableRows;
+import org.jbehave.core.steps.ParameterControls;
+import org.jbehave.core.steps.ParameterConverters;
+import org.jbehave.core.steps.Parameters;
+
+/**
+ * ExamplesTable declared with the "streaming" inlined property, whose rows are read from the table resource only when
+ * they are used. Streamed via {@link #streamRows()}, the rows are read one at a time, so that the memory used stays
+ * bounded whatever the size of the table. Any other access to the rows reads the whole resource again, as a
+ * non-streaming table, except for the number of rows which is counted once. Modifying the rows returns the
+ * non-streaming table, read whole and modified, leaving the streaming table unchanged. The string representation of
+ * a streaming table is its declaration, not its rows.
+ */
+public final class StreamingExamplesTable extends ExamplesTable {
+
+    private final TableProperties properties;
+    private final TableParsers tableParsers;
+    private final Supplier<Reader> resourceReader;
+    private final int headLines;
+    private final Supplier<ExamplesTable> loadedTable;
+    private Map<String, String> namedParameters;
+    private volatile int rowCount = -1;
+
+    StreamingExamplesTable(String input, TablePropertiesQueue tablePropertiesQueue,
+            ParameterConverters parameterConverters, ParameterControls parameterControls, TableParsers tableParsers,
+            Supplier<Reader> resourceReader, int headLines, Supplier<ExamplesTable> loadedTable) {
+        super(input, tablePropertiesQueue, parameterConverters, parameterControls,
+                new TableRows(tableParsers.parseRow(tablePropertiesQueue.getTable(), true,
+                        tablePropertiesQueue.getProperties().getLast())));
+        this.properties = tablePropertiesQueue.getProperties().getLast();
+        this.tableParsers = tableParsers;
+        this.resourceReader = resourceReader;
+        this.headLines = headLines;
+        this.loadedTable = loadedTable;
+    }
+
+    @Override
+    public Stream<Map<String, String>> streamRows() {
+        BufferedReader reader = new BufferedReader(resourceReader.get());
+        return reader.lines()
+                .onClose(() -> close(reader))
+                .skip(headLines)
+                .map(String::trim)
+                .filter(row -> !row.isEmpty() && !row.startsWith(properties.getIgnorableSeparator()))
+                .map(row -> row(tableParsers.parseRow(row, false, properties)));
+    }
+
+    private Map<String, String> row(List<String> values) {
+        List<String> headers = getHeaders();
+        Map<String, String> row = new LinkedHashMap<>();
+        for (int column = 0; column < headers.size(); column++) {
+            row.put(headers.get(column), column < values.size() ? values.get(column) : "");
+        }
+        return row;
+    }
+
+    private void close(Reader reader) {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ExamplesTable loadedTable() {
+        ExamplesTable table = loadedTable.get();
+        return namedParameters != null ? table.withNamedParameters(namedParameters) : table;
+    }
+
+    @Override
+    public ExamplesTable withDefaults(Parameters defaults) {
+        return loadedTable().withDefaults(defaults);
+    }
+
+    @Override
+    public ExamplesTable withNamedParameters(Map<String, String> namedParameters) {
+        this.namedParameters = namedParameters;
+        return super.withNamedParameters(namedParameters);
+    }
+
+    @Override
+    public ExamplesTable withRowValues(int row, Map<String, String> values) {
+        return loadedTable().withRowValues(row, values);
+    }
+
+    @Override
+    public ExamplesTable withRows(List<Map<String, String>> values) {
+        return loadedTable().withRows(values);
+    }
+
+    /**
+     * Returns a non-streaming copy of the table with its headers and properties but none of its rows, e.g. to be
+     * reported before the rows are streamed, without reading the table resource.
+     *
+     * @return The table without rows
+     */
+    public ExamplesTable withoutRows() {
+        return copy();
+    }
+
+    @Override
+    public Map<String, String> getRow(int row) {
+        return loadedTable().getRow(row);
+    }
+
+    @Override
+    public Parameters getRowAsParameters(int row, boolean replaceNamedParameters) {
+        return loadedTable().getRowAsParameters(row, replaceNamedParameters);
+    }
+
+    @Override
+    public int getRowCount() {
+        if (rowCount < 0) {
+            try (Stream<Map<String, String>> rows = streamRows()) {
+                rowCount = (int) rows.count();
+            }
+        }
+        return rowCount;
+    }
+
+    @Override
+    public List<Map<String, String>> getRows() {
+        return loadedTable().getRows();
+    }
+
+    @Override
+    public List<Parameters> getRowsAsParameters(boolean replaceNamedParameters) {
+        return loadedTable().getRowsAsParameters(replaceNamedParameters);
+    }
+
+    @Override
+    public List<String> getColumn(String columnName, boolean replaceNamedParameters) {
+        return loadedTable().getColumn(columnName, replaceNamedParameters);
+    }
+
+    /**
+     * Returns the declaration of the table, i.e. its inlined properties and resource path, as its rows are not meant
+     * to be read whole
+     *
+     * @return The table input
+     */
+    @Override
+    public String asString() {
+        return getInput();
+    }
+
+}
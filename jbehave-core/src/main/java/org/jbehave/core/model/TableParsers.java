@@ -2,10 +2,9 @@ package org.jbehave.core.model;
 
 import java.util.ArrayList;
 import java.util.Deque;
-import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
+import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 
@@ -60,8 +59,7 @@ public class TableParsers {
     }
 
     public TableRows parseRows(String tableAsString, TableProperties properties) {
-        List<String> headers = new ArrayList<>();
-        List<Map<String, String>> data = new ArrayList<>();
+        TableRows tableRows = null;
 
         String[] rows = tableAsString.split(ROW_SEPARATOR_PATTERN);
         for (String row : rows) {
@@ -69,21 +67,75 @@ public class TableParsers {
             if (trimmedRow.startsWith(properties.getIgnorableSeparator()) || trimmedRow.isEmpty()) {
                 // skip ignorable or empty lines
                 continue;
-            } else if (headers.isEmpty()) {
-                headers.addAll(parseRow(trimmedRow, true, properties));
+            } else if (tableRows == null || tableRows.getHeaders().isEmpty()) {
+                tableRows = new TableRows(parseRow(trimmedRow, true, properties));
             } else {
-                List<String> columns = parseRow(trimmedRow, false, properties);
-                Map<String, String> map = new LinkedHashMap<>();
-                for (int column = 0; column < columns.size(); column++) {
-                    if (column < headers.size()) {
-                        map.put(headers.get(column), columns.get(column));
-                    }
-                }
-                data.add(map);
+                tableRows.addRow(parseRow(trimmedRow, false, properties));
             }
         }
 
-        return new TableRows(headers, data);
+        return tableRows != null ? tableRows : new TableRows(new ArrayList<>());
+    }
+
+    /**
+     * Parses the rows of the table as lists of values, the first row being the headers
+     *
+     * @param tableAsString the table as text, without properties
+     * @param properties the TableProperties
+     * @return The list of rows
+     */
+    public List<List<String>> parseRowsAsValues(String tableAsString, TableProperties properties) {
+        return parseRowsAsValues(tableAsString, properties, (row, first) -> first);
+    }
+
+    /**
+     * Parses the rows of the table as lists of values, each row being parsed with the header separator or the value
+     * separator as decided by the predicate
+     *
+     * @param tableAsString the table as text, without properties
+     * @param properties the TableProperties
+     * @param header the predicate of the row text and whether it is the first row, true if the row is parsed with
+     *            the header separator
+     * @return The list of rows
+     */
+    public List<List<String>> parseRowsAsValues(String tableAsString, TableProperties properties,
+            BiPredicate<String, Boolean> header) {
+        List<List<String>> rows = new ArrayList<>();
+        for (String row : tableAsString.split(ROW_SEPARATOR_PATTERN)) {
+            String trimmedRow = row.trim();
+            if (!trimmedRow.startsWith(properties.getIgnorableSeparator()) && !trimmedRow.isEmpty()) {
+                rows.add(parseRow(trimmedRow, header.test(trimmedRow, rows.isEmpty()), properties));
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Creates the TableRows from the lists of values of the rows, the first row being the headers, trimming the
+     * values if required by the properties
+     *
+     * @param rows the list of rows
+     * @param properties the TableProperties
+     * @return The TableRows
+     */
+    public TableRows parseRows(List<List<String>> rows, TableProperties properties) {
+        Function<String, String> trimmer = properties.isTrim() ? String::trim : Function.identity();
+        if (rows.isEmpty()) {
+            return new TableRows(new ArrayList<>());
+        }
+        TableRows tableRows = new TableRows(trim(rows.get(0), trimmer));
+        for (List<String> row : rows.subList(1, rows.size())) {
+            tableRows.addRow(trim(row, trimmer));
+        }
+        return tableRows;
+    }
+
+    private List<String> trim(List<String> values, Function<String, String> trimmer) {
+        List<String> trimmed = new ArrayList<>(values.size());
+        for (String value : values) {
+            trimmed.add(trimmer.apply(value));
+        }
+        return trimmed;
     }
 
     public List<String> parseRow(String rowAsString, boolean header, TableProperties properties) {
@@ -2,9 +2,12 @@ package org.jbehave.core.model;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jbehave.core.model.ExamplesTable.TableProperties;
 
@@ -24,6 +27,11 @@ import org.jbehave.core.model.ExamplesTable.TableProperties;
  * {@link TableTransformers#REPLACING}</li>
  * </ul>
  * </p>
+ * <p>
+ * Transformers extending {@link TableTransformers.RowsTransformer RowsTransformer} transform the rows of the table
+ * rather than its text, so that a chain of them parses the table once. Any other {@link TableTransformer} is
+ * applied to the text of the table.
+ * </p>
  */
 public class TableTransformers {
 
@@ -32,6 +40,8 @@ public class TableTransformers {
     public static final String REPLACING = "REPLACING";
 
     private final Map<String, TableTransformer> transformers = new HashMap<>();
+    private final Set<String> nonCacheableTransformers = new HashSet<>();
+    private final AtomicInteger version = new AtomicInteger();
 
     public TableTransformers() {
         useTransformer(FROM_LANDSCAPE, new FromLandscape());
@@ -48,79 +58,162 @@ public class TableTransformers {
     }
 
     public void useTransformer(String name, TableTransformer transformer) {
+        useTransformer(name, transformer, true);
+    }
+
+    /**
+     * Registers the transformer by name, specifying whether the tables it transforms can be cached by the
+     * {@link ExamplesTableFactory}, i.e. whether it transforms the same table always in the same way and without
+     * side effects
+     *
+     * @param name the transformer name
+     * @param transformer the TableTransformer
+     * @param cacheable the boolean flag, <code>false</code> if each table has to be transformed again
+     */
+    public void useTransformer(String name, TableTransformer transformer, boolean cacheable) {
         transformers.put(name, transformer);
+        if (cacheable) {
+            nonCacheableTransformers.remove(name);
+        } else {
+            nonCacheableTransformers.add(name);
+        }
+        version.incrementAndGet();
+    }
+
+    /**
+     * @return The version of the registered transformers, changed by each registration, so that the tables cached
+     *         by the {@link ExamplesTableFactory} are transformed again once a transformer is (re)registered
+     */
+    int version() {
+        return version.get();
+    }
+
+    public boolean isCacheable(String transformerName) {
+        return !nonCacheableTransformers.contains(transformerName);
+    }
+
+    /**
+     * Returns the transformer registered by name if it transforms the rows of the table, so that a chain of such
+     * transformers needs to parse the table only once
+     *
+     * @param transformerName the transformer name
+     * @return The RowsTransformer or <code>null</code> if the transformer is not registered or transforms the text
+     */
+    public RowsTransformer rowsTransformer(String transformerName) {
+        TableTransformer transformer = transformers.get(transformerName);
+        return transformer instanceof RowsTransformer ? (RowsTransformer) transformer : null;
     }
 
     public interface TableTransformer {
         String transform(String tableAsString, TableParsers tableParsers, TableProperties properties);
     }
 
-    public static class FromLandscape implements TableTransformer {
+    /**
+     * TableTransformer which transforms the rows of the table, as lists of values whose first is the headers, rather
+     * than its text. The table is parsed only once for a chain of RowsTransformers, and not rendered as text at all
+     * if the chain is the last to be applied.
+     */
+    public abstract static class RowsTransformer implements TableTransformer {
 
         @Override
         public String transform(String tableAsString, TableParsers tableParsers, TableProperties properties) {
-            Map<String, List<String>> data = new LinkedHashMap<>();
-            for (String rowAsString : tableAsString.split(properties.getRowSeparator())) {
-                if (ignoreRow(rowAsString, properties.getIgnorableSeparator())) {
-                    continue;
+            return render(transformRows(parseRows(tableAsString, tableParsers, properties), properties), properties);
+        }
+
+        /**
+         * Parses the rows of the table text to transform, the first row with the header separator and the others
+         * with the value separator
+         *
+         * @param tableAsString the table as text, without properties
+         * @param tableParsers the TableParsers
+         * @param properties the TableProperties
+         * @return The list of rows, the first being the headers
+         */
+        public List<List<String>> parseRows(String tableAsString, TableParsers tableParsers,
+                TableProperties properties) {
+            return tableParsers.parseRowsAsValues(tableAsString, properties);
+        }
+
+        public abstract List<List<String>> transformRows(List<List<String>> rows, TableProperties properties);
+
+        /**
+         * Renders the rows as the text of a table, using the separators of the properties
+         *
+         * @param rows the rows, the first being the headers
+         * @param properties the TableProperties
+         * @return The table as text
+         */
+        public static String render(List<List<String>> rows, TableProperties properties) {
+            StringBuilder builder = new StringBuilder();
+            for (int r = 0; r < rows.size(); r++) {
+                String separator = r == 0 ? properties.getHeaderSeparator() : properties.getValueSeparator();
+                builder.append(separator);
+                for (String value : rows.get(r)) {
+                    builder.append(value).append(separator);
                 }
-                List<String> values = tableParsers.parseRow(rowAsString, false, properties);
+                builder.append(properties.getRowSeparator());
+            }
+            return builder.toString();
+        }
+    }
+
+    public static class FromLandscape extends RowsTransformer {
+
+        /**
+         * Parses all the rows with the value separator, as each landscape row starts with its header
+         */
+        @Override
+        public List<List<String>> parseRows(String tableAsString, TableParsers tableParsers,
+                TableProperties properties) {
+            return tableParsers.parseRowsAsValues(tableAsString, properties, (row, first) -> false);
+        }
+
+        @Override
+        public List<List<String>> transformRows(List<List<String>> rows, TableProperties properties) {
+            Map<String, List<String>> data = new LinkedHashMap<>();
+            for (List<String> values : rows) {
                 String header = values.get(0);
-                List<String> rowValues = new ArrayList<>(values);
-                rowValues.remove(0);
-                data.put(header, rowValues);
+                data.put(header, values.subList(1, values.size()));
             }
-            StringBuilder builder = new StringBuilder();
             int numberOfRows = 1;
-            builder.append(properties.getHeaderSeparator());
-            for (String header : data.keySet()) {
-                builder.append(header).append(properties.getHeaderSeparator());
-                numberOfRows = data.get(header).size();
+            for (List<String> values : data.values()) {
+                numberOfRows = values.size();
             }
-            builder.append(properties.getRowSeparator());
+            List<List<String>> transformed = new ArrayList<>(numberOfRows + 1);
+            transformed.add(new ArrayList<>(data.keySet()));
             for (int r = 0; r < numberOfRows; r++) {
-                builder.append(properties.getValueSeparator());
-                for (List<String> rows : data.values()) {
-                    builder.append(rows.get(r)).append(properties.getValueSeparator());
+                List<String> row = new ArrayList<>(data.size());
+                for (List<String> values : data.values()) {
+                    row.add(values.get(r));
                 }
-                builder.append(properties.getRowSeparator());
+                transformed.add(row);
             }
-            return builder.toString();
-        }
-
-        private boolean ignoreRow(String rowAsString, String ignorableSeparator) {
-            return rowAsString.startsWith(ignorableSeparator)
-                    || rowAsString.length() == 0;
+            return transformed;
         }
 
     }
 
-    public static class Formatting implements TableTransformer {
+    public static class Formatting extends RowsTransformer {
 
+        /**
+         * Parses the rows containing the header separator with it, the others with the value separator
+         */
         @Override
-        public String transform(String tableAsString, TableParsers tableParsers, TableProperties properties) {
-            List<List<String>> data = new ArrayList<>();
-            for (String rowAsString : tableAsString.split(properties.getRowSeparator())) {
-                if (ignoreRow(rowAsString, properties.getIgnorableSeparator())) {
-                    continue;
-                }
-                data.add(tableParsers.parseRow(rowAsString, rowAsString.contains(properties.getHeaderSeparator()),
-                        properties));
-            }
-
-            StringBuilder builder = new StringBuilder();
-            Map<Integer, Integer> maxWidths = maxWidth(data);
-            for (int r = 0; r < data.size(); r++) {
-                String formattedRow = formatRow(data.get(r), maxWidths,
-                        r == 0 ? properties.getHeaderSeparator() : properties.getValueSeparator());
-                builder.append(formattedRow).append(properties.getRowSeparator());
-            }
-            return builder.toString();
+        public List<List<String>> parseRows(String tableAsString, TableParsers tableParsers,
+                TableProperties properties) {
+            String headerSeparator = properties.getHeaderSeparator();
+            return tableParsers.parseRowsAsValues(tableAsString, properties,
+                    (row, first) -> row.contains(headerSeparator));
         }
 
-        private boolean ignoreRow(String rowAsString, String ignorableSeparator) {
-            return rowAsString.startsWith(ignorableSeparator)
-                    || rowAsString.length() == 0;
+        @Override
+        public List<List<String>> transformRows(List<List<String>> rows, TableProperties properties) {
+            Map<Integer, Integer> maxWidths = maxWidth(rows);
+            List<List<String>> transformed = new ArrayList<>(rows.size());
+            for (List<String> row : rows) {
+                transformed.add(formatRow(row, maxWidths));
+            }
+            return transformed;
         }
 
         private Map<Integer, Integer> maxWidth(List<List<String>> data) {
@@ -140,15 +233,12 @@ public class TableTransformers {
             return maxWidths;
         }
 
-        private String formatRow(List<String> row,
-                Map<Integer, Integer> maxWidths, String separator) {
-            StringBuilder builder = new StringBuilder();
-            builder.append(separator);
+        private List<String> formatRow(List<String> row, Map<Integer, Integer> maxWidths) {
+            List<String> formatted = new ArrayList<>(row.size());
             for (int c = 0; c < row.size(); c++) {
-                builder.append(formatValue(row.get(c).trim(), maxWidths.get(c)))
-                        .append(separator);
+                formatted.add(formatValue(row.get(c).trim(), maxWidths.get(c)));
             }
-            return builder.toString();
+            return formatted;
         }
 
         private String formatValue(String value, int width) {
@@ -1,8 +1,5 @@
 package org.jbehave.core.parsers;
 
-import static java.util.regex.Pattern.DOTALL;
-import static java.util.regex.Pattern.compile;
-
 import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Matcher;
@@ -15,9 +12,9 @@ import org.jbehave.core.i18n.LocalizedKeywords;
 abstract class AbstractRegexParser {
 
     protected static final String NONE = "";
-    private static final String CRLF = "\\r?\\n";
 
     private final Keywords keywords;
+    private final StoryGrammar grammar;
 
     protected AbstractRegexParser() {
         this(new LocalizedKeywords());
@@ -25,16 +22,34 @@ abstract class AbstractRegexParser {
 
     protected AbstractRegexParser(Keywords keywords) {
         this.keywords = keywords;
+        this.grammar = StoryGrammar.of(keywords);
     }
 
     protected Keywords keywords() {
         return keywords;
     }
 
+    StoryGrammar grammar() {
+        return grammar;
+    }
+
+    /**
+     * Splits the text into the elements starting with the keyword, used as a regex
+     *
+     * @param text the text to split
+     * @param keyword the keyword starting the elements
+     * @return The List of elements
+     * @deprecated Use {@link #splitElements(String, String, Pattern)} with the separator compiled once
+     */
+    @Deprecated
     protected List<String> splitElements(String text, String keyword) {
+        return splitElements(text, keyword, Pattern.compile(keyword));
+    }
+
+    protected List<String> splitElements(String text, String keyword, Pattern separator) {
         List<String> elements = new ArrayList<>();
         StringBuilder element = new StringBuilder();
-        String[] elementsAsText = text.split(keyword);
+        String[] elementsAsText = separator.split(text);
         for (int i = 0; i < elementsAsText.length; i++) {
             String elementAsText = elementsAsText[i];
             element.append(elementAsText);
@@ -59,7 +74,7 @@ abstract class AbstractRegexParser {
     }
 
     private boolean isLastLineNotComment(String elementAsText) {
-        String[] elementLines = elementAsText.split(CRLF, -1);
+        String[] elementLines = grammar.lines().split(elementAsText, -1);
         return !elementLines[elementLines.length - 1].startsWith(keywords.ignorable());
     }
 
@@ -71,7 +86,7 @@ abstract class AbstractRegexParser {
     }
 
     protected List<String> findSteps(String stepsAsText) {
-        Matcher matcher = findingSteps().matcher(stepsAsText);
+        Matcher matcher = grammar.steps().matcher(stepsAsText);
         List<String> steps = new ArrayList<>();
         int startAt = 0;
         while (matcher.find(startAt)) {
@@ -81,42 +96,34 @@ abstract class AbstractRegexParser {
         return steps;
     }
 
-    // Regex Patterns
-
-    private Pattern findingSteps() {
-        String initialStartingWords = concatenateInitialStartingWords();
-        String followingStartingWords = concatenateFollowingStartingWords();
-        return compile(
-                "((" + initialStartingWords + ")\\s(.*?))(\\Z|" + followingStartingWords + "|\\n"
-                        + keywords().examplesTable() + ")", DOTALL);
-    }
+    // Regex fragments, kept for subclasses: the patterns of the parsers are now compiled once per keywords by the
+    // StoryGrammar, so overriding these methods has no effect on parsing
 
+    /**
+     * @return The regex matching the starting words at the start of a line
+     * @deprecated The steps pattern is compiled once per keywords, without calling this method
+     */
+    @Deprecated
     protected String concatenateInitialStartingWords() {
-        return concatenateStartingWords("");
+        return StoryGrammar.concatenateWithOr(StoryGrammar.CRLF, NONE, keywords().startingWords());
     }
 
+    /**
+     * @return The regex matching the starting words at the start of a line and followed by whitespace
+     * @deprecated The steps pattern is compiled once per keywords, without calling this method
+     */
+    @Deprecated
     protected String concatenateFollowingStartingWords() {
-        return concatenateStartingWords("\\s");
-    }
-
-    private String concatenateStartingWords(String afterKeyword) {
-        return concatenateWithOr(CRLF, afterKeyword, keywords().startingWords());
+        return StoryGrammar.concatenateWithOr(StoryGrammar.CRLF, "\\s", keywords().startingWords());
     }
 
+    /**
+     * @param keywords the keywords, used as regexes
+     * @return The regex matching any of the keywords
+     * @deprecated The patterns are compiled once per keywords, without calling this method
+     */
+    @Deprecated
     protected String concatenateWithOr(String... keywords) {
-        return concatenateWithOr(null, null, keywords);
-    }
-
-    private String concatenateWithOr(String beforeKeyword, String afterKeyword, String[] keywords) {
-        String before = beforeKeyword != null ? beforeKeyword : NONE;
-        String after = afterKeyword != null ? afterKeyword : NONE;
-        StringBuilder builder = new StringBuilder(before).append("(?:");
-        for (String keyword : keywords) {
-            builder.append(keyword).append('|');
-        }
-        if (keywords.length > 0) {
-            builder.deleteCharAt(builder.length() - 1); // remove last "|"
-        }
-        return builder.append(')').append(after).toString();
+        return StoryGrammar.concatenateWithOr(keywords);
     }
 }
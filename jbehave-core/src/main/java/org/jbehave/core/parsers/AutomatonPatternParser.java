@@ -0,0 +1,60 @@
+package org.jbehave.core.parsers;
+
+import org.jbehave.core.steps.StepCandidateIndex;
+import org.jbehave.core.steps.StepType;
+
+/**
+ * <p>
+ * A {@link RegexPrefixCapturingPatternParser} whose step matchers are {@link AutomatonStepMatcher}s, which the
+ * {@link StepCandidateIndex} combines, for all the step candidates of a {@link StepType}, into a single automaton
+ * over the literal text, the whitespace and the parameters of their patterns, once per
+ * {@link org.jbehave.core.embedder.AllStepCandidates}. A textual step is then run through the automaton once,
+ * finding all the candidates whose pattern it matches, instead of evaluating the pattern of each candidate. As the
+ * automaton is not determinised, the work for each character still grows with the number of states active at that
+ * point, e.g. with the number of candidates sharing the literal text read so far or reading a parameter.
+ * </p>
+ * <p>
+ * The patterns are resolved exactly as by the {@link RegexPrefixCapturingPatternParser}, and the parameters of the
+ * matching candidates are still captured by their own regex, so the matching semantics are unchanged.
+ * </p>
+ */
+public class AutomatonPatternParser extends RegexPrefixCapturingPatternParser {
+
+    /**
+     * Creates a parser which captures parameters starting with $ in a matching
+     * step and whose names are alphanumeric sequences.
+     */
+    public AutomatonPatternParser() {
+        super();
+    }
+
+    /**
+     * Creates a parser which captures parameters starting with a given prefix
+     * in a matching step and whose names are alphanumeric sequences
+     *
+     * @param prefix
+     *            the prefix to use in capturing parameters
+     */
+    public AutomatonPatternParser(String prefix) {
+        super(prefix);
+    }
+
+    /**
+     * Creates a parser which captures parameters starting with a given prefix
+     * in a matching step and a given character class.
+     *
+     * @param prefix
+     *            the prefix to use in capturing parameters
+     * @param characterClass
+     *            the regex character class to find parameter names
+     */
+    public AutomatonPatternParser(String prefix, String characterClass) {
+        super(prefix, characterClass);
+    }
+
+    @Override
+    public StepMatcher parseStep(StepType stepType, String stepPattern) {
+        return new AutomatonStepMatcher(super.parseStep(stepType, stepPattern));
+    }
+
+}
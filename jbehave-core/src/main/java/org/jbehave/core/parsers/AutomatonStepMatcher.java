@@ -0,0 +1,34 @@
+package org.jbehave.core.parsers;
+
+import java.util.regex.Matcher;
+
+import org.jbehave.core.model.StepPattern;
+
+/**
+ * A {@link StepMatcher}, created by the {@link AutomatonPatternParser}, whose pattern can be combined with the
+ * patterns of other candidates into a single automaton. The matching itself is delegated to the step matcher
+ * resolved by the {@link RegexPrefixCapturingPatternParser}.
+ */
+public class AutomatonStepMatcher implements StepMatcher {
+
+    private final StepMatcher delegate;
+
+    public AutomatonStepMatcher(StepMatcher delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Matcher matcher(String stepWithoutStartingWord) {
+        return delegate.matcher(stepWithoutStartingWord);
+    }
+
+    @Override
+    public String[] parameterNames() {
+        return delegate.parameterNames();
+    }
+
+    @Override
+    public StepPattern pattern() {
+        return delegate.pattern();
+    }
+}
@@ -0,0 +1,97 @@
+package org.jbehave.core.parsers;
+
+import java.util.List;
+import java.util.TreeSet;
+
+import org.jbehave.core.model.ExamplesTableFactory;
+import org.jbehave.core.model.Lifecycle;
+import org.jbehave.core.model.Meta;
+import org.jbehave.core.model.Narrative;
+import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.Story;
+
+/**
+ * Story parser which checks the conformance of a parser to a reference parser, e.g. of the {@link LinearStoryParser}
+ * to the {@link RegexStoryParser}. Each story is parsed by both parsers and the story of the parser checked is
+ * returned only if all its elements are equal to those of the story of the reference parser, otherwise
+ * {@link NonConformingStory} is thrown. Both parsers parse every story, so the conformance mode is intended to be
+ * used to verify a corpus of stories rather than when running them.
+ */
+public class ConformanceCheckingStoryParser implements StoryParser {
+
+    private final StoryParser parser;
+    private final StoryParser referenceParser;
+
+    public ConformanceCheckingStoryParser(ExamplesTableFactory tableFactory) {
+        this(new LinearStoryParser(tableFactory), new RegexStoryParser(tableFactory));
+    }
+
+    public ConformanceCheckingStoryParser(StoryParser parser, StoryParser referenceParser) {
+        this.parser = parser;
+        this.referenceParser = referenceParser;
+    }
+
+    @Override
+    public Story parseStory(String storyAsText) {
+        return parseStory(storyAsText, null);
+    }
+
+    @Override
+    public Story parseStory(String storyAsText, String storyPath) {
+        Story story = parser.parseStory(storyAsText, storyPath);
+        String parsed = asString(story);
+        String expected = asString(referenceParser.parseStory(storyAsText, storyPath));
+        if (!parsed.equals(expected)) {
+            throw new NonConformingStory(storyPath, expected, parsed);
+        }
+        return story;
+    }
+
+    private String asString(Story story) {
+        StringBuilder builder = new StringBuilder();
+        builder.append("path: ").append(story.getPath()).append('\n');
+        builder.append("name: ").append(story.getName()).append('\n');
+        builder.append("description: ").append(story.getDescription().asString()).append('\n');
+        appendMeta(builder, story.getMeta());
+        Narrative narrative = story.getNarrative();
+        builder.append("narrative: ").append(narrative.inOrderTo()).append('|').append(narrative.asA()).append('|')
+                .append(narrative.iWantTo()).append('|').append(narrative.soThat()).append('\n');
+        builder.append("givenStories: ").append(story.getGivenStories().asString()).append('\n');
+        Lifecycle lifecycle = story.getLifecycle();
+        builder.append("lifecycle examples: ").append(lifecycle.getExamplesTable().asString()).append('\n');
+        appendLifecycleSteps(builder, "before", lifecycle.getBefore());
+        appendLifecycleSteps(builder, "after", lifecycle.getAfter());
+        for (Scenario scenario : story.getScenarios()) {
+            builder.append("scenario: ").append(scenario.getTitle()).append('\n');
+            appendMeta(builder, scenario.getMeta());
+            builder.append("givenStories: ").append(scenario.getGivenStories().asString()).append('\n');
+            builder.append("examples: ").append(scenario.getExamplesTable().asString()).append('\n');
+            for (String step : scenario.getSteps()) {
+                builder.append("step: ").append(step).append('\n');
+            }
+        }
+        return builder.toString();
+    }
+
+    private void appendMeta(StringBuilder builder, Meta meta) {
+        for (String name : new TreeSet<>(meta.getPropertyNames())) {
+            builder.append("meta: ").append(name).append('=').append(meta.getProperty(name)).append('\n');
+        }
+    }
+
+    private void appendLifecycleSteps(StringBuilder builder, String stage, List<Lifecycle.Steps> stepsList) {
+        for (Lifecycle.Steps steps : stepsList) {
+            builder.append(stage).append(": ").append(steps).append('\n');
+        }
+    }
+
+    @SuppressWarnings("serial")
+    public static class NonConformingStory extends RuntimeException {
+
+        public NonConformingStory(String storyPath, String expected, String parsed) {
+            super("Story " + storyPath + " is not parsed conformingly:\nExpected:\n" + expected + "\nParsed:\n"
+                    + parsed);
+        }
+
+    }
+}
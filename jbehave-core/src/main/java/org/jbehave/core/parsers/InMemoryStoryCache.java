@@ -0,0 +1,83 @@
+package org.jbehave.core.parsers;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jbehave.core.model.Story;
+
+/**
+ * StoryCache which keeps the parsed stories in memory, keyed by their path. A cached story is used only if the
+ * SHA-256 hash of the text loaded from its path and the parser are the same as when it was parsed, otherwise the
+ * text is parsed again and the cached story replaced. The stories are kept, without bound, as long as the cache, so
+ * that caching is opt-in, via {@link org.jbehave.core.configuration.Configuration#useStoryCache(StoryCache)}.
+ */
+public class InMemoryStoryCache implements StoryCache {
+
+    private final Map<String, CachedStory> stories = new ConcurrentHashMap<>();
+
+    @Override
+    public Story storyOf(String storyPath, String storyAsText, StoryParser storyParser) {
+        if (storyPath == null) {
+            return storyParser.parseStory(storyAsText, null);
+        }
+        byte[] contentHash = contentHash(storyAsText);
+        CachedStory cached = stories.get(storyPath);
+        if (cached != null && cached.isParsedFrom(contentHash, storyParser)) {
+            return cached.story;
+        }
+        Story story = parseStory(storyPath, storyAsText, contentHash, storyParser);
+        stories.put(storyPath, new CachedStory(contentHash, storyParser, story));
+        return story;
+    }
+
+    /**
+     * Parses the story not found in the cache
+     *
+     * @param storyPath the story path
+     * @param storyAsText the story text
+     * @param contentHash the SHA-256 hash of the story text
+     * @param storyParser the StoryParser
+     * @return The parsed Story
+     */
+    protected Story parseStory(String storyPath, String storyAsText, byte[] contentHash, StoryParser storyParser) {
+        return storyParser.parseStory(storyAsText, storyPath);
+    }
+
+    /**
+     * Removes all the cached stories
+     */
+    public void clear() {
+        stories.clear();
+    }
+
+    static byte[] contentHash(String storyAsText) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(storyAsText.getBytes(UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class CachedStory {
+
+        private final byte[] contentHash;
+        private final StoryParser storyParser;
+        private final Story story;
+
+        CachedStory(byte[] contentHash, StoryParser storyParser, Story story) {
+            this.contentHash = contentHash;
+            this.storyParser = storyParser;
+            this.story = story;
+        }
+
+        boolean isParsedFrom(byte[] contentHash, StoryParser storyParser) {
+            return this.storyParser == storyParser && Arrays.equals(this.contentHash, contentHash);
+        }
+    }
+}
@@ -0,0 +1,611 @@
+package org.jbehave.core.parsers;
+
+import static java.util.Arrays.asList;
+import static org.apache.commons.lang3.StringUtils.removeStart;
+import static org.jbehave.core.parsers.RegexStoryParser.DEFAULT_RESOURCE_LOADER;
+import static org.jbehave.core.parsers.RegexStoryParser.DEFAULT_TABLE_TRANSFORMERS;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.jbehave.core.annotations.AfterScenario.Outcome;
+import org.jbehave.core.annotations.Scope;
+import org.jbehave.core.configuration.Keywords;
+import org.jbehave.core.model.Description;
+import org.jbehave.core.model.ExamplesTable;
+import org.jbehave.core.model.ExamplesTableFactory;
+import org.jbehave.core.model.GivenStories;
+import org.jbehave.core.model.Lifecycle;
+import org.jbehave.core.model.Lifecycle.Steps;
+import org.jbehave.core.model.Meta;
+import org.jbehave.core.model.Narrative;
+import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.Story;
+
+/**
+ * <p>
+ * Story parser which scans the textual story for the keywords provided, rather than matching it against the regex
+ * patterns of the {@link RegexStoryParser}. Each element of the story is found by a bounded number of linear scans
+ * of the text, so that the cost of parsing grows linearly with the length of the story and does not depend on the
+ * backtracking of the regex engine, which for long stories or steps can also exhaust the stack.
+ * </p>
+ * <p>
+ * The parser produces the same {@link Story} as the {@link RegexStoryParser}, the grammar of which serves as its
+ * specification. The conformance of the two parsers can be verified on a corpus of stories via the
+ * {@link ConformanceCheckingStoryParser}. Unlike the {@link RegexStoryParser}, the keywords are always matched
+ * literally, even if they contain characters which have a special meaning in regexes.
+ * </p>
+ */
+public class LinearStoryParser implements StoryParser {
+
+    private static final String NONE = "";
+    private static final char NL = '\n';
+    private static final char CR = '\r';
+
+    private final Keywords keywords;
+    private final ExamplesTableFactory tableFactory;
+    private final String[] startingWords;
+
+    public LinearStoryParser() {
+        this(new ExamplesTableFactory(DEFAULT_RESOURCE_LOADER, DEFAULT_TABLE_TRANSFORMERS));
+    }
+
+    public LinearStoryParser(ExamplesTableFactory tableFactory) {
+        this.keywords = tableFactory.keywords();
+        this.tableFactory = tableFactory;
+        this.startingWords = keywords.startingWords();
+    }
+
+    @Override
+    public Story parseStory(String storyAsText) {
+        return parseStory(storyAsText, null);
+    }
+
+    @Override
+    public Story parseStory(String storyAsText, String storyPath) {
+        Description description = parseDescriptionFrom(storyAsText);
+        Meta meta = parseStoryMetaFrom(storyAsText);
+        Narrative narrative = parseNarrativeFrom(storyAsText);
+        String beforeScenario = beforeScenarioText(storyAsText);
+        GivenStories givenStories = parseGivenStories(beforeScenario);
+        Lifecycle lifecycle = parseLifecycle(beforeScenario);
+        ExamplesTable storyExamplesTable = lifecycle.getExamplesTable();
+        if (!storyExamplesTable.isEmpty()) {
+            useExamplesTableForGivenStories(givenStories, storyExamplesTable);
+        }
+        List<Scenario> scenarios = parseScenariosFrom(storyAsText);
+        Story story = new Story(storyPath, description, meta, narrative, givenStories, lifecycle, scenarios);
+        if (storyPath != null) {
+            story.namedAs(new File(storyPath).getName());
+        }
+        return story;
+    }
+
+    private Description parseDescriptionFrom(String storyAsText) {
+        int end = indexOfFirst(storyAsText, 0, keywords.meta(), keywords.narrative(), keywords.lifecycle(),
+                keywords.scenario());
+        if (end < 0) {
+            return Description.EMPTY;
+        }
+        return new Description(storyAsText.substring(0, end).trim());
+    }
+
+    private Meta parseStoryMetaFrom(String storyAsText) {
+        String preScenario = preScenarioText(storyAsText);
+        int at = preScenario.lastIndexOf(keywords.meta());
+        if (at < 0) {
+            return Meta.EMPTY;
+        }
+        int start = at + keywords.meta().length();
+        int end = indexOfFirst(preScenario, start, keywords.narrative(), keywords.lifecycle(),
+                keywords.givenStories());
+        String meta = preScenario.substring(start, end < 0 ? preScenario.length() : end).trim();
+        return Meta.createMeta(meta, keywords);
+    }
+
+    private String preScenarioText(String storyAsText) {
+        List<String> split = split(storyAsText, keywords.scenario());
+        return split.isEmpty() ? storyAsText : split.get(0);
+    }
+
+    private String beforeScenarioText(String storyAsText) {
+        // use text before scenario keyword, if found
+        int at = storyAsText.indexOf(keywords.scenario());
+        return at < 0 ? NONE : storyAsText.substring(0, at);
+    }
+
+    private Narrative parseNarrativeFrom(String storyAsText) {
+        // the narrative must be followed by one of the keywords, and the last such narrative is used
+        String[] following = { keywords.givenStories(), keywords.lifecycle(), keywords.scenario() };
+        int lastFollowing = -1;
+        for (String keyword : following) {
+            lastFollowing = Math.max(lastFollowing, storyAsText.lastIndexOf(keyword));
+        }
+        if (lastFollowing < 0) {
+            return Narrative.EMPTY;
+        }
+        String keyword = keywords.narrative();
+        int at = storyAsText.lastIndexOf(keyword, lastFollowing - keyword.length());
+        if (at < 0) {
+            return Narrative.EMPTY;
+        }
+        int start = at + keyword.length();
+        int end = indexOfFirst(storyAsText, start, following);
+        return createNarrative(storyAsText.substring(start, end).trim());
+    }
+
+    private Narrative createNarrative(String narrative) {
+        String[] elements = lastElementsInOrder(narrative, keywords.inOrderTo(), keywords.asA(), keywords.iWantTo());
+        if (elements != null) {
+            return new Narrative(elements[0], elements[1], elements[2]);
+        }
+        elements = lastElementsInOrder(narrative, keywords.asA(), keywords.iWantTo(), keywords.soThat());
+        if (elements != null) {
+            return new Narrative("", elements[0], elements[1], elements[2]);
+        }
+        return Narrative.EMPTY;
+    }
+
+    /**
+     * Finds the elements introduced by the given keywords, in the order given, using the last occurrence of each
+     * keyword which is followed by the occurrences of the keywords after it
+     *
+     * @param text the text to search
+     * @param keywords the keywords introducing the elements
+     * @return The trimmed elements or <code>null</code> if the keywords do not all occur in the order given
+     */
+    private static String[] lastElementsInOrder(String text, String... keywords) {
+        int[] starts = new int[keywords.length];
+        int limit = text.length();
+        for (int i = keywords.length - 1; i >= 0; i--) {
+            starts[i] = text.lastIndexOf(keywords[i], limit - keywords[i].length());
+            if (starts[i] < 0) {
+                return null;
+            }
+            limit = starts[i];
+        }
+        String[] elements = new String[keywords.length];
+        for (int i = 0; i < keywords.length; i++) {
+            int start = starts[i] + keywords[i].length();
+            int end = i + 1 < keywords.length ? starts[i + 1] : text.length();
+            elements[i] = text.substring(start, end).trim();
+        }
+        return elements;
+    }
+
+    private GivenStories parseGivenStories(String beforeScenario) {
+        int at = beforeScenario.lastIndexOf(keywords.givenStories());
+        if (at < 0) {
+            return new GivenStories(NONE);
+        }
+        int start = at + keywords.givenStories().length();
+        int end = indexOfFirst(beforeScenario, start, keywords.lifecycle(), keywords.scenario());
+        return new GivenStories(beforeScenario.substring(start, end < 0 ? beforeScenario.length() : end).trim());
+    }
+
+    private Lifecycle parseLifecycle(String beforeScenario) {
+        int at = beforeScenario.lastIndexOf(keywords.lifecycle());
+        String lifecycle;
+        ExamplesTable examplesTable;
+        if (at >= 0) {
+            lifecycle = beforeScenario.substring(at + keywords.lifecycle().length()).trim();
+            examplesTable = parseExamplesTable(findExamplesTable(beforeScenario));
+        } else {
+            lifecycle = NONE;
+            examplesTable = ExamplesTable.EMPTY;
+        }
+        String[] beforeAndAfter = lastElementsInOrder(lifecycle, keywords.before(), keywords.after());
+        if (beforeAndAfter != null) {
+            return new Lifecycle(examplesTable, parseBeforeLifecycle(beforeAndAfter[0]),
+                    parseAfterLifecycle(beforeAndAfter[1]));
+        }
+        String[] before = lastElementsInOrder(lifecycle, keywords.before());
+        if (before != null) {
+            return new Lifecycle(examplesTable, parseBeforeLifecycle(before[0]), asList());
+        }
+        String[] after = lastElementsInOrder(lifecycle, keywords.after());
+        if (after != null) {
+            return new Lifecycle(examplesTable, asList(), parseAfterLifecycle(after[0]));
+        }
+        return new Lifecycle(examplesTable);
+    }
+
+    private List<Steps> parseBeforeLifecycle(String lifecycleAsText) {
+        List<Steps> list = new ArrayList<>();
+        for (String byScope : split(lifecycleAsText, keywords.scope())) {
+            byScope = byScope.trim();
+            if (byScope.isEmpty()) {
+                continue;
+            }
+            Scope scope = parseScope(findScope(keywords.scope() + byScope));
+            list.add(new Steps(scope, findSteps(startingWithNL(byScope))));
+        }
+        return list;
+    }
+
+    private List<Steps> parseAfterLifecycle(String lifecycleAsText) {
+        List<Steps> list = new ArrayList<>();
+        for (String byScope : split(lifecycleAsText, keywords.scope())) {
+            byScope = byScope.trim();
+            if (byScope.isEmpty()) {
+                continue;
+            }
+            Scope scope = parseScope(findScope(keywords.scope() + byScope));
+            for (String byOutcome : split(byScope, keywords.outcome())) {
+                byOutcome = byOutcome.trim();
+                if (byOutcome.isEmpty()) {
+                    continue;
+                }
+                String outcomeAsText = findOutcome(byOutcome);
+                String filtersAsText = findFilters(removeStart(byOutcome, outcomeAsText));
+                List<String> steps = findSteps(startingWithNL(removeStart(byOutcome, filtersAsText)));
+                list.add(new Steps(scope, parseOutcome(outcomeAsText), parseFilters(filtersAsText), steps));
+            }
+        }
+        return list;
+    }
+
+    private String findScope(String lifecycleAsText) {
+        String text = lifecycleAsText.trim();
+        if (!text.startsWith(keywords.scope())) {
+            return NONE;
+        }
+        int start = keywords.scope().length();
+        for (int i = start; i < text.length(); i++) {
+            if (text.startsWith(keywords.outcome(), i) || text.startsWith(keywords.metaFilter(), i)
+                    || isNewLineWithStartingWord(text, i)) {
+                return text.substring(start, i).trim();
+            }
+        }
+        return NONE;
+    }
+
+    private Scope parseScope(String scopeAsText) {
+        if (scopeAsText.trim().equals(keywords.scopeStep())) {
+            return Scope.STEP;
+        } else if (scopeAsText.trim().equals(keywords.scopeScenario())) {
+            return Scope.SCENARIO;
+        } else if (scopeAsText.trim().equals(keywords.scopeStory())) {
+            return Scope.STORY;
+        }
+        return Scope.SCENARIO;
+    }
+
+    private String findOutcome(String stepsByOutcome) {
+        for (String outcome : asList(keywords.outcomeAny(), keywords.outcomeSuccess(), keywords.outcomeFailure())) {
+            if (!stepsByOutcome.startsWith(outcome)) {
+                continue;
+            }
+            int end = outcome.length();
+            int next = skipWhitespace(stepsByOutcome, end);
+            if (stepsByOutcome.startsWith(keywords.metaFilter(), next)
+                    || next > end && stepsByOutcome.charAt(next - 1) == NL
+                    && startingWordAt(stepsByOutcome, next) != null) {
+                return outcome.trim();
+            }
+        }
+        return keywords.outcomeAny();
+    }
+
+    private Outcome parseOutcome(String outcomeAsText) {
+        if (outcomeAsText.equals(keywords.outcomeSuccess())) {
+            return Outcome.SUCCESS;
+        } else if (outcomeAsText.equals(keywords.outcomeFailure())) {
+            return Outcome.FAILURE;
+        }
+        return Outcome.ANY;
+    }
+
+    private String findFilters(String stepsByFilters) {
+        String text = stepsByFilters.trim();
+        if (!text.startsWith(keywords.metaFilter())) {
+            return NONE;
+        }
+        int start = keywords.metaFilter().length();
+        int end = start;
+        while (end < text.length() && isFilterChar(text.charAt(end))) {
+            end++;
+        }
+        // the filters extend to the last new line within their characters which is followed by a starting word
+        for (int i = end - 1; i >= start; i--) {
+            if (text.charAt(i) == NL && startingWordAt(text, i + 1) != null) {
+                return text.substring(0, i).trim();
+            }
+        }
+        return NONE;
+    }
+
+    private String parseFilters(String filtersAsText) {
+        return removeStart(filtersAsText, keywords.metaFilter()).trim();
+    }
+
+    private List<Scenario> parseScenariosFrom(String storyAsText) {
+        List<Scenario> parsed = new ArrayList<>();
+        for (String scenarioAsText : splitScenarios(storyAsText)) {
+            parsed.add(parseScenario(scenarioAsText));
+        }
+        return parsed;
+    }
+
+    private List<String> splitScenarios(String storyAsText) {
+        String scenarioKeyword = keywords.scenario();
+        // use text after scenario keyword, if found
+        int at = storyAsText.indexOf(scenarioKeyword);
+        if (at >= 0) {
+            storyAsText = storyAsText.substring(at + scenarioKeyword.length());
+        }
+        List<String> elements = new ArrayList<>();
+        StringBuilder element = new StringBuilder();
+        List<String> elementsAsText = split(storyAsText, scenarioKeyword);
+        for (int i = 0; i < elementsAsText.size(); i++) {
+            String elementAsText = elementsAsText.get(i);
+            element.append(elementAsText);
+            if (isLastLineNotComment(elementAsText)) {
+                addNonEmptyElement(element.toString(), elements, scenarioKeyword);
+                element = new StringBuilder();
+            } else if (i == elementsAsText.size() - 1) {
+                addNonEmptyElement(element.toString(), elements, scenarioKeyword);
+            } else {
+                element.append(scenarioKeyword);
+            }
+        }
+        return elements;
+    }
+
+    private static void addNonEmptyElement(String elementToAdd, List<String> elements, String keyword) {
+        if (elementToAdd.trim().length() > 0) {
+            elements.add(keyword + "\n" + elementToAdd);
+        }
+    }
+
+    private boolean isLastLineNotComment(String elementAsText) {
+        return !elementAsText.startsWith(keywords.ignorable(), elementAsText.lastIndexOf(NL) + 1);
+    }
+
+    private Scenario parseScenario(String scenarioAsText) {
+        String title = findScenarioTitle(scenarioAsText);
+        String scenarioWithoutKeyword = removeStart(scenarioAsText, keywords.scenario()).trim();
+        String scenarioWithoutTitle = startingWithNL(removeStart(scenarioWithoutKeyword, title));
+        Meta meta = findScenarioMeta(scenarioWithoutTitle);
+        String examplesTableAsString = findExamplesTable(scenarioWithoutTitle);
+        ExamplesTable examplesTable = parseExamplesTable(examplesTableAsString);
+        GivenStories givenStories = findScenarioGivenStories(scenarioWithoutTitle);
+        useExamplesTableForGivenStories(givenStories, examplesTable);
+        List<String> steps;
+        if (examplesTableAsString.trim().isEmpty()) {
+            steps = findSteps(scenarioWithoutTitle);
+        } else {
+            int afterExampleIndex = scenarioWithoutTitle.indexOf(examplesTableAsString)
+                    + examplesTableAsString.length();
+            steps = findSteps(scenarioWithoutTitle.substring(0, afterExampleIndex));
+        }
+        return new Scenario(title, meta, givenStories, examplesTable, steps);
+    }
+
+    private void useExamplesTableForGivenStories(GivenStories givenStories, ExamplesTable examplesTable) {
+        if (givenStories.requireParameters()) {
+            givenStories.useExamplesTable(examplesTable);
+        }
+    }
+
+    private String findScenarioTitle(String scenarioAsText) {
+        int at = scenarioAsText.indexOf(keywords.scenario());
+        if (at < 0) {
+            return NONE;
+        }
+        int start = at + keywords.scenario().length();
+        for (int i = start; ; i++) {
+            if (scenarioAsText.startsWith(keywords.meta(), i) || isNewLineWithStartingWord(scenarioAsText, i)
+                    || isEnd(scenarioAsText, i)) {
+                return scenarioAsText.substring(start, i).trim();
+            }
+        }
+    }
+
+    private Meta findScenarioMeta(String scenarioAsText) {
+        int at = scenarioAsText.lastIndexOf(keywords.meta());
+        if (at < 0) {
+            return Meta.EMPTY;
+        }
+        int start = at + keywords.meta().length();
+        for (int i = start; ; i++) {
+            if (scenarioAsText.startsWith(keywords.givenStories(), i)
+                    || isNewLineWithStartingWord(scenarioAsText, i) || isEnd(scenarioAsText, i)) {
+                return Meta.createMeta(scenarioAsText.substring(start, i).trim(), keywords);
+            }
+        }
+    }
+
+    private String findExamplesTable(String scenarioAsText) {
+        int at = scenarioAsText.indexOf(NL + keywords.examplesTable());
+        if (at < 0) {
+            return NONE;
+        }
+        int start = skipWhitespace(scenarioAsText, at + 1 + keywords.examplesTable().length());
+        int end = scenarioAsText.indexOf(NL + keywords.ignorable(), start);
+        int textEnd = firstEnd(scenarioAsText, start);
+        return scenarioAsText.substring(start, end < 0 ? textEnd : Math.min(end, textEnd)).trim();
+    }
+
+    private ExamplesTable parseExamplesTable(String tableInput) {
+        return tableFactory.createExamplesTable(tableInput);
+    }
+
+    private GivenStories findScenarioGivenStories(String scenarioAsText) {
+        int at = scenarioAsText.indexOf(NL + keywords.givenStories());
+        if (at >= 0) {
+            int start = at + 1 + keywords.givenStories().length();
+            for (int i = start; i < scenarioAsText.length(); i++) {
+                if (isNewLineWithStartingWord(scenarioAsText, i)) {
+                    return new GivenStories(scenarioAsText.substring(start, i).trim());
+                }
+            }
+        }
+        return new GivenStories(NONE);
+    }
+
+    private String startingWithNL(String text) {
+        if (!text.startsWith("\n")) { // always ensure starts with newline
+            return "\n" + text;
+        }
+        return text;
+    }
+
+    /**
+     * Finds the steps, each starting on a new line with a starting word followed by whitespace, and ending where the
+     * next step or the examples table starts, or at the end of the text
+     *
+     * @param stepsAsText the text to search
+     * @return The steps
+     */
+    private List<String> findSteps(String stepsAsText) {
+        List<String> steps = new ArrayList<>();
+        int from = 0;
+        int newLine;
+        while ((newLine = stepsAsText.indexOf(NL, from)) >= 0) {
+            String startingWord = stepStartingWordAt(stepsAsText, newLine + 1);
+            if (startingWord == null) {
+                from = newLine + 1;
+                continue;
+            }
+            int end = stepEnd(stepsAsText, newLine + 1 + startingWord.length() + 1);
+            steps.add(stepsAsText.substring(newLine + 1, end));
+            from = end;
+        }
+        return steps;
+    }
+
+    private int stepEnd(String text, int start) {
+        String examplesTable = NL + keywords.examplesTable();
+        for (int i = start; ; i++) {
+            if (isEnd(text, i)) {
+                return i;
+            }
+            char c = text.charAt(i);
+            if (c == NL && (stepStartingWordAt(text, i + 1) != null || text.startsWith(examplesTable, i))
+                    || c == CR && i + 1 < text.length() && text.charAt(i + 1) == NL
+                    && stepStartingWordAt(text, i + 2) != null) {
+                return i;
+            }
+        }
+    }
+
+    private String startingWordAt(String text, int index) {
+        for (String startingWord : startingWords) {
+            if (text.startsWith(startingWord, index)) {
+                return startingWord;
+            }
+        }
+        return null;
+    }
+
+    private String stepStartingWordAt(String text, int index) {
+        for (String startingWord : startingWords) {
+            int end = index + startingWord.length();
+            if (text.startsWith(startingWord, index) && end < text.length() && isWhitespace(text.charAt(end))) {
+                return startingWord;
+            }
+        }
+        return null;
+    }
+
+    private boolean isNewLineWithStartingWord(String text, int index) {
+        if (index >= text.length()) {
+            return false;
+        }
+        char c = text.charAt(index);
+        if (c == CR && index + 1 < text.length() && text.charAt(index + 1) == NL) {
+            return startingWordAt(text, index + 2) != null;
+        }
+        return c == NL && startingWordAt(text, index + 1) != null;
+    }
+
+    /**
+     * Finds the first of the keywords in the text
+     *
+     * @return The index of the first keyword found from the index given, or -1 if none is found
+     */
+    private static int indexOfFirst(String text, int fromIndex, String... keywords) {
+        int first = -1;
+        for (String keyword : keywords) {
+            int at = text.indexOf(keyword, fromIndex);
+            if (at >= 0 && (first < 0 || at < first)) {
+                first = at;
+            }
+        }
+        return first;
+    }
+
+    /**
+     * Splits the text around the separator as {@link String#split(String)} does, but matching the separator
+     * literally
+     */
+    private static List<String> split(String text, String separator) {
+        int at = text.indexOf(separator);
+        if (at < 0) {
+            return Collections.singletonList(text);
+        }
+        List<String> parts = new ArrayList<>();
+        int from = 0;
+        while (at >= 0) {
+            parts.add(text.substring(from, at));
+            from = at + separator.length();
+            at = text.indexOf(separator, from);
+        }
+        parts.add(text.substring(from));
+        int size = parts.size();
+        while (size > 0 && parts.get(size - 1).isEmpty()) {
+            size--;
+        }
+        return parts.subList(0, size);
+    }
+
+    /**
+     * Whether the index is at the end of the text, or before a line terminator ending it, as the regex boundary
+     * <code>$</code> matches
+     */
+    private static boolean isEnd(String text, int index) {
+        int length = text.length();
+        if (index == length) {
+            return true;
+        }
+        if (index == length - 2) {
+            return text.charAt(index) == CR && text.charAt(index + 1) == NL;
+        }
+        if (index == length - 1) {
+            char c = text.charAt(index);
+            if (c == NL) {
+                return index == 0 || text.charAt(index - 1) != CR;
+            }
+            return c == CR || c == '\u0085' || c == '\u2028' || c == '\u2029';
+        }
+        return false;
+    }
+
+    private static int firstEnd(String text, int fromIndex) {
+        for (int i = Math.max(fromIndex, text.length() - 2); i < text.length(); i++) {
+            if (isEnd(text, i)) {
+                return i;
+            }
+        }
+        return text.length();
+    }
+
+    private static int skipWhitespace(String text, int index) {
+        while (index < text.length() && isWhitespace(text.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == NL || c == '\u000B' || c == '\f' || c == CR;
+    }
+
+    private static boolean isFilterChar(char c) {
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '_' || c == '+'
+                || c == '-' || isWhitespace(c);
+    }
+}
@@ -0,0 +1,15 @@
+package org.jbehave.core.parsers;
+
+import org.jbehave.core.model.Story;
+
+/**
+ * StoryCache which caches nothing, parsing the text of a story each time it is requested.
+ */
+public class NullStoryCache implements StoryCache {
+
+    @Override
+    public Story storyOf(String storyPath, String storyAsText, StoryParser storyParser) {
+        return storyParser.parseStory(storyAsText, storyPath);
+    }
+
+}
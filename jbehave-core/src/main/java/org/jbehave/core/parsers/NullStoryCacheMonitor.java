@@ -0,0 +1,17 @@
+package org.jbehave.core.parsers;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * <a href="http://en.wikipedia.org/wiki/Null_Object_pattern">Null Object
+ * Pattern</a> implementation of {@link StoryCacheMonitor}. Can be extended to
+ * override only the methods of interest.
+ */
+public class NullStoryCacheMonitor implements StoryCacheMonitor {
+
+    @Override
+    public void storyPersistenceFailed(String storyPath, Path file, IOException cause) {
+    }
+
+}
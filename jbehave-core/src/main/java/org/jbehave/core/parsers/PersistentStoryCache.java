@@ -0,0 +1,342 @@
+package org.jbehave.core.parsers;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+import org.jbehave.core.annotations.AfterScenario.Outcome;
+import org.jbehave.core.annotations.Scope;
+import org.jbehave.core.configuration.Keywords;
+import org.jbehave.core.model.Description;
+import org.jbehave.core.model.ExamplesTable;
+import org.jbehave.core.model.ExamplesTableFactory;
+import org.jbehave.core.model.GivenStories;
+import org.jbehave.core.model.Lifecycle;
+import org.jbehave.core.model.Lifecycle.Steps;
+import org.jbehave.core.model.Meta;
+import org.jbehave.core.model.Narrative;
+import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.Story;
+
+/**
+ * <p>
+ * StoryCache which, in addition to keeping the parsed stories in memory, persists them in a compact binary form to
+ * a directory, by default {@link #DEFAULT_DIRECTORY}, so that the stories whose text has not changed are not parsed
+ * again in later runs. A persisted story is used only if the SHA-256 hash of its text and the fingerprint of the
+ * parser and of the {@link Keywords} are the same as when it was persisted, otherwise the story is parsed and
+ * persisted again.
+ * </p>
+ * <p>
+ * The examples tables are persisted as the input they were created from and are created again by the
+ * {@link ExamplesTableFactory}, which must be the one used by the parser, so that any table loaded from a resource
+ * or transformed is always current. Stories with tables which cannot be created again from their input are not
+ * persisted.
+ * </p>
+ * <p>
+ * The cache is an optimisation only: any persisted story which cannot be read is parsed again, and any failure to
+ * persist a story is reported to the {@link StoryCacheMonitor}, by default a {@link PrintStreamStoryCacheMonitor},
+ * without failing the parsing.
+ * </p>
+ */
+public class PersistentStoryCache extends InMemoryStoryCache {
+
+    public static final String DEFAULT_DIRECTORY = "target/jbehave/parse-cache";
+
+    private static final int MAGIC = 0x4A425343; // "JBSC"
+    private static final int FORMAT_VERSION = 1;
+    private static final String EXTENSION = ".story.bin";
+
+    private final Path directory;
+    private final ExamplesTableFactory tableFactory;
+    private final String keywordsFingerprint;
+    private final StoryCacheMonitor monitor;
+
+    public PersistentStoryCache(ExamplesTableFactory tableFactory) {
+        this(new File(DEFAULT_DIRECTORY), tableFactory);
+    }
+
+    public PersistentStoryCache(File directory, ExamplesTableFactory tableFactory) {
+        this(directory, tableFactory, new PrintStreamStoryCacheMonitor());
+    }
+
+    public PersistentStoryCache(File directory, ExamplesTableFactory tableFactory, StoryCacheMonitor monitor) {
+        this.directory = directory.toPath();
+        this.tableFactory = tableFactory;
+        this.keywordsFingerprint = fingerprintOf(tableFactory.keywords());
+        this.monitor = monitor;
+    }
+
+    @Override
+    protected Story parseStory(String storyPath, String storyAsText, byte[] contentHash, StoryParser storyParser) {
+        Path file = directory.resolve(toHex(contentHash(storyPath)) + EXTENSION);
+        byte[] fingerprint = contentHash(storyParser.getClass().getName() + '\n' + keywordsFingerprint);
+        Story story = readStory(file, storyPath, contentHash, fingerprint);
+        if (story == null) {
+            story = super.parseStory(storyPath, storyAsText, contentHash, storyParser);
+            writeStory(file, story, contentHash, fingerprint);
+        }
+        return story;
+    }
+
+    private Story readStory(Path file, String storyPath, byte[] contentHash, byte[] fingerprint) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try {
+            // read into the heap rather than mapped, as a mapped file cannot be replaced on Windows until unmapped
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION
+                    || !Arrays.equals(readBytes(buffer), contentHash) || !Arrays.equals(readBytes(buffer), fingerprint)
+                    || !storyPath.equals(readString(buffer))) {
+                return null;
+            }
+            return readStory(buffer, storyPath);
+        } catch (IOException | BufferUnderflowException | IllegalArgumentException e) {
+            // a persisted story which cannot be read is parsed again
+            return null;
+        }
+    }
+
+    private Story readStory(ByteBuffer buffer, String storyPath) {
+        String name = readString(buffer);
+        Description description = new Description(readString(buffer));
+        Meta meta = readMeta(buffer);
+        Narrative narrative = new Narrative(readString(buffer), readString(buffer), readString(buffer),
+                readString(buffer));
+        GivenStories givenStories = new GivenStories(readString(buffer));
+        Lifecycle lifecycle = null;
+        if (buffer.get() != 0) {
+            ExamplesTable examplesTable = tableFactory.createExamplesTable(readString(buffer));
+            lifecycle = new Lifecycle(examplesTable, readLifecycleSteps(buffer), readLifecycleSteps(buffer));
+            if (!examplesTable.isEmpty() && givenStories.requireParameters()) {
+                givenStories.useExamplesTable(examplesTable);
+            }
+        }
+        int scenarioCount = buffer.getInt();
+        List<Scenario> scenarios = new ArrayList<>();
+        for (int i = 0; i < scenarioCount; i++) {
+            String title = readString(buffer);
+            Meta scenarioMeta = readMeta(buffer);
+            GivenStories scenarioGivenStories = new GivenStories(readString(buffer));
+            ExamplesTable examplesTable = tableFactory.createExamplesTable(readString(buffer));
+            if (scenarioGivenStories.requireParameters()) {
+                scenarioGivenStories.useExamplesTable(examplesTable);
+            }
+            scenarios.add(new Scenario(title, scenarioMeta, scenarioGivenStories, examplesTable,
+                    readStrings(buffer)));
+        }
+        Story story = new Story(storyPath, description, meta, narrative, givenStories, lifecycle, scenarios);
+        story.namedAs(name);
+        return story;
+    }
+
+    private Meta readMeta(ByteBuffer buffer) {
+        Properties properties = new Properties();
+        int count = buffer.getInt();
+        for (int i = 0; i < count; i++) {
+            properties.setProperty(readString(buffer), readString(buffer));
+        }
+        return new Meta(properties);
+    }
+
+    private List<Steps> readLifecycleSteps(ByteBuffer buffer) {
+        int count = buffer.getInt();
+        List<Steps> stepsList = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Scope scope = Scope.valueOf(readString(buffer));
+            Outcome outcome = Outcome.valueOf(readString(buffer));
+            String metaFilter = readString(buffer);
+            stepsList.add(new Steps(scope, outcome, metaFilter, readStrings(buffer)));
+        }
+        return stepsList;
+    }
+
+    private static List<String> readStrings(ByteBuffer buffer) {
+        int count = buffer.getInt();
+        List<String> strings = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            strings.add(readString(buffer));
+        }
+        return strings;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = readBytes(buffer);
+        return bytes != null ? new String(bytes, UTF_8) : null;
+    }
+
+    private static byte[] readBytes(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private void writeStory(Path file, Story story, byte[] contentHash, byte[] fingerprint) {
+        if (!isPersistable(story)) {
+            return;
+        }
+        Path temporaryFile = null;
+        try {
+            Files.createDirectories(directory);
+            // write to a temporary file first, so that concurrent runs never read a partially written story
+            temporaryFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try (DataOutputStream output = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+                output.writeInt(MAGIC);
+                output.writeInt(FORMAT_VERSION);
+                writeBytes(output, contentHash);
+                writeBytes(output, fingerprint);
+                writeString(output, story.getPath());
+                writeStory(output, story);
+            }
+            move(temporaryFile, file);
+        } catch (IOException e) {
+            // the story is parsed again in the next run
+            monitor.storyPersistenceFailed(story.getPath(), file, e);
+        } finally {
+            if (temporaryFile != null) {
+                deleteIfExists(temporaryFile, story);
+            }
+        }
+    }
+
+    private static void move(Path temporaryFile, Path file) throws IOException {
+        try {
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            // a concurrent run may then read a partially written story, which it detects and parses again
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private void deleteIfExists(Path temporaryFile, Story story) {
+        try {
+            Files.deleteIfExists(temporaryFile);
+        } catch (IOException e) {
+            monitor.storyPersistenceFailed(story.getPath(), temporaryFile, e);
+        }
+    }
+
+    private boolean isPersistable(Story story) {
+        if (story.hasLifecycle() && story.getLifecycle().getExamplesTable().getInput() == null) {
+            return false;
+        }
+        for (Scenario scenario : story.getScenarios()) {
+            if (scenario.getExamplesTable().getInput() == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void writeStory(DataOutputStream output, Story story) throws IOException {
+        writeString(output, story.getName());
+        writeString(output, story.getDescription().asString());
+        writeMeta(output, story.getMeta());
+        Narrative narrative = story.getNarrative();
+        writeString(output, narrative.inOrderTo());
+        writeString(output, narrative.asA());
+        writeString(output, narrative.iWantTo());
+        writeString(output, narrative.soThat());
+        writeString(output, story.getGivenStories().asString());
+        output.writeBoolean(story.hasLifecycle());
+        if (story.hasLifecycle()) {
+            Lifecycle lifecycle = story.getLifecycle();
+            writeString(output, lifecycle.getExamplesTable().getInput());
+            writeLifecycleSteps(output, lifecycle.getBefore());
+            writeLifecycleSteps(output, lifecycle.getAfter());
+        }
+        output.writeInt(story.getScenarios().size());
+        for (Scenario scenario : story.getScenarios()) {
+            writeString(output, scenario.getTitle());
+            writeMeta(output, scenario.getMeta());
+            writeString(output, scenario.getGivenStories().asString());
+            writeString(output, scenario.getExamplesTable().getInput());
+            writeStrings(output, scenario.getSteps(false));
+        }
+    }
+
+    private void writeMeta(DataOutputStream output, Meta meta) throws IOException {
+        output.writeInt(meta.getPropertyNames().size());
+        for (String name : meta.getPropertyNames()) {
+            writeString(output, name);
+            writeString(output, meta.getProperty(name));
+        }
+    }
+
+    private void writeLifecycleSteps(DataOutputStream output, List<Steps> stepsList) throws IOException {
+        output.writeInt(stepsList.size());
+        for (Steps steps : stepsList) {
+            writeString(output, steps.getScope().name());
+            writeString(output, steps.getOutcome().name());
+            writeString(output, steps.getMetaFilter());
+            writeStrings(output, steps.getSteps());
+        }
+    }
+
+    private static void writeStrings(DataOutputStream output, List<String> strings) throws IOException {
+        output.writeInt(strings.size());
+        for (String string : strings) {
+            writeString(output, string);
+        }
+    }
+
+    private static void writeString(DataOutputStream output, String string) throws IOException {
+        writeBytes(output, string != null ? string.getBytes(UTF_8) : null);
+    }
+
+    private static void writeBytes(DataOutputStream output, byte[] bytes) throws IOException {
+        if (bytes == null) {
+            output.writeInt(-1);
+            return;
+        }
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String fingerprintOf(Keywords keywords) {
+        StringBuilder fingerprint = new StringBuilder();
+        for (String keyword : Arrays.asList(keywords.meta(), keywords.metaProperty(), keywords.narrative(),
+                keywords.inOrderTo(), keywords.asA(), keywords.iWantTo(), keywords.soThat(), keywords.scenario(),
+                keywords.givenStories(), keywords.lifecycle(), keywords.before(), keywords.after(),
+                keywords.examplesTable(), keywords.examplesTableHeaderSeparator(),
+                keywords.examplesTableValueSeparator(), keywords.examplesTableIgnorableSeparator(), keywords.given(),
+                keywords.when(), keywords.then(), keywords.and(), keywords.ignorable(), keywords.scope(),
+                keywords.scopeStep(), keywords.scopeScenario(), keywords.scopeStory(), keywords.outcome(),
+                keywords.outcomeAny(), keywords.outcomeSuccess(), keywords.outcomeFailure(), keywords.metaFilter())) {
+            fingerprint.append(keyword).append('\n');
+        }
+        for (String startingWord : keywords.startingWords()) {
+            fingerprint.append(startingWord).append('\n');
+        }
+        return fingerprint.toString();
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+}
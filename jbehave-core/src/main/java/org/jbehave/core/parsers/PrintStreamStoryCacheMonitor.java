@@ -0,0 +1,26 @@
+package org.jbehave.core.parsers;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+
+import org.jbehave.core.reporters.Format;
+
+public class PrintStreamStoryCacheMonitor implements StoryCacheMonitor {
+
+    private final PrintStream output;
+
+    public PrintStreamStoryCacheMonitor() {
+        this(System.out);
+    }
+
+    public PrintStreamStoryCacheMonitor(PrintStream output) {
+        this.output = output;
+    }
+
+    @Override
+    public void storyPersistenceFailed(String storyPath, Path file, IOException cause) {
+        Format.println(output, "Failed to persist story %s to %s: %s", storyPath, file, cause);
+    }
+
+}
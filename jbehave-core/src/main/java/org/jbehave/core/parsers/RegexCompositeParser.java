@@ -1,13 +1,10 @@
 package org.jbehave.core.parsers;
 
-import static java.util.regex.Pattern.DOTALL;
-import static java.util.regex.Pattern.compile;
 import static org.apache.commons.lang3.StringUtils.removeStart;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.jbehave.core.configuration.Keywords;
 import org.jbehave.core.model.Composite;
@@ -33,14 +30,15 @@ public class RegexCompositeParser extends AbstractRegexParser implements Composi
     @Override
     public List<Composite> parseComposites(String compositesAsText) {
         List<Composite> parsed = new ArrayList<>();
-        for (String compositeAsText : splitElements(compositesAsText, keywords().composite())) {
+        for (String compositeAsText : splitElements(compositesAsText, keywords().composite(),
+                grammar().compositeSeparator())) {
             parsed.add(parseComposite(compositeAsText));
         }
         return parsed;
     }
 
     private Composite parseComposite(String compositeAsText) {
-        Matcher findingCompositeMatcher = findingCompositePattern().matcher(compositeAsText);
+        Matcher findingCompositeMatcher = grammar().compositePattern().matcher(compositeAsText);
         String compositePattern = NONE;
         int priority = 0;
         if (findingCompositeMatcher.find()) {
@@ -58,11 +56,4 @@ public class RegexCompositeParser extends AbstractRegexParser implements Composi
         String stepWithoutStartingWord = keywords().stepWithoutStartingWord(compositePattern, stepType);
         return new Composite(stepType, stepWithoutStartingWord, priority, steps);
     }
-
-    // Regex Patterns
-    private Pattern findingCompositePattern() {
-        String startingWords = concatenateInitialStartingWords();
-        return compile(keywords().composite() + "(.*?)\\s*(?:\n\\s*" + keywords().priority() + "\\s*(\\d+)\\s*)?"
-                + "(" + startingWords + ".*|\\s*$)", DOTALL);
-    }
 }
@@ -1,8 +1,6 @@
 package org.jbehave.core.parsers;
 
 import static java.util.Arrays.asList;
-import static java.util.regex.Pattern.DOTALL;
-import static java.util.regex.Pattern.compile;
 import static org.apache.commons.lang3.StringUtils.removeStart;
 
 import java.io.File;
@@ -10,7 +8,6 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.apache.commons.lang3.StringUtils;
 import org.jbehave.core.annotations.AfterScenario.Outcome;
@@ -75,7 +72,7 @@ public class RegexStoryParser extends AbstractRegexParser implements StoryParser
     }
 
     private Description parseDescriptionFrom(String storyAsText) {
-        Matcher findingDescription = findingDescription().matcher(storyAsText);
+        Matcher findingDescription = grammar().description().matcher(storyAsText);
         if (findingDescription.matches()) {
             return new Description(findingDescription.group(1).trim());
         }
@@ -83,7 +80,7 @@ public class RegexStoryParser extends AbstractRegexParser implements StoryParser
     }
 
     private Meta parseStoryMetaFrom(String storyAsText) {
-        Matcher findingMeta = findingStoryMeta().matcher(preScenarioText(storyAsText));
+        Matcher findingMeta = grammar().storyMeta().matcher(preScenarioText(storyAsText));
         if (findingMeta.matches()) {
             String meta = findingMeta.group(1).trim();
             return Meta.createMeta(meta, keywords());
@@ -92,12 +89,12 @@ public class RegexStoryParser extends AbstractRegexParser implements StoryParser
     }
 
     private String preScenarioText(String storyAsText) {
-        String[] split = storyAsText.split(keywords().scenario());
+        String[] split = grammar().scenarioSeparator().split(storyAsText);
         return split.length > 0 ? split[0] : storyAsText;
     }
 
     private Narrative parseNarrativeFrom(String storyAsText) {
-        Matcher findingNarrative = findingNarrative().matcher(storyAsText);
+        Matcher findingNarrative = grammar().narrative().matcher(storyAsText);
         if (findingNarrative.matches()) {
             String narrative = findingNarrative.group(1).trim();
             return createNarrative(narrative);
@@ -106,14 +103,14 @@ public class RegexStoryParser extends AbstractRegexParser implements StoryParser
     }
 
     private Narrative createNarrative(String narrative) {
-        Matcher findingElements = findingNarrativeElements().matcher(narrative);
+        Matcher findingElements = grammar().narrativeElements().matcher(narrative);
         if (findingElements.matches()) {
             String inOrderTo = findingElements.group(1).trim();
             String asA = findingElements.group(2).trim();
             String iWantTo = findingElements.group(3).trim();
             return new Narrative(inOrderTo, asA, iWantTo);
         }
-        Matcher findingAlternativeElements = findingAlternativeNarrativeElements().matcher(narrative);
+        Matcher findingAlternativeElements = grammar().alternativeNarrativeElements().matcher(narrative);
         if (findingAlternativeElements.matches()) {            
             String asA = findingAlternativeElements.group(1).trim();
             String iWantTo = findingAlternativeElements.group(2).trim();
@@ -130,7 +127,7 @@ public class RegexStoryParser extends AbstractRegexParser implements StoryParser
         if (StringUtils.contains(storyAsText, scenarioKeyword)) {
             beforeScenario = StringUtils.substringBefore(storyAsText, scenarioKeyword);
         }
-        Matcher findingGivenStories = findingStoryGivenStories().matcher(beforeScenario);
+        Matcher findingGivenStories = grammar().storyGivenStories().matcher(beforeScenario);
         String givenStories = findingGivenStories.find() ? findingGivenStories.group(1).trim() : NONE;
         return new GivenStories(givenStories);
     }
@@ -142,7 +139,7 @@ public class RegexStoryParser extends AbstractRegexParser implements StoryParser
         if (StringUtils.contains(storyAsText, scenarioKeyword)) {
             beforeScenario = StringUtils.substringBefore(storyAsText, scenarioKeyword);
         }
-        Matcher findingLifecycle = findingLifecycle().matcher(beforeScenario);
+        Matcher findingLifecycle = grammar().lifecycle().matcher(beforeScenario);
         String lifecycle;
         ExamplesTable examplesTable;
         if (findingLifecycle.find()) {
@@ -153,7 +150,7 @@ public class RegexStoryParser extends AbstractRegexParser implements StoryParser
             lifecycle = NONE;
             examplesTable = ExamplesTable.EMPTY;
         }
-        Matcher findingBeforeAndAfter = compile(".*" + keywords().before() + "(.*)\\s*" + keywords().after() + "(.*)\\s*", DOTALL).matcher(lifecycle);
+        Matcher findingBeforeAndAfter = grammar().lifecycleBeforeAndAfter().matcher(lifecycle);
         if (findingBeforeAndAfter.matches()) {
             String beforeLifecycle = findingBeforeAndAfter.group(1).trim();
             List<Steps> beforeSteps = parseBeforeLifecycle(beforeLifecycle);
@@ -161,13 +158,13 @@ public class RegexStoryParser extends AbstractRegexParser implements StoryParser
             List<Steps> afterSteps = parseAfterLifecycle(afterLifecycle);
             return new Lifecycle(examplesTable, beforeSteps, afterSteps);
         }
-        Matcher findingBefore = compile(".*" + keywords().before() + "(.*)\\s*", DOTALL).matcher(lifecycle);
+        Matcher findingBefore = grammar().lifecycleBefore().matcher(lifecycle);
         if (findingBefore.matches()) {
             String beforeLifecycle = findingBefore.group(1).trim();
             List<Steps> beforeSteps = parseBeforeLifecycle(beforeLifecycle);
             return new Lifecycle(examplesTable, beforeSteps, Arrays.<Steps>asList());
         }
-        Matcher findingAfter = compile(".*" + keywords().after() + "(.*)\\s*", DOTALL).matcher(lifecycle);
+        Matcher findingAfter = grammar().lifecycleAfter().matcher(lifecycle);
         if (findingAfter.matches()) {
             List<Steps> beforeSteps = asList();
             String afterLifecycle = findingAfter.group(1).trim();
@@ -177,17 +174,9 @@ public class RegexStoryParser extends AbstractRegexParser implements StoryParser
         return new Lifecycle(examplesTable);
     }
 
-    private Pattern findingBeforeAndAfterSteps() {
-        String initialStartingWords = concatenateWithOr("\\n", "", keywords().before(), keywords().after());
-        String followingStartingWords = concatenateFollowingStartingWords();
-        return compile(
-                "((" + initialStartingWords + ")\\s(.)*?)\\s*(\\Z|" + followingStartingWords + "|\\n"
-                        + keywords().examplesTable() + ")", DOTALL);
-    }
-
     private List<Steps> parseBeforeLifecycle(String lifecycleAsText) {
         List<Steps> list = new ArrayList<>();
-        for (String byScope : lifecycleAsText.split(keywords().scope())) {
+        for (String byScope : grammar().scopeSeparator().split(lifecycleAsText)) {
             byScope = byScope.trim();
             if (byScope.isEmpty()) {
                 continue;
@@ -201,13 +190,13 @@ public class RegexStoryParser extends AbstractRegexParser implements StoryParser
 
     private List<Steps> parseAfterLifecycle(String lifecycleAsText) {
         List<Steps> list = new ArrayList<>();
-        for (String byScope : lifecycleAsText.split(keywords().scope())) {
+        for (String byScope : grammar().scopeSeparator().split(lifecycleAsText)) {
             byScope = byScope.trim();
             if (byScope.isEmpty()) {
                 continue;
             }
             Scope scope = parseScope(findScope(keywords().scope() + byScope));
-            for (String byOutcome : byScope.split(keywords().outcome())) {
+            for (String byOutcome : grammar().outcomeSeparator().split(byScope)) {
                 byOutcome = byOutcome.trim();
                 if (byOutcome.isEmpty()) {
                     continue;
@@ -222,7 +211,7 @@ public class RegexStoryParser extends AbstractRegexParser implements StoryParser
     }
 
     private String findScope(String lifecycleAsText) {
-        Matcher findingScope = findingLifecycleScope().matcher(lifecycleAsText.trim());
+        Matcher findingScope = grammar().lifecycleScope().matcher(lifecycleAsText.trim());
         if (findingScope.matches()) {
             return findingScope.group(1).trim();
         }
@@ -241,7 +230,7 @@ public class RegexStoryParser extends AbstractRegexParser implements StoryParser
     }
 
     private String findOutcome(String stepsByOutcome) {
-        Matcher findingOutcome = findingLifecycleOutcome().matcher(stepsByOutcome);
+        Matcher findingOutcome = grammar().lifecycleOutcome().matcher(stepsByOutcome);
         if (findingOutcome.matches()) {
             return findingOutcome.group(1).trim();
         }
@@ -258,7 +247,7 @@ public class RegexStoryParser extends AbstractRegexParser implements StoryParser
     }
 
     private String findFilters(String stepsByFilters) {
-        Matcher findingFilters = findingLifecycleFilters().matcher(stepsByFilters.trim());
+        Matcher findingFilters = grammar().lifecycleFilters().matcher(stepsByFilters.trim());
         if (findingFilters.matches()) {
             return findingFilters.group(1).trim();
         }
@@ -285,7 +274,7 @@ public class RegexStoryParser extends AbstractRegexParser implements StoryParser
             storyAsText = StringUtils.substringAfter(storyAsText, scenarioKeyword);
         }
 
-        return splitElements(storyAsText, scenarioKeyword);
+        return splitElements(storyAsText, scenarioKeyword, grammar().scenarioSeparator());
     }
 
     private Scenario parseScenario(String scenarioAsText) {
@@ -315,12 +304,12 @@ public class RegexStoryParser extends AbstractRegexParser implements StoryParser
     }
 
     private String findScenarioTitle(String scenarioAsText) {
-        Matcher findingTitle = findingScenarioTitle().matcher(scenarioAsText);
+        Matcher findingTitle = grammar().scenarioTitle().matcher(scenarioAsText);
         return findingTitle.find() ? findingTitle.group(1).trim() : NONE;
     }
 
     private Meta findScenarioMeta(String scenarioAsText) {
-        Matcher findingMeta = findingScenarioMeta().matcher(scenarioAsText);
+        Matcher findingMeta = grammar().scenarioMeta().matcher(scenarioAsText);
         if (findingMeta.matches()) {
             String meta = findingMeta.group(1).trim();
             return Meta.createMeta(meta, keywords());
@@ -329,7 +318,7 @@ public class RegexStoryParser extends AbstractRegexParser implements StoryParser
     }
 
     private String findExamplesTable(String scenarioAsText) {
-        Matcher findingTable = findingExamplesTable().matcher(scenarioAsText);
+        Matcher findingTable = grammar().examplesTable().matcher(scenarioAsText);
         return findingTable.find() ? findingTable.group(1).trim() : NONE;
     }
 
@@ -338,81 +327,8 @@ public class RegexStoryParser extends AbstractRegexParser implements StoryParser
     }
 
     private GivenStories findScenarioGivenStories(String scenarioAsText) {
-        Matcher findingGivenStories = findingScenarioGivenStories().matcher(scenarioAsText);
+        Matcher findingGivenStories = grammar().scenarioGivenStories().matcher(scenarioAsText);
         String givenStories = findingGivenStories.find() ? findingGivenStories.group(1).trim() : NONE;
         return new GivenStories(givenStories);
     }
-
-    // Regex Patterns
-
-    private Pattern findingDescription() {
-        String metaOrNarrativeOrLifecycleOrScenario = concatenateWithOr(keywords().meta(), keywords().narrative(), keywords().lifecycle(), keywords().scenario());
-        return compile("(.*?)(" + metaOrNarrativeOrLifecycleOrScenario + ").*", DOTALL);
-    }
-
-    private Pattern findingStoryMeta() {
-        String narrativeOrLifecycleOrGivenStories = concatenateWithOr(keywords().narrative(), keywords().lifecycle(), keywords().givenStories());
-        return compile(".*" + keywords().meta() + "(.*?)\\s*(\\Z|" + narrativeOrLifecycleOrGivenStories + ").*", DOTALL);
-    }
-
-    private Pattern findingNarrative() {
-        String givenStoriesOrLifecycleOrScenario = concatenateWithOr(keywords().givenStories(), keywords().lifecycle(), keywords().scenario());
-        return compile(".*" + keywords().narrative() + "(.*?)\\s*(" + givenStoriesOrLifecycleOrScenario + ").*", DOTALL);
-    }
-
-    private Pattern findingNarrativeElements() {
-        return compile(".*" + keywords().inOrderTo() + "(.*)\\s*" + keywords().asA() + "(.*)\\s*" + keywords().iWantTo()
-                + "(.*)", DOTALL);
-    }
-
-    private Pattern findingAlternativeNarrativeElements() {
-        return compile(".*" + keywords().asA() + "(.*)\\s*" + keywords().iWantTo() + "(.*)\\s*" + keywords().soThat()
-                + "(.*)", DOTALL);
-    }
-    
-    private Pattern findingStoryGivenStories() {
-        String lifecycleOrScenario = concatenateWithOr(keywords().lifecycle(), keywords().scenario());
-        return compile(".*" + keywords().givenStories() + "(.*?)\\s*(\\Z|" + lifecycleOrScenario + ").*", DOTALL);
-    }
-    
-    private Pattern findingLifecycle() {
-        return compile(".*" + keywords().lifecycle() + "\\s*(.*)", DOTALL);
-    }
-
-    private Pattern findingLifecycleScope() {
-        String startingWords = concatenateInitialStartingWords();
-        return compile(keywords().scope() + "((.)*?)\\s*(" + keywords().outcome() + "|" + keywords().metaFilter() + "|" + startingWords + ").*", DOTALL);
-    }
-
-    private Pattern findingLifecycleOutcome() {
-        String startingWords = concatenateInitialStartingWords();
-        String outcomes = concatenateWithOr(keywords().outcomeAny(), keywords().outcomeSuccess(), keywords().outcomeFailure());
-        return compile("\\s*(" + outcomes + ")\\s*(" + keywords().metaFilter() + "|" + startingWords + ").*", DOTALL);
-    }
-
-    private Pattern findingLifecycleFilters() {
-        String startingWords = concatenateInitialStartingWords();
-        String filters = concatenateWithOr(keywords().metaFilter());
-        return compile("\\s*(" + filters + "[\\w\\+\\-\\_\\s]*)(" + startingWords + ").*", DOTALL);
-    }
-
-    private Pattern findingScenarioTitle() {
-        String startingWords = concatenateInitialStartingWords();
-        return compile(keywords().scenario() + "(.*?)\\s*(" + keywords().meta() + "|" + startingWords + "|$).*", DOTALL);
-    }
-
-    private Pattern findingScenarioMeta() {
-        String startingWords = concatenateInitialStartingWords();
-        return compile(".*" + keywords().meta() + "(.*?)\\s*(" + keywords().givenStories() + "|" + startingWords + "|$).*",
-                DOTALL);
-    }
-
-    private Pattern findingScenarioGivenStories() {
-        String startingWords = concatenateInitialStartingWords();
-        return compile("\\n" + keywords().givenStories() + "((.|\\n)*?)\\s*(" + startingWords + ").*", DOTALL);
-    }
-
-    private Pattern findingExamplesTable() {
-        return compile("\\n" + keywords().examplesTable() + "\\s*(.*?)(?:\\n" + keywords().ignorable() + ".*)?$", DOTALL);
-    }
 }
@@ -0,0 +1,30 @@
+package org.jbehave.core.parsers;
+
+import org.jbehave.core.model.Story;
+
+/**
+ * <p>
+ * Caches the stories parsed from their textual representation, so that stories which are referenced many times, e.g.
+ * as given stories, are parsed only once. The cached stories are shared by all the references and must not be
+ * mutated: any filtering, e.g. by the anchor of a given story, creates a new story.
+ * </p>
+ * <p>
+ * Implementations must invalidate a cached story when its text or the parser used change.
+ * </p>
+ * <p>
+ * No story is cached by default, i.e. {@link NullStoryCache} is used.
+ * </p>
+ */
+public interface StoryCache {
+
+    /**
+     * Returns the story of the path, parsing its text only if no story with the same text is cached for the path
+     *
+     * @param storyPath the story path
+     * @param storyAsText the story text, as loaded from the path
+     * @param storyParser the StoryParser used to parse the text if it is not cached
+     * @return The parsed Story
+     */
+    Story storyOf(String storyPath, String storyAsText, StoryParser storyParser);
+
+}
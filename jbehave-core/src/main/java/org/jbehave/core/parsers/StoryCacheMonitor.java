@@ -0,0 +1,13 @@
+package org.jbehave.core.parsers;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Monitors the events of a {@link StoryCache} which do not fail the parsing of the stories.
+ */
+public interface StoryCacheMonitor {
+
+    void storyPersistenceFailed(String storyPath, Path file, IOException cause);
+
+}
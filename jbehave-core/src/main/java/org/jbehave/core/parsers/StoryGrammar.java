@@ -0,0 +1,228 @@
+package org.jbehave.core.parsers;
+
+import static java.util.regex.Pattern.DOTALL;
+import static java.util.regex.Pattern.compile;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.regex.Pattern;
+
+import org.jbehave.core.configuration.Keywords;
+
+/**
+ * The regex patterns by which the {@link RegexStoryParser} and the {@link RegexCompositeParser} parse the textual
+ * stories and composites. The patterns only depend on the {@link Keywords}, so they are compiled once per keywords
+ * instance and shared, as they are immutable, by all parsers across all stories and threads.
+ */
+final class StoryGrammar {
+
+    private static final String NONE = "";
+    static final String CRLF = "\\r?\\n";
+    private static final Map<Keywords, StoryGrammar> GRAMMARS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Pattern lines = compile(CRLF);
+    private final Pattern steps;
+    private final Pattern description;
+    private final Pattern storyMeta;
+    private final Pattern narrative;
+    private final Pattern narrativeElements;
+    private final Pattern alternativeNarrativeElements;
+    private final Pattern storyGivenStories;
+    private final Pattern lifecycle;
+    private final Pattern lifecycleBeforeAndAfter;
+    private final Pattern lifecycleBefore;
+    private final Pattern lifecycleAfter;
+    private final Pattern lifecycleScope;
+    private final Pattern lifecycleOutcome;
+    private final Pattern lifecycleFilters;
+    private final Pattern scenarioTitle;
+    private final Pattern scenarioMeta;
+    private final Pattern scenarioGivenStories;
+    private final Pattern examplesTable;
+    private final Pattern compositePattern;
+    private final Pattern scenarioSeparator;
+    private final Pattern compositeSeparator;
+    private final Pattern scopeSeparator;
+    private final Pattern outcomeSeparator;
+
+    /**
+     * Returns the grammar of the given keywords, compiling it only if no parser has yet used the keywords
+     *
+     * @param keywords the Keywords
+     * @return The StoryGrammar
+     */
+    static StoryGrammar of(Keywords keywords) {
+        return GRAMMARS.computeIfAbsent(keywords, StoryGrammar::new);
+    }
+
+    private StoryGrammar(Keywords keywords) {
+        String initialStartingWords = concatenateWithOr(CRLF, NONE, keywords.startingWords());
+        String followingStartingWords = concatenateWithOr(CRLF, "\\s", keywords.startingWords());
+        this.steps = compile("((" + initialStartingWords + ")\\s(.*?))(\\Z|" + followingStartingWords + "|\\n"
+                + keywords.examplesTable() + ")", DOTALL);
+
+        String metaOrNarrativeOrLifecycleOrScenario = concatenateWithOr(keywords.meta(), keywords.narrative(),
+                keywords.lifecycle(), keywords.scenario());
+        this.description = compile("(.*?)(" + metaOrNarrativeOrLifecycleOrScenario + ").*", DOTALL);
+        String narrativeOrLifecycleOrGivenStories = concatenateWithOr(keywords.narrative(), keywords.lifecycle(),
+                keywords.givenStories());
+        this.storyMeta = compile(".*" + keywords.meta() + "(.*?)\\s*(\\Z|" + narrativeOrLifecycleOrGivenStories
+                + ").*", DOTALL);
+        String givenStoriesOrLifecycleOrScenario = concatenateWithOr(keywords.givenStories(), keywords.lifecycle(),
+                keywords.scenario());
+        this.narrative = compile(".*" + keywords.narrative() + "(.*?)\\s*(" + givenStoriesOrLifecycleOrScenario
+                + ").*", DOTALL);
+        this.narrativeElements = compile(".*" + keywords.inOrderTo() + "(.*)\\s*" + keywords.asA() + "(.*)\\s*"
+                + keywords.iWantTo() + "(.*)", DOTALL);
+        this.alternativeNarrativeElements = compile(".*" + keywords.asA() + "(.*)\\s*" + keywords.iWantTo()
+                + "(.*)\\s*" + keywords.soThat() + "(.*)", DOTALL);
+        String lifecycleOrScenario = concatenateWithOr(keywords.lifecycle(), keywords.scenario());
+        this.storyGivenStories = compile(".*" + keywords.givenStories() + "(.*?)\\s*(\\Z|" + lifecycleOrScenario
+                + ").*", DOTALL);
+
+        this.lifecycle = compile(".*" + keywords.lifecycle() + "\\s*(.*)", DOTALL);
+        this.lifecycleBeforeAndAfter = compile(".*" + keywords.before() + "(.*)\\s*" + keywords.after()
+                + "(.*)\\s*", DOTALL);
+        this.lifecycleBefore = compile(".*" + keywords.before() + "(.*)\\s*", DOTALL);
+        this.lifecycleAfter = compile(".*" + keywords.after() + "(.*)\\s*", DOTALL);
+        this.lifecycleScope = compile(keywords.scope() + "((.)*?)\\s*(" + keywords.outcome() + "|"
+                + keywords.metaFilter() + "|" + initialStartingWords + ").*", DOTALL);
+        String outcomes = concatenateWithOr(keywords.outcomeAny(), keywords.outcomeSuccess(),
+                keywords.outcomeFailure());
+        this.lifecycleOutcome = compile("\\s*(" + outcomes + ")\\s*(" + keywords.metaFilter() + "|"
+                + initialStartingWords + ").*", DOTALL);
+        String filters = concatenateWithOr(keywords.metaFilter());
+        this.lifecycleFilters = compile("\\s*(" + filters + "[\\w\\+\\-\\_\\s]*)(" + initialStartingWords + ").*",
+                DOTALL);
+
+        this.scenarioTitle = compile(keywords.scenario() + "(.*?)\\s*(" + keywords.meta() + "|"
+                + initialStartingWords + "|$).*", DOTALL);
+        this.scenarioMeta = compile(".*" + keywords.meta() + "(.*?)\\s*(" + keywords.givenStories() + "|"
+                + initialStartingWords + "|$).*", DOTALL);
+        this.scenarioGivenStories = compile("\\n" + keywords.givenStories() + "((.|\\n)*?)\\s*("
+                + initialStartingWords + ").*", DOTALL);
+        this.examplesTable = compile("\\n" + keywords.examplesTable() + "\\s*(.*?)(?:\\n" + keywords.ignorable()
+                + ".*)?$", DOTALL);
+
+        this.compositePattern = compile(keywords.composite() + "(.*?)\\s*(?:\n\\s*" + keywords.priority()
+                + "\\s*(\\d+)\\s*)?" + "(" + initialStartingWords + ".*|\\s*$)", DOTALL);
+
+        // the keywords are used as regexes, as when splitting via String.split()
+        this.scenarioSeparator = compile(keywords.scenario());
+        this.compositeSeparator = compile(keywords.composite());
+        this.scopeSeparator = compile(keywords.scope());
+        this.outcomeSeparator = compile(keywords.outcome());
+    }
+
+    static String concatenateWithOr(String... keywords) {
+        return concatenateWithOr(NONE, NONE, keywords);
+    }
+
+    static String concatenateWithOr(String beforeKeyword, String afterKeyword, String[] keywords) {
+        StringBuilder builder = new StringBuilder(beforeKeyword).append("(?:");
+        for (String keyword : keywords) {
+            builder.append(keyword).append('|');
+        }
+        if (keywords.length > 0) {
+            builder.deleteCharAt(builder.length() - 1); // remove last "|"
+        }
+        return builder.append(')').append(afterKeyword).toString();
+    }
+
+    Pattern lines() {
+        return lines;
+    }
+
+    Pattern steps() {
+        return steps;
+    }
+
+    Pattern description() {
+        return description;
+    }
+
+    Pattern storyMeta() {
+        return storyMeta;
+    }
+
+    Pattern narrative() {
+        return narrative;
+    }
+
+    Pattern narrativeElements() {
+        return narrativeElements;
+    }
+
+    Pattern alternativeNarrativeElements() {
+        return alternativeNarrativeElements;
+    }
+
+    Pattern storyGivenStories() {
+        return storyGivenStories;
+    }
+
+    Pattern lifecycle() {
+        return lifecycle;
+    }
+
+    Pattern lifecycleBeforeAndAfter() {
+        return lifecycleBeforeAndAfter;
+    }
+
+    Pattern lifecycleBefore() {
+        return lifecycleBefore;
+    }
+
+    Pattern lifecycleAfter() {
+        return lifecycleAfter;
+    }
+
+    Pattern lifecycleScope() {
+        return lifecycleScope;
+    }
+
+    Pattern lifecycleOutcome() {
+        return lifecycleOutcome;
+    }
+
+    Pattern lifecycleFilters() {
+        return lifecycleFilters;
+    }
+
+    Pattern scenarioTitle() {
+        return scenarioTitle;
+    }
+
+    Pattern scenarioMeta() {
+        return scenarioMeta;
+    }
+
+    Pattern scenarioGivenStories() {
+        return scenarioGivenStories;
+    }
+
+    Pattern examplesTable() {
+        return examplesTable;
+    }
+
+    Pattern compositePattern() {
+        return compositePattern;
+    }
+
+    Pattern scenarioSeparator() {
+        return scenarioSeparator;
+    }
+
+    Pattern compositeSeparator() {
+        return compositeSeparator;
+    }
+
+    Pattern scopeSeparator() {
+        return scopeSeparator;
+    }
+
+    Pattern outcomeSeparator() {
+        return outcomeSeparator;
+    }
+}
@@ -45,6 +45,7 @@ public abstract class AbstractCandidateSteps implements CandidateSteps {
                 configuration.parameterConverters(), configuration.parameterControls());
         candidate.useStepMonitor(configuration.stepMonitor());
         candidate.useParanamer(configuration.paranamer());
+        candidate.useStepMethodInvoker(configuration.stepMethodInvoker());
         candidate.doDryRun(configuration.storyControls().dryRun());
         return candidate;
     }
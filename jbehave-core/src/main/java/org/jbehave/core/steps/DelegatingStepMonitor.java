@@ -55,6 +55,13 @@ public class DelegatingStepMonitor implements StepMonitor {
         }
     }
 
+    @Override
+    public void stepResolutionCacheLookup(String step, boolean hit, long hits, long misses) {
+        for (StepMonitor monitor : delegates) {
+            monitor.stepResolutionCacheLookup(step, hit, hits, misses);
+        }
+    }
+
     @Override
     public void foundParameter(String parameter, int position) {
         for (StepMonitor monitor : delegates) {
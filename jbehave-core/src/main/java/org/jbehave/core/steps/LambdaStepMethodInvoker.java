@@ -0,0 +1,242 @@
+package org.jbehave.core.steps;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.lang3.ClassUtils;
+
+/**
+ * <p>
+ * {@link StepMethodInvoker} which invokes the step methods via invokers generated once per method by the
+ * {@link LambdaMetafactory}, so that the invocations are as direct as those of a lambda expression.
+ * </p>
+ * <p>
+ * Invokers are only generated for public instance methods, of public types visible to the class loader of JBehave,
+ * taking at most two parameters. Any other method is invoked via {@link MethodHandleStepMethodInvoker}.
+ * </p>
+ * <p>
+ * As for {@link MethodHandleStepMethodInvoker}, the steps instance and the parameters are checked before the
+ * invocation, so that only the exceptions thrown by the method itself are wrapped in an
+ * {@link InvocationTargetException}.
+ * </p>
+ */
+public class LambdaStepMethodInvoker implements StepMethodInvoker {
+
+    private static final int MAX_PARAMETERS = 2;
+
+    private final Map<Method, Invocation> invocations = new ConcurrentHashMap<>();
+
+    @Override
+    public Object invoke(Method method, Object stepsInstance, Object[] parameters)
+            throws InvocationTargetException, IllegalAccessException {
+        Invocation invocation = MethodHandleStepMethodInvoker.cached(invocations, method,
+                m -> new Invocation(invoker(m), m));
+        MethodHandleStepMethodInvoker.checkArguments(method, invocation.parameterTypes, stepsInstance, parameters);
+        Object[] arguments = widened(invocation.parameterTypes, parameters);
+        try {
+            return invocation.invoker.invoke(stepsInstance, arguments);
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    /**
+     * Applies the primitive widening conversions allowed by {@link Method#invoke(Object, Object...)}, as the generated
+     * invokers only unbox the exact wrapper types
+     */
+    private static Object[] widened(Class<?>[] parameterTypes, Object[] parameters) {
+        Object[] widened = parameters;
+        for (int i = 0; i < parameterTypes.length; i++) {
+            Class<?> type = parameterTypes[i];
+            if (type.isPrimitive() && ClassUtils.primitiveToWrapper(type) != parameters[i].getClass()) {
+                if (widened == parameters) {
+                    widened = parameters.clone();
+                }
+                widened[i] = widen(parameters[i], type);
+            }
+        }
+        return widened;
+    }
+
+    private static Object widen(Object value, Class<?> type) {
+        Number number = value instanceof Character ? Integer.valueOf((Character) value) : (Number) value;
+        if (type == short.class) {
+            return number.shortValue();
+        }
+        if (type == int.class) {
+            return number.intValue();
+        }
+        if (type == long.class) {
+            return number.longValue();
+        }
+        if (type == float.class) {
+            return number.floatValue();
+        }
+        return number.doubleValue();
+    }
+
+    private static Invoker invoker(Method method) throws IllegalAccessException {
+        if (isLambdaInvokable(method)) {
+            try {
+                return lambdaInvoker(method);
+            } catch (Throwable e) {
+                // the invoker could not be generated
+            }
+        }
+        MethodHandle methodHandle = MethodHandleStepMethodInvoker.methodHandle(method);
+        return (stepsInstance, parameters) -> (Object) methodHandle.invokeExact(stepsInstance, parameters);
+    }
+
+    private static boolean isLambdaInvokable(Method method) {
+        int modifiers = method.getModifiers();
+        if (!Modifier.isPublic(modifiers) || Modifier.isStatic(modifiers)
+                || method.getParameterCount() > MAX_PARAMETERS) {
+            return false;
+        }
+        if (!isVisible(method.getDeclaringClass()) || !Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+            return false;
+        }
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            if (!isVisible(parameterType)) {
+                return false;
+            }
+        }
+        return isVisible(method.getReturnType());
+    }
+
+    /**
+     * Determines if the type can be resolved by the class loader of the invokers, which are defined alongside this
+     * class
+     */
+    private static boolean isVisible(Class<?> type) {
+        if (type.isPrimitive()) {
+            return true;
+        }
+        if (!Modifier.isPublic(type.getModifiers())) {
+            return false;
+        }
+        try {
+            return Class.forName(type.getName(), false, LambdaStepMethodInvoker.class.getClassLoader()) == type;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private static Invoker lambdaInvoker(Method method) throws Throwable {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodHandle implementation = lookup.unreflect(method);
+        boolean returnsValue = method.getReturnType() != void.class;
+        int parameterCount = method.getParameterCount();
+        Class<?> functionalType = functionalType(parameterCount, returnsValue);
+        MethodType samType = MethodType.genericMethodType(parameterCount + 1);
+        if (!returnsValue) {
+            samType = samType.changeReturnType(void.class);
+        }
+        MethodType instantiatedType = implementation.type().wrap();
+        if (!returnsValue) {
+            instantiatedType = instantiatedType.changeReturnType(void.class);
+        }
+        CallSite callSite = LambdaMetafactory.metafactory(lookup, "invoke", MethodType.methodType(functionalType),
+                samType, implementation, instantiatedType);
+        Object function = callSite.getTarget().invoke();
+        switch (parameterCount) {
+            case 0:
+                if (returnsValue) {
+                    Function0 function0 = (Function0) function;
+                    return (stepsInstance, parameters) -> function0.invoke(stepsInstance);
+                }
+                Consumer0 consumer0 = (Consumer0) function;
+                return (stepsInstance, parameters) -> {
+                    consumer0.invoke(stepsInstance);
+                    return null;
+                };
+            case 1:
+                if (returnsValue) {
+                    Function1 function1 = (Function1) function;
+                    return (stepsInstance, parameters) -> function1.invoke(stepsInstance, parameters[0]);
+                }
+                Consumer1 consumer1 = (Consumer1) function;
+                return (stepsInstance, parameters) -> {
+                    consumer1.invoke(stepsInstance, parameters[0]);
+                    return null;
+                };
+            default:
+                if (returnsValue) {
+                    Function2 function2 = (Function2) function;
+                    return (stepsInstance, parameters) -> function2.invoke(stepsInstance, parameters[0],
+                            parameters[1]);
+                }
+                Consumer2 consumer2 = (Consumer2) function;
+                return (stepsInstance, parameters) -> {
+                    consumer2.invoke(stepsInstance, parameters[0], parameters[1]);
+                    return null;
+                };
+        }
+    }
+
+    private static Class<?> functionalType(int parameterCount, boolean returnsValue) {
+        switch (parameterCount) {
+            case 0:
+                return returnsValue ? Function0.class : Consumer0.class;
+            case 1:
+                return returnsValue ? Function1.class : Consumer1.class;
+            default:
+                return returnsValue ? Function2.class : Consumer2.class;
+        }
+    }
+
+    private static class Invocation {
+
+        private final Invoker invoker;
+        private final Class<?>[] parameterTypes;
+
+        Invocation(Invoker invoker, Method method) {
+            this.invoker = invoker;
+            this.parameterTypes = method.getParameterTypes();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Invoker {
+        Object invoke(Object stepsInstance, Object[] parameters) throws Throwable;
+    }
+
+    @FunctionalInterface
+    private interface Function0 {
+        Object invoke(Object stepsInstance);
+    }
+
+    @FunctionalInterface
+    private interface Function1 {
+        Object invoke(Object stepsInstance, Object parameter);
+    }
+
+    @FunctionalInterface
+    private interface Function2 {
+        Object invoke(Object stepsInstance, Object first, Object second);
+    }
+
+    @FunctionalInterface
+    private interface Consumer0 {
+        void invoke(Object stepsInstance);
+    }
+
+    @FunctionalInterface
+    private interface Consumer1 {
+        void invoke(Object stepsInstance, Object parameter);
+    }
+
+    @FunctionalInterface
+    private interface Consumer2 {
+        void invoke(Object stepsInstance, Object first, Object second);
+    }
+
+}
@@ -16,16 +16,30 @@ import org.jbehave.core.model.Lifecycle;
 import org.jbehave.core.model.Meta;
 import org.jbehave.core.model.Scenario;
 import org.jbehave.core.steps.AbstractStepResult.Pending;
+import org.jbehave.core.steps.StepCandidate.ResolvedComposedStep;
 import org.jbehave.core.steps.StepCreator.PendingStep;
+import org.jbehave.core.steps.StepResolutionCache.Resolution;
 
 /**
  * StepCollector that marks unmatched steps as {@link Pending}. It uses a
- * {@link StepFinder} to prioritise {@link StepCandidate}s.
+ * {@link StepFinder} to prioritise {@link StepCandidate}s, after narrowing them
+ * down to the plausible ones via a {@link StepCandidateIndex}, which is the one
+ * built by {@link org.jbehave.core.embedder.AllStepCandidates} for its regular
+ * steps, or else built once per list of candidates. The resolution of each textual step to its
+ * matching candidate, or to a pending, ignorable or comment step, is cached,
+ * so that repeated steps are not matched again, along with the resolution of
+ * the composed steps of composite candidates. Cache hits and misses are
+ * notified to the {@link StepMonitor}.
  */
 public class MarkUnmatchedStepsAsPending implements StepCollector {
 
+    public static final int DEFAULT_RESOLUTION_CACHE_SIZE = 10000;
+
     private final StepFinder stepFinder;
     private final Keywords keywords;
+    private final int resolutionCacheSize;
+    // the cache of the candidates last collected for, the caches of other indexed candidates being kept by their index
+    private volatile StepResolutionCache resolutionCache;
 
     public MarkUnmatchedStepsAsPending() {
         this(new StepFinder());
@@ -36,8 +50,20 @@ public class MarkUnmatchedStepsAsPending implements StepCollector {
     }
 
     public MarkUnmatchedStepsAsPending(StepFinder stepFinder, Keywords keywords) {
+        this(stepFinder, keywords, DEFAULT_RESOLUTION_CACHE_SIZE);
+    }
+
+    /**
+     * Creates a collector caching up to a given number of step resolutions
+     *
+     * @param stepFinder the StepFinder used to prioritise candidates
+     * @param keywords the Keywords
+     * @param resolutionCacheSize the maximum number of cached step resolutions, <code>0</code> to disable caching
+     */
+    public MarkUnmatchedStepsAsPending(StepFinder stepFinder, Keywords keywords, int resolutionCacheSize) {
         this.stepFinder = stepFinder;
         this.keywords = keywords;
+        this.resolutionCacheSize = resolutionCacheSize;
     }
 
     @Override
@@ -92,52 +118,103 @@ public class MarkUnmatchedStepsAsPending implements StepCollector {
     private List<Step> collectMatchedSteps(List<String> stepsAsString, Map<String, String> namedParameters,
             List<StepCandidate> stepCandidates, Outcome outcome, StepMonitor stepMonitor) {
         List<Step> steps = new ArrayList<>();
+        StepResolutionCache resolutionCache = resolutionCacheFor(stepCandidates);
         String previousNonAndStep = null;
         for (String stepAsString : stepsAsString) {
             // pending is default step, overridden below
             Step step = StepCreator.createPendingStep(stepAsString, previousNonAndStep);
-            List<StepCandidate> prioritisedCandidates = stepFinder.prioritise(stepAsString,
-                    new ArrayList<>(stepCandidates));
-            for (StepCandidate candidate : prioritisedCandidates) {
-                candidate.useStepMonitor(stepMonitor);
-                if (candidate.ignore(stepAsString)) {
-                    // ignorable steps are added so they can be reported
-                    step = StepCreator.createIgnorableStep(stepAsString);
-                    break;
-                }
-                if (candidate.comment(stepAsString)) {
-                    // comments are added so they can be reported
-                    step = StepCreator.createComment(stepAsString);
-                    break;
-                }
-                if (candidate.matches(stepAsString, previousNonAndStep)) {
-                    // step matches candidate
-                    if (candidate.isPending()) {
-                        ((PendingStep) step).annotatedOn(candidate.getMethod());
-                    } else {
-                        List<Step> composedSteps = new ArrayList<>();
-                        if (candidate.isComposite()) {
-                            candidate.addComposedSteps(composedSteps, stepAsString, namedParameters, prioritisedCandidates);
-                        }
-                        if (outcome != null) {
-                            step = candidate.createMatchedStepUponOutcome(stepAsString, namedParameters, composedSteps,
-                                    outcome);
-                        } else {
-                            step = candidate.createMatchedStep(stepAsString, namedParameters, composedSteps);
-                        }
-                    }
-                    if (!(keywords.isAndStep(stepAsString) || keywords.isIgnorableStep(stepAsString))) {
-                        // only update previous step if not AND or IGNORABLE step
-                        previousNonAndStep = stepAsString;
-                    }
-                    break;
-                }
+            if (!stepCandidates.isEmpty()) {
+                step = matchedStep(stepAsString, previousNonAndStep, step, namedParameters, resolutionCache, outcome,
+                        stepMonitor);
             }
             if (!(keywords.isAndStep(stepAsString) || keywords.isIgnorableStep(stepAsString))) {
+                // only update previous step if not AND or IGNORABLE step
                 previousNonAndStep = stepAsString;
             }
             steps.add(step);
         }
         return steps;
     }
+
+    private Step matchedStep(String stepAsString, String previousNonAndStep, Step pendingStep,
+            Map<String, String> namedParameters, StepResolutionCache resolutionCache, Outcome outcome,
+            StepMonitor stepMonitor) {
+        StepCandidateIndex candidateIndex = resolutionCache.candidateIndex();
+        List<StepCandidate> stepCandidates = candidateIndex.getCandidates();
+        // ignorable steps and comments are recognised by the keywords shared by all candidates
+        StepCandidate anyCandidate = stepCandidates.get(0);
+        anyCandidate.useStepMonitor(stepMonitor);
+        Resolution resolution = resolutionCache.resolve(stepAsString,
+                anyCandidate.previousNonAndStepType(stepAsString, previousNonAndStep),
+                () -> resolve(stepAsString, previousNonAndStep, anyCandidate, candidateIndex, stepMonitor),
+                stepMonitor);
+        switch (resolution.kind()) {
+            case IGNORABLE:
+                // ignorable steps are added so they can be reported
+                return StepCreator.createIgnorableStep(stepAsString);
+            case COMMENT:
+                // comments are added so they can be reported
+                return StepCreator.createComment(stepAsString);
+            case MATCHED:
+                StepCandidate candidate = resolution.candidate();
+                StepMatchResult stepMatch = resolution.stepMatch();
+                candidate.useStepMonitor(stepMonitor);
+                if (candidate.isPending()) {
+                    ((PendingStep) pendingStep).annotatedOn(candidate.getMethod());
+                    return pendingStep;
+                }
+                List<Step> composedSteps = new ArrayList<>();
+                if (candidate.isComposite()) {
+                    // composed steps are resolved once per order of the candidates prioritised for the composite step
+                    // and then only parametrised
+                    List<ResolvedComposedStep> resolvedComposedSteps = resolution.composedSteps(() -> {
+                        List<StepCandidate> prioritisedCandidates = stepFinder.prioritise(stepAsString,
+                                new ArrayList<>(stepCandidates));
+                        return resolutionCache.composedSteps(candidate, prioritisedCandidates,
+                                () -> candidate.resolveComposedSteps(prioritisedCandidates));
+                    });
+                    candidate.addResolvedComposedSteps(composedSteps, stepAsString, stepMatch, namedParameters,
+                            resolvedComposedSteps);
+                }
+                if (outcome != null) {
+                    return candidate.createMatchedStepUponOutcome(stepAsString, stepMatch, namedParameters,
+                            composedSteps, outcome);
+                }
+                return candidate.createMatchedStep(stepAsString, stepMatch, namedParameters, composedSteps);
+            default:
+                return pendingStep;
+        }
+    }
+
+    private Resolution resolve(String stepAsString, String previousNonAndStep, StepCandidate anyCandidate,
+            StepCandidateIndex candidateIndex, StepMonitor stepMonitor) {
+        if (anyCandidate.ignore(stepAsString)) {
+            return Resolution.IGNORABLE;
+        }
+        if (anyCandidate.comment(stepAsString)) {
+            return Resolution.COMMENT;
+        }
+        // only the plausible candidates are prioritised and matched
+        List<StepCandidate> prioritisedCandidates = stepFinder.prioritise(stepAsString,
+                candidateIndex.findCandidates(stepAsString));
+        for (StepCandidate candidate : prioritisedCandidates) {
+            candidate.useStepMonitor(stepMonitor);
+            StepMatchResult stepMatch = candidate.match(stepAsString, previousNonAndStep);
+            if (stepMatch != null) {
+                // the match is retained, so that the step is not matched again when created
+                return Resolution.matched(candidate, stepMatch);
+            }
+        }
+        return Resolution.PENDING;
+    }
+
+    private StepResolutionCache resolutionCacheFor(List<StepCandidate> stepCandidates) {
+        StepResolutionCache cache = resolutionCache;
+        if (cache == null || !cache.candidateIndex().indexes(stepCandidates)) {
+            // candidates have changed: the resolutions kept along with their index are used, if any
+            cache = StepCandidateIndex.of(stepCandidates).resolutionCache(this, resolutionCacheSize);
+            resolutionCache = cache;
+        }
+        return cache;
+    }
 }
@@ -0,0 +1,156 @@
+package org.jbehave.core.steps;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.lang3.ClassUtils;
+
+/**
+ * {@link StepMethodInvoker} which invokes the step methods via {@link MethodHandle}s, unreflected once per method and
+ * adapted to a common type, so that the invocations can be inlined by the JIT compiler. The parameter types of each
+ * method are retained with its handle, so that they are not copied on every invocation. The methods are subject to
+ * the same access checks as for reflective invocation. The steps instance and the parameters are checked before the
+ * invocation, so that only the exceptions thrown by the method itself are wrapped in an
+ * {@link InvocationTargetException}.
+ */
+public class MethodHandleStepMethodInvoker implements StepMethodInvoker {
+
+    private static final MethodType INVOCATION_TYPE = MethodType.methodType(Object.class, Object.class,
+            Object[].class);
+
+    private final Map<Method, Invocation> invocations = new ConcurrentHashMap<>();
+
+    @Override
+    public Object invoke(Method method, Object stepsInstance, Object[] parameters)
+            throws InvocationTargetException, IllegalAccessException {
+        Invocation invocation = cached(invocations, method, m -> new Invocation(methodHandle(m), m));
+        checkArguments(method, invocation.parameterTypes, stepsInstance, parameters);
+        try {
+            return (Object) invocation.methodHandle.invokeExact(stepsInstance, parameters);
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    /**
+     * Returns the value cached for the method, computed once
+     *
+     * @param cache the cache of values by method
+     * @param method the step Method
+     * @param computation the computation of the value, which may fail if the method cannot be accessed
+     * @return The cached value
+     * @throws IllegalAccessException if the method cannot be accessed
+     */
+    static <T> T cached(Map<Method, T> cache, Method method, AccessComputation<T> computation)
+            throws IllegalAccessException {
+        try {
+            return cache.computeIfAbsent(method, m -> {
+                try {
+                    return computation.compute(m);
+                } catch (IllegalAccessException e) {
+                    throw new InaccessibleMethod(e);
+                }
+            });
+        } catch (InaccessibleMethod e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Checks the steps instance and the parameters as {@link Method#invoke(Object, Object...)} does
+     *
+     * @param method the step Method
+     * @param parameterTypes the parameter types of the method, retained to avoid copying them
+     * @param stepsInstance the steps instance on which the method is invoked
+     * @param parameters the converted parameters of the method
+     * @throws NullPointerException if the steps instance is null for an instance method
+     * @throws IllegalArgumentException if the steps instance or the parameters do not match the method
+     */
+    static void checkArguments(Method method, Class<?>[] parameterTypes, Object stepsInstance, Object[] parameters) {
+        if (!Modifier.isStatic(method.getModifiers())) {
+            if (stepsInstance == null) {
+                throw new NullPointerException("Steps instance required to invoke " + method);
+            }
+            if (!method.getDeclaringClass().isInstance(stepsInstance)) {
+                throw new IllegalArgumentException(stepsInstance.getClass().getName()
+                        + " is not an instance of the declaring class of " + method);
+            }
+        }
+        int count = parameters != null ? parameters.length : 0;
+        if (count != parameterTypes.length) {
+            throw new IllegalArgumentException("Wrong number of parameters " + count + " to invoke " + method);
+        }
+        for (int i = 0; i < count; i++) {
+            if (!isAssignable(parameters[i], parameterTypes[i])) {
+                throw new IllegalArgumentException("Parameter " + i + " of type "
+                        + (parameters[i] != null ? parameters[i].getClass().getName() : "null")
+                        + " does not match " + parameterTypes[i].getName() + " to invoke " + method);
+            }
+        }
+    }
+
+    private static boolean isAssignable(Object parameter, Class<?> type) {
+        if (!type.isPrimitive()) {
+            return parameter == null || type.isInstance(parameter);
+        }
+        if (parameter == null) {
+            return false;
+        }
+        // unboxing, possibly followed by a primitive widening conversion
+        Class<?> primitiveType = ClassUtils.wrapperToPrimitive(parameter.getClass());
+        return primitiveType != null && ClassUtils.isAssignable(primitiveType, type);
+    }
+
+    /**
+     * Returns the handle of the method, adapted to take the steps instance and the array of parameters and to return
+     * an Object
+     *
+     * @param method the step Method
+     * @return The adapted MethodHandle
+     * @throws IllegalAccessException if the method cannot be accessed
+     */
+    static MethodHandle methodHandle(Method method) throws IllegalAccessException {
+        MethodHandle methodHandle = MethodHandles.lookup().unreflect(method).asFixedArity();
+        if (Modifier.isStatic(method.getModifiers())) {
+            // the steps instance is ignored
+            methodHandle = MethodHandles.dropArguments(methodHandle, 0, Object.class);
+        }
+        return methodHandle.asSpreader(Object[].class, method.getParameterCount()).asType(INVOCATION_TYPE);
+    }
+
+    private static class Invocation {
+
+        private final MethodHandle methodHandle;
+        private final Class<?>[] parameterTypes;
+
+        Invocation(MethodHandle methodHandle, Method method) {
+            this.methodHandle = methodHandle;
+            this.parameterTypes = method.getParameterTypes();
+        }
+    }
+
+    @FunctionalInterface
+    interface AccessComputation<T> {
+        T compute(Method method) throws IllegalAccessException;
+    }
+
+    @SuppressWarnings("serial")
+    private static class InaccessibleMethod extends RuntimeException {
+
+        InaccessibleMethod(IllegalAccessException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized IllegalAccessException getCause() {
+            return (IllegalAccessException) super.getCause();
+        }
+    }
+
+}
@@ -21,6 +21,10 @@ public class NullStepMonitor implements StepMonitor {
             Object stepsInstance) {
     }
 
+    @Override
+    public void stepResolutionCacheLookup(String step, boolean hit, long hits, long misses) {
+    }
+
     @Override
     public void convertedValueOfType(String value, Type type, Object converted, Queue<Class<?>> converterClasses) {
     }
@@ -1,10 +1,12 @@
 package org.jbehave.core.steps;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 
 public class ParameterControls {
@@ -12,10 +14,13 @@ public class ParameterControls {
     public static final String DEFAULT_NAME_DELIMITER_LEFT = "<";
     public static final String DEFAULT_NAME_DELIMITER_RIGHT = ">";
 
+    private static final int MAX_CACHED_TEMPLATES = 10000;
+
     private String nameDelimiterLeft;
     private String nameDelimiterRight;
     private boolean delimiterNamedParameters;
-    
+    private final Map<String, DelimitedNamesTemplate> templates = new ConcurrentHashMap<>();
+
     public ParameterControls() {
         this(DEFAULT_NAME_DELIMITER_LEFT, DEFAULT_NAME_DELIMITER_RIGHT, true);
     }
@@ -40,11 +45,13 @@ public class ParameterControls {
     
     public ParameterControls useNameDelimiterLeft(String nameDelimiterLeft) {
         this.nameDelimiterLeft = nameDelimiterLeft;
+        templates.clear();
         return this;
     }
 
     public ParameterControls useNameDelimiterRight(String nameDelimiterRight) {
         this.nameDelimiterRight = nameDelimiterRight;
+        templates.clear();
         return this;
     }
 
@@ -61,18 +68,108 @@ public class ParameterControls {
         return StringUtils.replace(text, createDelimitedName(name), value);
     }
 
+    /**
+     * Replaces all the delimited names found in the text by the values of the named parameters in a single scan of
+     * the text, the delimited names whose parameters are not found being left as they are. The values replacing the
+     * delimited names are not themselves scanned for delimited names.
+     *
+     * @param text the text
+     * @param namedParameters the named parameters
+     * @return The text with the delimited names replaced
+     */
     public String replaceAllDelimitedNames(String text, Map<String, String> namedParameters) {
-        String textWithReplacedDelimitedNames = text;
-        for (Entry<String, String> parameter : namedParameters.entrySet()) {
-            textWithReplacedDelimitedNames = replaceAllDelimitedNames(textWithReplacedDelimitedNames,
-                    parameter.getKey(), parameter.getValue());
+        if (namedParameters.isEmpty() || !text.contains(nameDelimiterLeft)) {
+            return text;
+        }
+        return template(text).replace(namedParameters);
+    }
+
+    /**
+     * Compiles the text into a template of the delimited names it contains, cached by text so that the text of a
+     * table cell is scanned only once for any number of rows or named parameters
+     *
+     * @param text the text
+     * @return The DelimitedNamesTemplate
+     */
+    public DelimitedNamesTemplate template(String text) {
+        DelimitedNamesTemplate template = templates.get(text);
+        if (template == null) {
+            if (templates.size() >= MAX_CACHED_TEMPLATES) {
+                templates.clear();
+            }
+            template = new DelimitedNamesTemplate(text, nameDelimiterLeft, nameDelimiterRight);
+            templates.put(text, template);
+        }
+        return template;
+    }
+
+    /**
+     * Text compiled into the literal parts and the delimited names between them
+     */
+    public static final class DelimitedNamesTemplate {
+
+        private final String text;
+        private final String nameDelimiterLeft;
+        private final String nameDelimiterRight;
+        private final List<String> literals = new ArrayList<>();
+        private final List<String> names = new ArrayList<>();
+
+        DelimitedNamesTemplate(String text, String nameDelimiterLeft, String nameDelimiterRight) {
+            this.text = text;
+            this.nameDelimiterLeft = nameDelimiterLeft;
+            this.nameDelimiterRight = nameDelimiterRight;
+            compile();
+        }
+
+        private void compile() {
+            int position = 0;
+            int left = text.indexOf(nameDelimiterLeft);
+            while (left >= 0) {
+                int right = text.indexOf(nameDelimiterRight, left + nameDelimiterLeft.length());
+                if (right < 0) {
+                    break;
+                }
+                // the name starts after the last left delimiter preceding the right delimiter
+                int innerLeft = text.lastIndexOf(nameDelimiterLeft, right - nameDelimiterLeft.length());
+                if (innerLeft > left) {
+                    left = innerLeft;
+                }
+                literals.add(text.substring(position, left));
+                names.add(text.substring(left + nameDelimiterLeft.length(), right));
+                position = right + nameDelimiterRight.length();
+                left = text.indexOf(nameDelimiterLeft, position);
+            }
+            literals.add(text.substring(position));
+        }
+
+        public List<String> names() {
+            return names;
+        }
+
+        public String replace(Map<String, String> namedParameters) {
+            if (names.isEmpty()) {
+                return text;
+            }
+            StringBuilder builder = new StringBuilder(text.length());
+            for (int i = 0; i < names.size(); i++) {
+                builder.append(literals.get(i));
+                String name = names.get(i);
+                String value = namedParameters.get(name);
+                if (value != null) {
+                    builder.append(value);
+                } else {
+                    builder.append(nameDelimiterLeft).append(name).append(nameDelimiterRight);
+                }
+            }
+            return builder.append(literals.get(names.size())).toString();
         }
-        return textWithReplacedDelimitedNames;
+
     }
 
     @Override
     public String toString() {
-        return ToStringBuilder.reflectionToString(this, ToStringStyle.SHORT_PREFIX_STYLE);
+        return new ReflectionToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE).setExcludeFieldNames("templates")
+                .toString();
     }
 
 }
@@ -45,10 +45,12 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.NavigableSet;
+import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -110,8 +112,12 @@ public class ParameterConverters {
     private static final String DEFAULT_FALSE_VALUE = "false";
 
     private final StepMonitor monitor;
+    private final boolean monitorSilent;
     private final List<ParameterConverter> converters;
     private final boolean threadSafe;
+    private final Map<Type, ConvertersChain> convertersChains = new ConcurrentHashMap<>();
+    private final Map<Type, Optional<ParameterConverter>> baseConverters = new ConcurrentHashMap<>();
+    private final AtomicInteger convertersVersion = new AtomicInteger();
     private String escapedCollectionSeparator;
 
 
@@ -269,6 +275,9 @@ public class ParameterConverters {
 
     private ParameterConverters(StepMonitor monitor, List<ParameterConverter> converters, boolean threadSafe) {
         this.monitor = monitor;
+        // the converters are not reported to the monitors known to ignore them
+        this.monitorSilent = monitor.getClass() == SilentStepMonitor.class
+                || monitor.getClass() == NullStepMonitor.class;
         this.threadSafe = threadSafe;
         this.converters = threadSafe ? new CopyOnWriteArrayList<>(converters)
                 : new ArrayList<>(converters);
@@ -325,6 +334,10 @@ public class ParameterConverters {
 
     public ParameterConverters addConverters(List<? extends ParameterConverter> converters) {
         this.converters.addAll(0, converters);
+        // the added converters take precedence over those already resolved
+        this.convertersVersion.incrementAndGet();
+        this.convertersChains.clear();
+        this.baseConverters.clear();
         return this;
     }
 
@@ -340,12 +353,13 @@ public class ParameterConverters {
 
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public Object convert(String value, Type type) {
-        Queue<ParameterConverter> converters = findConverters(type);
+        ConvertersChain convertersChain = convertersChainFor(type);
+        Queue<ParameterConverter> converters = convertersChain.converters;
         if (isChainComplete(converters)) {
             Object converted = applyConverters(value, type, converters);
-            Queue<Class<?>> classes = converters.stream().map(ParameterConverter::getClass)
-                    .collect(Collectors.toCollection(LinkedList::new));
-            monitor.convertedValueOfType(value, type, converted, classes);
+            if (!monitorSilent) {
+                monitor.convertedValueOfType(value, type, converted, convertersChain.converterClasses());
+            }
             return converted;
         }
 
@@ -391,20 +405,56 @@ public class ParameterConverters {
     }
 
     private ParameterConverter findBaseConverter(Type type) {
-        for (ParameterConverter converter : converters) {
-            if (converter.canConvertFrom(String.class) && converter.canConvertTo(type)) {
-                return converter;
+        Optional<ParameterConverter> baseConverter = baseConverters.get(type);
+        if (baseConverter == null) {
+            int version = convertersVersion.get();
+            baseConverter = Optional.empty();
+            for (ParameterConverter converter : converters) {
+                if (converter.canConvertFrom(String.class) && converter.canConvertTo(type)) {
+                    baseConverter = Optional.of(converter);
+                    break;
+                }
             }
+            cache(baseConverters, type, baseConverter, version);
         }
-        return null;
+        return baseConverter.orElse(null);
     }
 
     private Queue<ParameterConverter> findConverters(Type type) {
-        LinkedList<ParameterConverter> convertersChain = new LinkedList<>();
-        putConverters(type, convertersChain);
+        return convertersChainFor(type).converters;
+    }
+
+    /**
+     * Returns the chain of converters to the type, which is resolved once per
+     * type and reused until any converter is added.
+     *
+     * @param type the Type to convert to
+     * @return The {@link ConvertersChain}
+     */
+    private ConvertersChain convertersChainFor(Type type) {
+        // not computed atomically, as converters may convert values when resolved
+        ConvertersChain convertersChain = convertersChains.get(type);
+        if (convertersChain == null) {
+            int version = convertersVersion.get();
+            LinkedList<ParameterConverter> converters = new LinkedList<>();
+            putConverters(type, converters);
+            convertersChain = new ConvertersChain(converters);
+            cache(convertersChains, type, convertersChain, version);
+        }
         return convertersChain;
     }
 
+    /**
+     * Caches what is resolved from the converters for the type, unless converters were added since the resolution
+     * began: the resolved value is then dropped, whether the cache was cleared before or after it was put.
+     */
+    private <T> void cache(Map<Type, T> cache, Type type, T resolved, int version) {
+        cache.put(type, resolved);
+        if (convertersVersion.get() != version) {
+            cache.remove(type, resolved);
+        }
+    }
+
     private void putConverters(Type type, LinkedList<ParameterConverter> container) {
         for (ParameterConverter converter : converters) {
             if (converter.canConvertTo(type)) {
@@ -509,6 +559,26 @@ public class ParameterConverters {
         return new ParameterConverters(monitor, convertersForNewInstance, threadSafe);
     }
 
+    /**
+     * The chain of converters to a type, which is not modified once resolved.
+     */
+    private static class ConvertersChain {
+        private final Queue<ParameterConverter> converters;
+
+        ConvertersChain(Queue<ParameterConverter> converters) {
+            this.converters = converters;
+        }
+
+        /**
+         * Returns the classes of the converters as reported to the monitor, in a queue of its own, as the monitor
+         * may consume it
+         */
+        Queue<Class<?>> converterClasses() {
+            return converters.stream().map(ParameterConverter::getClass)
+                    .collect(Collectors.toCollection(LinkedList::new));
+        }
+    }
+
     /**
      * A parameter converter for generic type of source input and target output.
      * The converters can be chained to allow for the target of one converter
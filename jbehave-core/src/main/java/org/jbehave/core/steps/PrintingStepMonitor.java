@@ -20,10 +20,13 @@ public abstract class PrintingStepMonitor implements StepMonitor {
     private static final String CONVERTED_VALUE_OF_TYPE = "Converted value '%s' of type '%s' to '%s' with %s '%s'";
     private static final String STEP_MATCHES_TYPE = "Step '%s' (with previous step '%s') %s type '%s' for method '%s' with annotations '%s' in steps instance '%s'";
     private static final String STEP_MATCHES_PATTERN = "Step '%s' %s pattern '%s' for method '%s' with annotations '%s' in steps instance '%s'";
+    private static final String STEP_RESOLUTION_CACHE_LOOKUP = "Step '%s' resolution %s cache (hits: %d, misses: %d)";
     private static final String PERFORMING = "Performing step '%s'%s";
     private static final String DRY_RUN = " (DRY RUN)";
     private static final String MATCHES = "matches";
     private static final String DOES_NOT_MATCH = "does not match";
+    private static final String FOUND_IN = "found in";
+    private static final String NOT_FOUND_IN = "not found in";
     private static final String USING_NAME_FOR_PARAMETER = "Using %s name '%s' for parameter position %d";
     private static final String ANNOTATED = "annotated";
     private static final String PARAMETER = "parameter";
@@ -46,6 +49,11 @@ public abstract class PrintingStepMonitor implements StepMonitor {
         print(STEP_MATCHES_PATTERN, step, matches(matches), stepPattern, method, getAnnotations(method), stepsInstance);
     }
 
+    @Override
+    public void stepResolutionCacheLookup(String step, boolean hit, long hits, long misses) {
+        print(STEP_RESOLUTION_CACHE_LOOKUP, step, hit ? FOUND_IN : NOT_FOUND_IN, hits, misses);
+    }
+
     @Override
     public void convertedValueOfType(String value, Type type, Object converted, Queue<Class<?>> converterClasses) {
         String classes = converterClasses.stream().map(Class::getName).collect(Collectors.joining(" -> "));
@@ -0,0 +1,18 @@
+package org.jbehave.core.steps;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * {@link StepMethodInvoker} which invokes the step methods via reflection, using {@link Method#invoke(Object,
+ * Object...)}
+ */
+public class ReflectiveStepMethodInvoker implements StepMethodInvoker {
+
+    @Override
+    public Object invoke(Method method, Object stepsInstance, Object[] parameters)
+            throws InvocationTargetException, IllegalAccessException {
+        return method.invoke(stepsInstance, parameters);
+    }
+
+}
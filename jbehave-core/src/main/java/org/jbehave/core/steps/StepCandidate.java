@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.regex.Matcher;
 
 import com.thoughtworks.paranamer.Paranamer;
 
@@ -18,6 +19,7 @@ import org.jbehave.core.annotations.Then;
 import org.jbehave.core.annotations.When;
 import org.jbehave.core.configuration.Keywords;
 import org.jbehave.core.configuration.Keywords.StartingWordNotFound;
+import org.jbehave.core.configuration.Keywords.StepStartingWord;
 import org.jbehave.core.parsers.StepMatcher;
 import org.jbehave.core.parsers.StepPatternParser;
 import org.jbehave.core.steps.context.StepsContext;
@@ -88,6 +90,10 @@ public class StepCandidate {
         return stepType;
     }
 
+    public StepMatcher getStepMatcher() {
+        return stepMatcher;
+    }
+
     public String getStartingWord() {
         return keywords.startingWordFor(stepType);
     }
@@ -105,6 +111,10 @@ public class StepCandidate {
         this.stepCreator.useParanamer(paranamer);
     }
 
+    public void useStepMethodInvoker(StepMethodInvoker stepMethodInvoker) {
+        this.stepCreator.useStepMethodInvoker(stepMethodInvoker);
+    }
+
     public void composedOf(String[] steps) {
         this.composedSteps = steps;
     }
@@ -155,6 +165,18 @@ public class StepCandidate {
     }
 
     public boolean matches(String step, String previousNonAndStep) {
+        return match(step, previousNonAndStep) != null;
+    }
+
+    /**
+     * Matches the textual step, as {@link #matches(String, String)} does, retaining the outcome of the match, so that
+     * the matched step can be created without its pattern being matched again.
+     *
+     * @param step the textual step
+     * @param previousNonAndStep the previous non-AND textual step, may be <code>null</code>
+     * @return The StepMatchResult, or <code>null</code> if the step is not matched
+     */
+    public StepMatchResult match(String step, String previousNonAndStep) {
         try {
             boolean matchesType = true;
             if (keywords.isAndStep(step)) {
@@ -167,68 +189,158 @@ public class StepCandidate {
                 }
             }
             stepMonitor.stepMatchesType(step, previousNonAndStep, matchesType, stepType, method, stepsType);
-            boolean matchesPattern = stepMatcher.matcher(stripStartingWord(step)).matches();
+            String stepWithoutStartingWord = stepWithoutStartingWord(step);
+            if (stepWithoutStartingWord == null) {
+                return null;
+            }
+            Matcher matcher = stepMatcher.matcher(stepWithoutStartingWord);
+            boolean matchesPattern = matcher.matches();
             stepMonitor.stepMatchesPattern(step, matchesPattern, stepMatcher.pattern(), method, stepsType);
             // must match both type and pattern
-            return matchesType && matchesPattern;
+            return matchesType && matchesPattern ? new StepMatchResult(matcher) : null;
         } catch (StartingWordNotFound e) {
-            return false;
+            return null;
         }
     }
 
+    /**
+     * Returns the type of the previous non-AND step when the step is an AND step, as this is the only context
+     * which {@link #matches(String, String)} depends upon.
+     */
+    StepType previousNonAndStepType(String step, String previousNonAndStep) {
+        try {
+            if (previousNonAndStep != null && keywords.isAndStep(step)) {
+                return keywords.stepTypeFor(previousNonAndStep);
+            }
+        } catch (StartingWordNotFound e) {
+            // no type can be resolved
+        }
+        return null;
+    }
+
+    void matchedFromCache(String step) {
+        stepMonitor.stepMatchesPattern(step, true, stepMatcher.pattern(), method, stepsType);
+    }
+
     public Step createMatchedStep(String stepAsString, Map<String, String> namedParameters, List<Step> composedSteps) {
         return stepCreator.createParametrisedStep(method, stepAsString, stripStartingWord(stepAsString),
                 namedParameters, composedSteps);
     }
 
+    public Step createMatchedStep(String stepAsString, StepMatchResult stepMatch, Map<String, String> namedParameters,
+            List<Step> composedSteps) {
+        return stepCreator.createParametrisedStep(method, stepAsString, stepMatch, namedParameters, composedSteps);
+    }
+
     public Step createMatchedStepUponOutcome(String stepAsString, Map<String, String> namedParameters,
             List<Step> composedSteps, Outcome outcome) {
         return stepCreator.createParametrisedStepUponOutcome(method, stepAsString, stripStartingWord(stepAsString),
                 namedParameters, composedSteps, outcome);
     }
 
+    public Step createMatchedStepUponOutcome(String stepAsString, StepMatchResult stepMatch,
+            Map<String, String> namedParameters, List<Step> composedSteps, Outcome outcome) {
+        return stepCreator.createParametrisedStepUponOutcome(method, stepAsString, stepMatch, namedParameters,
+                composedSteps, outcome);
+    }
+
     public void addComposedSteps(List<Step> steps, String stepAsString, Map<String, String> namedParameters,
             List<StepCandidate> allCandidates) {
-        Map<String, String> matchedParameters = stepCreator.matchedParameters(method,
-                keywords.stepWithoutStartingWord(stepAsString), namedParameters);
+        addResolvedComposedSteps(steps, stepAsString, null, namedParameters, resolveComposedSteps(allCandidates));
+    }
 
-        Map<String, String> mergedParameters = new HashMap<>(namedParameters);
-        mergedParameters.putAll(matchedParameters);
+    public void addComposedSteps(List<Step> steps, String stepAsString, StepMatchResult stepMatch,
+            Map<String, String> namedParameters, List<StepCandidate> allCandidates) {
+        addResolvedComposedSteps(steps, stepAsString, stepMatch, namedParameters,
+                resolveComposedSteps(allCandidates));
+    }
+
+    /**
+     * Resolves the composed steps of this composite candidate to the candidates matching them amongst all the
+     * candidates, recursively for the matching candidates which are themselves composite. As the resolution only
+     * depends on the composed steps and on the order of priority of the candidates, it can be retained for that order
+     * and then only parametrised via {@link #addResolvedComposedSteps(List, String, StepMatchResult, Map, List)} each
+     * time the composite step is matched.
+     *
+     * @param allCandidates the List of all StepCandidate, in order of priority
+     * @return The List of ResolvedComposedStep
+     * @throws CompositeCycleFound if a composite candidate is composed, directly or not, of itself
+     */
+    List<ResolvedComposedStep> resolveComposedSteps(List<StepCandidate> allCandidates) {
+        return resolveComposedSteps(allCandidates, new HashMap<>(), new ArrayList<>());
+    }
 
+    private List<ResolvedComposedStep> resolveComposedSteps(List<StepCandidate> allCandidates,
+            Map<StepCandidate, List<ResolvedComposedStep>> resolvedComposites, List<StepCandidate> compositesPath) {
+        List<ResolvedComposedStep> resolvedComposedSteps = resolvedComposites.get(this);
+        if (resolvedComposedSteps != null) {
+            return resolvedComposedSteps;
+        }
+        if (compositesPath.contains(this)) {
+            throw new CompositeCycleFound(compositesPath, this);
+        }
+        compositesPath.add(this);
+        resolvedComposedSteps = new ArrayList<>(composedSteps.length);
         String previousNonAndStep = null;
         for (String composedStep : composedSteps) {
-            addComposedStep(steps, composedStep, previousNonAndStep, mergedParameters, allCandidates);
+            resolvedComposedSteps.add(resolveComposedStep(composedStep, previousNonAndStep, allCandidates,
+                    resolvedComposites, compositesPath));
             if (!(keywords.isAndStep(composedStep) || keywords.isIgnorableStep(composedStep))) {
                 // only update previous step if not AND or IGNORABLE step
                 previousNonAndStep = composedStep;
             }
         }
+        compositesPath.remove(compositesPath.size() - 1);
+        resolvedComposites.put(this, resolvedComposedSteps);
+        return resolvedComposedSteps;
     }
 
-    private void addComposedStep(List<Step> steps, String composedStep, String previousNonAndStep,
-            Map<String, String> matchedParameters, List<StepCandidate> allCandidates) {
+    private ResolvedComposedStep resolveComposedStep(String composedStep, String previousNonAndStep,
+            List<StepCandidate> allCandidates, Map<StepCandidate, List<ResolvedComposedStep>> resolvedComposites,
+            List<StepCandidate> compositesPath) {
         if (ignore(composedStep)) {
-            // ignorable steps are added so they can be reported
-            steps.add(StepCreator.createIgnorableStep(composedStep));
-        } else if (comment(composedStep)) {
-            // comments are added so they can be reported
-            steps.add(StepCreator.createComment(composedStep));
-        } else {
-            StepCandidate candidate = findComposedCandidate(composedStep, previousNonAndStep, allCandidates);
-            if (candidate != null) {
-                List<Step> composedSteps = new ArrayList<>();
-                if (candidate.isComposite()) {
-                    // candidate is itself composite: recursively add composed steps
-                    candidate.addComposedSteps(composedSteps, composedStep, matchedParameters, allCandidates);
-                }
-                steps.add(candidate.createMatchedStep(composedStep, matchedParameters, composedSteps));
-            } else {
-                steps.add(StepCreator.createPendingStep(composedStep, previousNonAndStep));
-            }
+            return new ResolvedComposedStep(composedStep, previousNonAndStep, ResolvedComposedStep.Kind.IGNORABLE);
+        }
+        if (comment(composedStep)) {
+            return new ResolvedComposedStep(composedStep, previousNonAndStep, ResolvedComposedStep.Kind.COMMENT);
+        }
+        ComposedMatch composedMatch = findComposedCandidate(composedStep, previousNonAndStep, allCandidates);
+        if (composedMatch == null) {
+            return new ResolvedComposedStep(composedStep, previousNonAndStep, ResolvedComposedStep.Kind.PENDING);
         }
+        StepCandidate candidate = composedMatch.candidate;
+        List<ResolvedComposedStep> nestedComposedSteps = candidate.isComposite()
+                ? candidate.resolveComposedSteps(allCandidates, resolvedComposites, compositesPath)
+                : null;
+        return new ResolvedComposedStep(composedStep, candidate, composedMatch.stepMatch, nestedComposedSteps);
     }
 
-    private StepCandidate findComposedCandidate(String composedStep, String previousNonAndStep,
+    /**
+     * Adds the composed steps, as resolved by {@link #resolveComposedSteps(List)}, parametrised with the parameters
+     * matched by the composite step and the named parameters.
+     *
+     * @param steps the List of Step to add the composed steps to
+     * @param stepAsString the textual composite step
+     * @param stepMatch the StepMatchResult of the composite step or <code>null</code> if the step is to be matched
+     * @param namedParameters the Map of named parameters
+     * @param resolvedComposedSteps the List of ResolvedComposedStep
+     */
+    void addResolvedComposedSteps(List<Step> steps, String stepAsString, StepMatchResult stepMatch,
+            Map<String, String> namedParameters, List<ResolvedComposedStep> resolvedComposedSteps) {
+        Map<String, String> matchedParameters = stepMatch != null
+                ? stepCreator.matchedParameters(method, stepMatch, namedParameters)
+                : stepCreator.matchedParameters(method, keywords.stepWithoutStartingWord(stepAsString),
+                        namedParameters);
+
+        Map<String, String> mergedParameters = new HashMap<>(namedParameters);
+        mergedParameters.putAll(matchedParameters);
+
+        for (ResolvedComposedStep resolvedComposedStep : resolvedComposedSteps) {
+            steps.add(resolvedComposedStep.createStep(mergedParameters));
+        }
+    }
+
+    private ComposedMatch findComposedCandidate(String composedStep, String previousNonAndStep,
             List<StepCandidate> allCandidates) {
         StepType stepType;
         if (keywords.isAndStep(composedStep)) {
@@ -242,14 +354,29 @@ public class StepCandidate {
             stepType = keywords.stepTypeFor(composedStep);
         }
         for (StepCandidate candidate : allCandidates) {
-            if (stepType == candidate.getStepType() && (StringUtils.endsWith(composedStep,
-                    candidate.getPatternAsString()) || candidate.matches(composedStep, previousNonAndStep))) {
-                return candidate;
+            if (stepType == candidate.getStepType()) {
+                if (StringUtils.endsWith(composedStep, candidate.getPatternAsString())) {
+                    // the step is matched when created
+                    return new ComposedMatch(candidate, null);
+                }
+                StepMatchResult stepMatch = candidate.match(composedStep, previousNonAndStep);
+                if (stepMatch != null) {
+                    return new ComposedMatch(candidate, stepMatch);
+                }
             }
         }
         return null;
     }
 
+    /**
+     * Returns the step without the starting word of the type of this candidate, or <code>null</code> if the step
+     * does not start with any such word
+     */
+    String stepWithoutStartingWord(String stepAsString) {
+        StepStartingWord stepStartingWord = keywords.stepStartingWord(stepAsString, stepType);
+        return stepStartingWord != null ? stepStartingWord.stepWithoutStartingWord(stepAsString) : null;
+    }
+
     private String stripStartingWord(String stepAsString) {
         return keywords.stepWithoutStartingWord(stepAsString, stepType);
     }
@@ -259,4 +386,96 @@ public class StepCandidate {
         return stepType + " " + patternAsString;
     }
 
+    /**
+     * A composed step resolved to the candidate matching it, or to the outcome of it being pending, ignorable or a
+     * comment
+     */
+    static final class ResolvedComposedStep {
+
+        enum Kind {
+            MATCHED, PENDING, IGNORABLE, COMMENT
+        }
+
+        private final String stepAsString;
+        private final String previousNonAndStep;
+        private final Kind kind;
+        private final StepCandidate candidate;
+        private final StepMatchResult stepMatch;
+        private final List<ResolvedComposedStep> composedSteps;
+
+        ResolvedComposedStep(String stepAsString, String previousNonAndStep, Kind kind) {
+            this.stepAsString = stepAsString;
+            this.previousNonAndStep = previousNonAndStep;
+            this.kind = kind;
+            this.candidate = null;
+            this.stepMatch = null;
+            this.composedSteps = null;
+        }
+
+        ResolvedComposedStep(String stepAsString, StepCandidate candidate, StepMatchResult stepMatch,
+                List<ResolvedComposedStep> composedSteps) {
+            this.stepAsString = stepAsString;
+            this.previousNonAndStep = null;
+            this.kind = Kind.MATCHED;
+            this.candidate = candidate;
+            this.stepMatch = stepMatch;
+            this.composedSteps = composedSteps;
+        }
+
+        Kind kind() {
+            return kind;
+        }
+
+        StepCandidate candidate() {
+            return candidate;
+        }
+
+        List<ResolvedComposedStep> composedSteps() {
+            return composedSteps;
+        }
+
+        Step createStep(Map<String, String> parameters) {
+            switch (kind) {
+                case IGNORABLE:
+                    // ignorable steps are added so they can be reported
+                    return StepCreator.createIgnorableStep(stepAsString);
+                case COMMENT:
+                    // comments are added so they can be reported
+                    return StepCreator.createComment(stepAsString);
+                case PENDING:
+                    return StepCreator.createPendingStep(stepAsString, previousNonAndStep);
+                default:
+                    List<Step> steps = new ArrayList<>();
+                    if (composedSteps != null) {
+                        // candidate is itself composite: recursively add composed steps
+                        candidate.addResolvedComposedSteps(steps, stepAsString, stepMatch, parameters,
+                                composedSteps);
+                    }
+                    return stepMatch != null
+                            ? candidate.createMatchedStep(stepAsString, stepMatch, parameters, steps)
+                            : candidate.createMatchedStep(stepAsString, parameters, steps);
+            }
+        }
+    }
+
+    @SuppressWarnings("serial")
+    public static class CompositeCycleFound extends RuntimeException {
+
+        public CompositeCycleFound(List<StepCandidate> compositesPath, StepCandidate candidate) {
+            super("Composite step " + candidate + " is composed of itself: "
+                    + compositesPath.subList(compositesPath.indexOf(candidate), compositesPath.size()) + " -> "
+                    + candidate);
+        }
+    }
+
+    private static class ComposedMatch {
+        private final StepCandidate candidate;
+        private final StepMatchResult stepMatch;
+
+        ComposedMatch(StepCandidate candidate, StepMatchResult stepMatch) {
+            this.candidate = candidate;
+            this.stepMatch = stepMatch;
+        }
+    }
+
 }
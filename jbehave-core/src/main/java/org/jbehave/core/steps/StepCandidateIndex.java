@@ -0,0 +1,490 @@
+package org.jbehave.core.steps;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.regex.Pattern;
+
+import org.jbehave.core.parsers.AutomatonPatternParser;
+import org.jbehave.core.parsers.AutomatonStepMatcher;
+import org.jbehave.core.parsers.RegexPrefixCapturingPatternParser;
+import org.jbehave.core.parsers.StepMatcher;
+
+/**
+ * <p>
+ * Index of {@link StepCandidate}s which narrows down the candidates that can possibly match a textual step, so that
+ * only a few plausible candidates need to have their pattern evaluated.
+ * </p>
+ * <p>
+ * The candidates are bucketed by {@link StepType} and, within each bucket, by the literal text preceding the first
+ * parameter of their pattern, as resolved by the {@link StepMatcher} (e.g. via the
+ * {@link RegexPrefixCapturingPatternParser}). The literal prefixes are held in a prefix trie, in which whitespace is
+ * folded the same way as it is in the resolved patterns. Candidates whose literal prefix cannot be safely determined
+ * are always considered plausible.
+ * </p>
+ * <p>
+ * The candidates whose step matchers are {@link AutomatonStepMatcher}s, as created by the
+ * {@link AutomatonPatternParser}, are instead combined, per {@link StepType}, into a single automaton over the literal
+ * text, the whitespace and the parameters of their whole patterns, which finds in one pass over the textual step only
+ * the candidates whose pattern it matches.
+ * </p>
+ * <p>
+ * The plausible candidates are returned in the same relative order as in the indexed list, so that any stable
+ * prioritisation yields the same ordering as when applied to the full list of candidates.
+ * </p>
+ * <p>
+ * The index is meant to be built once per set of candidates, as done by
+ * {@link org.jbehave.core.embedder.AllStepCandidates}, and handed over to the {@link StepCollector} via the read-only
+ * view of its candidates returned by {@link #asList()}, from which {@link #of(List)} retrieves it.
+ * </p>
+ */
+public class StepCandidateIndex {
+
+    private static final char WHITESPACE = ' ';
+    private static final int WHITESPACE_TOKEN = -1;
+    private static final int PARAMETER_TOKEN = -2;
+    private static final String PARAMETER_REGEX = "(.*)";
+    private static final String REGEX_META_CHARACTERS = "[](){}.*+?^$|";
+    private static final int UNSUPPORTED_FLAGS = Pattern.CASE_INSENSITIVE | Pattern.COMMENTS | Pattern.LITERAL
+            | Pattern.CANON_EQ;
+
+    private final List<StepCandidate> candidates;
+    private final Map<StepType, Bucket> buckets = new EnumMap<>(StepType.class);
+    private final Map<StepType, Automaton> automata = new EnumMap<>(StepType.class);
+    private final List<IndexedCandidate> unindexed = new ArrayList<>();
+    private final List<StepCandidate> view = new View();
+    private final Map<MarkUnmatchedStepsAsPending, StepResolutionCache> resolutionCaches = Collections
+            .synchronizedMap(new WeakHashMap<>());
+
+    public StepCandidateIndex(List<StepCandidate> candidates) {
+        this.candidates = candidates;
+        for (int position = 0; position < candidates.size(); position++) {
+            StepCandidate candidate = candidates.get(position);
+            IndexedCandidate indexed = new IndexedCandidate(position, candidate);
+            int[] patternTokens = patternTokens(candidate.getStepMatcher());
+            if (patternTokens != null && candidate.getStepType() != null) {
+                automata.computeIfAbsent(candidate.getStepType(), type -> new Automaton(candidate))
+                        .add(patternTokens, indexed);
+                continue;
+            }
+            String literalPrefix = literalPrefix(candidate.getStepMatcher());
+            if (literalPrefix != null && candidate.getStepType() != null) {
+                buckets.computeIfAbsent(candidate.getStepType(), type -> new Bucket(candidate))
+                        .add(literalPrefix, indexed);
+            } else {
+                unindexed.add(indexed);
+            }
+        }
+    }
+
+    /**
+     * Returns the index bound to the given list of candidates, if it is the view of an index, or else builds the
+     * index of the candidates
+     *
+     * @param candidates the List of StepCandidate
+     * @return The StepCandidateIndex
+     */
+    public static StepCandidateIndex of(List<StepCandidate> candidates) {
+        if (candidates instanceof View) {
+            return ((View) candidates).index();
+        }
+        return new StepCandidateIndex(candidates);
+    }
+
+    /**
+     * Returns a read-only view of the indexed candidates, which is bound to this index
+     *
+     * @return The List of StepCandidate
+     */
+    public List<StepCandidate> asList() {
+        return view;
+    }
+
+    /**
+     * Returns the list of candidates from which the index was built
+     *
+     * @return The List of StepCandidate
+     */
+    public List<StepCandidate> getCandidates() {
+        return candidates;
+    }
+
+    /**
+     * Determines if the index was built from the given list of candidates
+     *
+     * @param candidates the List of StepCandidate
+     * @return A boolean <code>true</code> if the index was built from the same list instance or if it is its view
+     */
+    public boolean indexes(List<StepCandidate> candidates) {
+        return this.candidates == candidates || view == candidates;
+    }
+
+    /**
+     * Returns the cache of the step resolutions of the given collector against the indexed candidates, which is kept
+     * along with the index for as long as the collector is in use, so that a collector alternating between several
+     * indexes, e.g. via embedders sharing a configuration, does not rebuild their caches
+     *
+     * @param collector the MarkUnmatchedStepsAsPending resolving the steps
+     * @param maxSize the maximum number of cached step resolutions
+     * @return The StepResolutionCache
+     */
+    StepResolutionCache resolutionCache(MarkUnmatchedStepsAsPending collector, int maxSize) {
+        return resolutionCaches.computeIfAbsent(collector, c -> new StepResolutionCache(this, maxSize));
+    }
+
+    /**
+     * Finds the candidates that could possibly match the textual step, in the order in which they were indexed
+     *
+     * @param stepAsString the textual step
+     * @return A mutable List of StepCandidate
+     */
+    public List<StepCandidate> findCandidates(String stepAsString) {
+        List<IndexedCandidate> found = new ArrayList<>(unindexed);
+        for (Bucket bucket : buckets.values()) {
+            bucket.collect(stepAsString, found);
+        }
+        for (Automaton automaton : automata.values()) {
+            automaton.collect(stepAsString, found);
+        }
+        if (found.size() > unindexed.size()) {
+            found.sort(null);
+        }
+        List<StepCandidate> plausible = new ArrayList<>(found.size());
+        for (IndexedCandidate indexed : found) {
+            plausible.add(indexed.candidate);
+        }
+        return plausible;
+    }
+
+    /**
+     * Returns the literal text which any step matched by the given matcher must start with, with whitespace folded
+     * into single spaces, or <code>null</code> if it cannot be safely determined.
+     */
+    static String literalPrefix(StepMatcher stepMatcher) {
+        if (stepMatcher == null) {
+            return null;
+        }
+        Pattern pattern = stepMatcher.matcher("").pattern();
+        if ((pattern.flags() & UNSUPPORTED_FLAGS) != 0) {
+            return null;
+        }
+        String regex = pattern.pattern();
+        if (hasAlternation(regex)) {
+            return null;
+        }
+        StringBuilder prefix = new StringBuilder();
+        int i = 0;
+        while (i < regex.length()) {
+            char c = regex.charAt(i);
+            char literal;
+            if (c == '\\') {
+                if (i + 1 == regex.length()) {
+                    break;
+                }
+                char escaped = regex.charAt(i + 1);
+                if (escaped == 's') {
+                    i += 2;
+                    if (i < regex.length() && isOptionalQuantifier(regex.charAt(i))) {
+                        break;
+                    }
+                    if (i < regex.length() && regex.charAt(i) == '+') {
+                        i++;
+                    }
+                    appendWhitespace(prefix);
+                    continue;
+                }
+                if (Character.isLetterOrDigit(escaped)) {
+                    // a character class or a construct such as \Q or \b
+                    break;
+                }
+                literal = escaped;
+                i += 2;
+            } else if (REGEX_META_CHARACTERS.indexOf(c) >= 0) {
+                break;
+            } else {
+                literal = c;
+                i++;
+            }
+            if (i < regex.length() && isOptionalQuantifier(regex.charAt(i))) {
+                // the literal is optional and cannot be part of the prefix
+                break;
+            }
+            if (isWhitespace(literal)) {
+                appendWhitespace(prefix);
+            } else {
+                prefix.append(literal);
+            }
+            if (i < regex.length() && regex.charAt(i) == '+') {
+                break;
+            }
+        }
+        return prefix.toString();
+    }
+
+    /**
+     * Returns the tokens of the whole pattern of the given matcher, if it is an {@link AutomatonStepMatcher}: the
+     * literal characters, the whitespace matched by <code>\s+</code> as {@link #WHITESPACE_TOKEN} and the parameters
+     * captured by <code>(.*)</code> as {@link #PARAMETER_TOKEN}, or <code>null</code> if the pattern contains any other
+     * regex construct.
+     */
+    static int[] patternTokens(StepMatcher stepMatcher) {
+        if (!(stepMatcher instanceof AutomatonStepMatcher)) {
+            return null;
+        }
+        Pattern pattern = stepMatcher.matcher("").pattern();
+        if ((pattern.flags() & (UNSUPPORTED_FLAGS | Pattern.UNICODE_CHARACTER_CLASS)) != 0) {
+            return null;
+        }
+        boolean parametersMatchAnyCharacter = (pattern.flags() & Pattern.DOTALL) != 0;
+        String regex = pattern.pattern();
+        int[] tokens = new int[regex.length()];
+        int count = 0;
+        int i = 0;
+        while (i < regex.length()) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                if (i + 1 == regex.length()) {
+                    return null;
+                }
+                char escaped = regex.charAt(i + 1);
+                if (escaped == 's' && regex.startsWith("+", i + 2)) {
+                    tokens[count++] = WHITESPACE_TOKEN;
+                    i += 3;
+                } else if (Character.isLetterOrDigit(escaped)) {
+                    return null;
+                } else {
+                    tokens[count++] = escaped;
+                    i += 2;
+                }
+            } else if (regex.startsWith(PARAMETER_REGEX, i) && parametersMatchAnyCharacter) {
+                tokens[count++] = PARAMETER_TOKEN;
+                i += PARAMETER_REGEX.length();
+            } else if (REGEX_META_CHARACTERS.indexOf(c) >= 0) {
+                return null;
+            } else {
+                tokens[count++] = c;
+                i++;
+            }
+        }
+        int[] patternTokens = new int[count];
+        System.arraycopy(tokens, 0, patternTokens, 0, count);
+        return patternTokens;
+    }
+
+    private static boolean hasAlternation(String regex) {
+        for (int i = 0; i < regex.length(); i++) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '|') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isOptionalQuantifier(char c) {
+        return c == '*' || c == '?' || c == '{';
+    }
+
+    private static void appendWhitespace(StringBuilder prefix) {
+        if (prefix.length() == 0 || prefix.charAt(prefix.length() - 1) != WHITESPACE) {
+            prefix.append(WHITESPACE);
+        }
+    }
+
+    /**
+     * Whitespace as matched by the <code>\s</code> regex character class
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
+    }
+
+    private static class Bucket {
+
+        private final StepCandidate representative;
+        private final Node root = new Node();
+
+        Bucket(StepCandidate representative) {
+            this.representative = representative;
+        }
+
+        void add(String literalPrefix, IndexedCandidate indexed) {
+            Node node = root;
+            for (int i = 0; i < literalPrefix.length(); i++) {
+                node = node.children.computeIfAbsent(literalPrefix.charAt(i), c -> new Node());
+            }
+            node.candidates.add(indexed);
+        }
+
+        void collect(String stepAsString, List<IndexedCandidate> found) {
+            String stepWithoutStartingWord = representative.stepWithoutStartingWord(stepAsString);
+            if (stepWithoutStartingWord == null) {
+                return;
+            }
+            Node node = root;
+            found.addAll(node.candidates);
+            int i = 0;
+            while (i < stepWithoutStartingWord.length()) {
+                char c = stepWithoutStartingWord.charAt(i++);
+                if (isWhitespace(c)) {
+                    c = WHITESPACE;
+                    while (i < stepWithoutStartingWord.length() && isWhitespace(stepWithoutStartingWord.charAt(i))) {
+                        i++;
+                    }
+                }
+                node = node.children.get(c);
+                if (node == null) {
+                    break;
+                }
+                found.addAll(node.candidates);
+            }
+        }
+    }
+
+    /**
+     * Automaton combining the whole patterns of the candidates of a step type, as a trie of their tokens in which the
+     * whitespace and parameter states loop. It is run as a non-deterministic automaton, without being determinised:
+     * a step is read only once, but each character is read by all the states active at that point.
+     */
+    private static class Automaton {
+
+        private final StepCandidate representative;
+        private final State root = new State(State.NO_LOOP);
+
+        Automaton(StepCandidate representative) {
+            this.representative = representative;
+        }
+
+        void add(int[] patternTokens, IndexedCandidate indexed) {
+            State state = root;
+            for (int token : patternTokens) {
+                state = state.next(token);
+            }
+            state.accepted.add(indexed);
+        }
+
+        void collect(String stepAsString, List<IndexedCandidate> found) {
+            String stepWithoutStartingWord = representative.stepWithoutStartingWord(stepAsString);
+            if (stepWithoutStartingWord == null) {
+                return;
+            }
+            Set<State> current = new LinkedHashSet<>();
+            Set<State> next = new LinkedHashSet<>();
+            enter(current, root);
+            for (int i = 0; i < stepWithoutStartingWord.length(); i++) {
+                char c = stepWithoutStartingWord.charAt(i);
+                boolean whitespace = isWhitespace(c);
+                for (State state : current) {
+                    if (state.loop == State.ANY_LOOP || state.loop == State.WHITESPACE_LOOP && whitespace) {
+                        enter(next, state);
+                    }
+                    if (whitespace && state.whitespace != null) {
+                        enter(next, state.whitespace);
+                    }
+                    State literal = state.literals.get(c);
+                    if (literal != null) {
+                        enter(next, literal);
+                    }
+                }
+                if (next.isEmpty()) {
+                    return;
+                }
+                Set<State> read = current;
+                current = next;
+                next = read;
+                next.clear();
+            }
+            for (State state : current) {
+                found.addAll(state.accepted);
+            }
+        }
+
+        /**
+         * Enters the state, along with the parameter state following it, as parameters can be empty
+         */
+        private void enter(Set<State> states, State state) {
+            if (states.add(state) && state.parameter != null) {
+                enter(states, state.parameter);
+            }
+        }
+    }
+
+    private static class State {
+        private static final int NO_LOOP = 0;
+        private static final int WHITESPACE_LOOP = 1;
+        private static final int ANY_LOOP = 2;
+
+        private final int loop;
+        private final Map<Character, State> literals = new HashMap<>();
+        private final List<IndexedCandidate> accepted = new ArrayList<>(1);
+        private State whitespace;
+        private State parameter;
+
+        State(int loop) {
+            this.loop = loop;
+        }
+
+        State next(int token) {
+            if (token == WHITESPACE_TOKEN) {
+                if (whitespace == null) {
+                    whitespace = new State(WHITESPACE_LOOP);
+                }
+                return whitespace;
+            }
+            if (token == PARAMETER_TOKEN) {
+                if (parameter == null) {
+                    parameter = new State(ANY_LOOP);
+                }
+                return parameter;
+            }
+            return literals.computeIfAbsent((char) token, c -> new State(NO_LOOP));
+        }
+    }
+
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private final List<IndexedCandidate> candidates = new ArrayList<>(1);
+    }
+
+    private static class IndexedCandidate implements Comparable<IndexedCandidate> {
+        private final int position;
+        private final StepCandidate candidate;
+
+        IndexedCandidate(int position, StepCandidate candidate) {
+            this.position = position;
+            this.candidate = candidate;
+        }
+
+        @Override
+        public int compareTo(IndexedCandidate o) {
+            return Integer.compare(position, o.position);
+        }
+    }
+
+
+    private final class View extends AbstractList<StepCandidate> implements RandomAccess {
+
+        @Override
+        public StepCandidate get(int index) {
+            return candidates.get(index);
+        }
+
+        @Override
+        public int size() {
+            return candidates.size();
+        }
+
+        StepCandidateIndex index() {
+            return StepCandidateIndex.this;
+        }
+    }
+}
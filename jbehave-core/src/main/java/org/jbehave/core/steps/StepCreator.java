@@ -21,6 +21,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -68,8 +69,10 @@ public class StepCreator {
     private final Pattern delimitedNamePattern;
     private final StepMatcher stepMatcher;
     private final StepsContext stepsContext;
+    private final Map<Method, StepInvocationPlan> invocationPlans = new ConcurrentHashMap<>();
     private StepMonitor stepMonitor;
     private Paranamer paranamer = new NullParanamer();
+    private StepMethodInvoker stepMethodInvoker = new MethodHandleStepMethodInvoker();
     private boolean dryRun = false;
 
     public StepCreator(Class<?> stepsType, InjectableStepsFactory stepsFactory,
@@ -92,6 +95,12 @@ public class StepCreator {
 
     public void useParanamer(Paranamer paranamer) {
         this.paranamer = paranamer;
+        // the plans hold the parameter names looked up by the previous paranamer
+        this.invocationPlans.clear();
+    }
+
+    public void useStepMethodInvoker(StepMethodInvoker stepMethodInvoker) {
+        this.stepMethodInvoker = stepMethodInvoker;
     }
 
     public void doDryRun(boolean dryRun) {
@@ -113,24 +122,30 @@ public class StepCreator {
 
     public Map<String, String> matchedParameters(final Method method, final String stepWithoutStartingWord,
             final Map<String, String> namedParameters) {
-        Map<String, String> matchedParameters = new HashMap<>();
         Matcher matcher = stepMatcher.matcher(stepWithoutStartingWord);
         if (matcher.find()) {
             // we've found a match, populate map
-            ParameterName[] parameterNames = parameterNames(method);
-            Type[] types = parameterTypes(method, parameterNames);
-
-            String[] values = parameterValuesForStep(matcher, namedParameters, types, parameterNames, false);
-            for (int i = 0; i < parameterNames.length; i++) {
-                String name = parameterNames[i].name;
-                if (name == null) {
-                    name = stepMatcher.parameterNames()[i];
-                }
-                matchedParameters.put(name, values[i]);
-            }
+            return matchedParameters(method, new StepMatchResult(matcher), namedParameters);
         }
         // else return empty map
-        return matchedParameters; 
+        return new HashMap<>();
+    }
+
+    public Map<String, String> matchedParameters(final Method method, final StepMatchResult stepMatch,
+            final Map<String, String> namedParameters) {
+        Map<String, String> matchedParameters = new HashMap<>();
+        ParameterName[] parameterNames = parameterNames(method);
+        Type[] types = parameterTypes(method, parameterNames);
+
+        String[] values = parameterValuesForStep(stepMatch, namedParameters, types, parameterNames, false);
+        for (int i = 0; i < parameterNames.length; i++) {
+            String name = parameterNames[i].name;
+            if (name == null) {
+                name = stepMatcher.parameterNames()[i];
+            }
+            matchedParameters.put(name, values[i]);
+        }
+        return matchedParameters;
     }
 
     /**
@@ -142,26 +157,43 @@ public class StepCreator {
      * @return The array of {@link ParameterName}s
      */
     private ParameterName[] parameterNames(Method method) {
-        ParameterName[] parameterNames;
         if (method != null) {
-            String[] annotatedNames = annotatedParameterNames(method);
-            String[] paranamerNames = paranamerParameterNames(method);
-            String[] contextNames = contextParameterNames(method);
-
-            parameterNames = new ParameterName[annotatedNames.length];
-            for (int i = 0; i < annotatedNames.length; i++) {
-                parameterNames[i] = parameterName(annotatedNames, paranamerNames, contextNames, i);
-            }
-        } else {
-            String[] stepMatcherParameterNames = stepMatcher.parameterNames();
-            parameterNames = new ParameterName[stepMatcherParameterNames.length];
-            for (int i = 0; i < stepMatcherParameterNames.length; i++) {
-                parameterNames[i] = new ParameterName(stepMatcherParameterNames[i], false, false);
-            }
+            return invocationPlanFor(method).parameterNames;
+        }
+        String[] stepMatcherParameterNames = stepMatcher.parameterNames();
+        ParameterName[] parameterNames = new ParameterName[stepMatcherParameterNames.length];
+        for (int i = 0; i < stepMatcherParameterNames.length; i++) {
+            parameterNames[i] = new ParameterName(stepMatcherParameterNames[i], false, false);
         }
         return parameterNames;
     }
 
+    /**
+     * Returns the {@link StepInvocationPlan} of the method, which is created
+     * upon first invocation of the method and then reused by any later one.
+     * 
+     * @param method the Method
+     * @return The {@link StepInvocationPlan}
+     */
+    private StepInvocationPlan invocationPlanFor(Method method) {
+        return invocationPlans.computeIfAbsent(method, this::createInvocationPlan);
+    }
+
+    private StepInvocationPlan createInvocationPlan(Method method) {
+        String[] annotatedNames = annotatedParameterNames(method);
+        String[] paranamerNames = paranamerParameterNames(method);
+        String[] contextNames = contextParameterNames(method);
+
+        ParameterName[] parameterNames = new ParameterName[annotatedNames.length];
+        String[] metaNames = new String[annotatedNames.length];
+        for (int i = 0; i < annotatedNames.length; i++) {
+            parameterNames[i] = parameterName(annotatedNames, paranamerNames, contextNames, i);
+            metaNames[i] = annotatedNames[i] != null ? annotatedNames[i]
+                    : (paranamerNames.length > i ? paranamerNames[i] : null);
+        }
+        return new StepInvocationPlan(parameterNames, method.getGenericParameterTypes(), metaNames);
+    }
+
     private ParameterName parameterName(String[] annotatedNames, String[] paranamerNames, String[] contextNames, int i) {
         boolean annotated = true;
         boolean fromContext = false;
@@ -261,7 +293,7 @@ public class StepCreator {
 
     private Type[] parameterTypes(Method method, ParameterName[] parameterNames) {
         if (method != null) {
-            return method.getGenericParameterTypes();
+            return invocationPlanFor(method).parameterTypes;
         }
         Type[] types = new Type[parameterNames.length];
         for (int i = 0; i < types.length; i++) {
@@ -276,6 +308,11 @@ public class StepCreator {
         return new ParametrisedStep(stepAsString, method, stepWithoutStartingWord, namedParameters, composedSteps);
     }
 
+    public Step createParametrisedStep(final Method method, final String stepAsString, final StepMatchResult stepMatch,
+            final Map<String, String> namedParameters, final List<Step> composedSteps) {
+        return new ParametrisedStep(stepAsString, method, stepMatch, namedParameters, composedSteps);
+    }
+
     public Step createParametrisedStepUponOutcome(final Method method, final String stepAsString,
             final String stepWithoutStartingWord, final Map<String, String> namedParameters,
             final List<Step> composedSteps, Outcome outcome) {
@@ -284,6 +321,14 @@ public class StepCreator {
         return wrapStepUponOutcome(outcome, parametrisedStep);
     }
 
+    public Step createParametrisedStepUponOutcome(final Method method, final String stepAsString,
+            final StepMatchResult stepMatch, final Map<String, String> namedParameters, final List<Step> composedSteps,
+            Outcome outcome) {
+        Step parametrisedStep = createParametrisedStep(method, stepAsString, stepMatch, namedParameters,
+                composedSteps);
+        return wrapStepUponOutcome(outcome, parametrisedStep);
+    }
+
     private Step wrapStepUponOutcome(Outcome outcome, Step step) {
         switch (outcome) {
             case ANY:
@@ -423,11 +468,11 @@ public class StepCreator {
         return result;
     }
 
-    private String[] parameterValuesForStep(Matcher matcher, Map<String, String> namedParameters, Type[] types,
-            ParameterName[] names, boolean overrideWithTableParameters) {
+    private String[] parameterValuesForStep(StepMatchResult stepMatch, Map<String, String> namedParameters,
+            Type[] types, ParameterName[] names, boolean overrideWithTableParameters) {
         final String[] parameters = new String[types.length];
         for (int position = 0; position < types.length; position++) {
-            parameters[position] = parameterForPosition(matcher, position, names, namedParameters,
+            parameters[position] = parameterForPosition(stepMatch, position, names, namedParameters,
                     overrideWithTableParameters);
         }
         return parameters;
@@ -445,7 +490,7 @@ public class StepCreator {
         return parameters;
     }
 
-    private String parameterForPosition(Matcher matcher, int position, ParameterName[] names,
+    private String parameterForPosition(StepMatchResult stepMatch, int position, ParameterName[] names,
             Map<String, String> namedParameters, boolean overrideWithTableParameters) {
         int namePosition = parameterPosition(names, position);
         String parameter = null;
@@ -458,7 +503,7 @@ public class StepCreator {
             List<String> delimitedNames = Collections.emptyList();
 
             if (isGroupName(name)) {
-                parameter = matchedParameter(matcher, name);
+                parameter = matchedParameter(stepMatch, name);
                 delimitedNames = delimitedNameFor(parameter);
 
                 if (delimitedNames.isEmpty()) {
@@ -491,7 +536,7 @@ public class StepCreator {
             // This allow parameters to be in different order.
             position = position - numberOfPreviousFromContext(names, position);
             stepMonitor.usingNaturalOrderForParameter(position);
-            parameter = matchedParameter(matcher, position);
+            parameter = matchedParameter(stepMatch, position);
             List<String> delimitedNames = delimitedNameFor(parameter);
 
             for (String delimitedName : delimitedNames) {
@@ -557,22 +602,22 @@ public class StepCreator {
         return delimitedNames;
     }
 
-    String matchedParameter(Matcher matcher, String name) {
+    String matchedParameter(StepMatchResult stepMatch, String name) {
         String[] parameterNames = stepMatcher.parameterNames();
         for (int i = 0; i < parameterNames.length; i++) {
             String parameterName = parameterNames[i];
             if (name.equals(parameterName)) {
-                return matchedParameter(matcher, i);
+                return matchedParameter(stepMatch, i);
             }
         }
         throw new ParameterNotFound(name, parameterNames);
     }
 
-    private String matchedParameter(Matcher matcher, int position) {
+    private String matchedParameter(StepMatchResult stepMatch, int position) {
         String[] parameterNames = stepMatcher.parameterNames();
         int matchedPosition = position + 1;
         if (matchedPosition <= parameterNames.length) {
-            return matcher.group(matchedPosition);
+            return stepMatch.group(matchedPosition);
         }
         throw new ParameterNotFound(position, parameterNames);
     }
@@ -738,8 +783,8 @@ public class StepCreator {
         @Override
         public StepResult perform(StoryReporter storyReporter, UUIDExceptionWrapper storyFailureIfItHappened) {
             ParameterConverters paramConvertersWithExceptionInjector = paramConvertersWithExceptionInjector(storyFailureIfItHappened);
-            MethodInvoker methodInvoker = new MethodInvoker(method, paramConvertersWithExceptionInjector, paranamer,
-                    meta);
+            MethodInvoker methodInvoker = new MethodInvoker(method, paramConvertersWithExceptionInjector,
+                    invocationPlanFor(method), meta);
             Timer timer = new Timer().start();
             try {
                 Object outputObject = methodInvoker.invoke();
@@ -833,14 +878,26 @@ public class StepCreator {
         private String parametrisedStep;
         private final Method method;
         private final String stepWithoutStartingWord;
+        private StepMatchResult stepMatch;
         private final Map<String, String> namedParameters;
         private final List<Step> composedSteps;
 
         public ParametrisedStep(String stepAsString, Method method, String stepWithoutStartingWord,
                 Map<String, String> namedParameters, List<Step> composedSteps) {
+            this(stepAsString, method, stepWithoutStartingWord, null, namedParameters, composedSteps);
+        }
+
+        public ParametrisedStep(String stepAsString, Method method, StepMatchResult stepMatch,
+                Map<String, String> namedParameters, List<Step> composedSteps) {
+            this(stepAsString, method, null, stepMatch, namedParameters, composedSteps);
+        }
+
+        private ParametrisedStep(String stepAsString, Method method, String stepWithoutStartingWord,
+                StepMatchResult stepMatch, Map<String, String> namedParameters, List<Step> composedSteps) {
             super(StepExecutionType.EXECUTABLE, stepAsString);
             this.method = method;
             this.stepWithoutStartingWord = stepWithoutStartingWord;
+            this.stepMatch = stepMatch;
             this.namedParameters = namedParameters;
             this.composedSteps = composedSteps;
         }
@@ -858,7 +915,7 @@ public class StepCreator {
                 parametriseStep();
                 stepMonitor.beforePerforming(parametrisedStep, dryRun, method);
                 if (!dryRun && method != null) {
-                    Object outputObject = method.invoke(stepsInstance(), convertedParameters);
+                    Object outputObject = stepMethodInvoker.invoke(method, stepsInstance(), convertedParameters);
                     storeOutput(outputObject, method);
                 }
                 return successful(stepAsString).withParameterValues(parametrisedStep)
@@ -909,11 +966,15 @@ public class StepCreator {
         }
         
         private void parametriseStep() {
-            Matcher matcher = stepMatcher.matcher(stepWithoutStartingWord);
-            matcher.find();
+            if (stepMatch == null) {
+                // the step has not been matched upon creation
+                Matcher matcher = stepMatcher.matcher(stepWithoutStartingWord);
+                matcher.find();
+                stepMatch = new StepMatchResult(matcher);
+            }
             ParameterName[] names = parameterNames(method);
             Type[] types = parameterTypes(method, names);
-            String[] parameterValues = parameterValuesForStep(matcher, namedParameters, types, names, true);
+            String[] parameterValues = parameterValuesForStep(stepMatch, namedParameters, types, names, true);
             convertedParameters = method == null ? parameterValues
                     : convertParameterValues(parameterValues, types, names);
             addNamedParametersToExamplesTables();
@@ -1010,82 +1071,54 @@ public class StepCreator {
     private class MethodInvoker {
         private final Method method;
         private final ParameterConverters parameterConverters;
-        private final Paranamer paranamer;
+        private final StepInvocationPlan invocationPlan;
         private final Meta meta;
-        private final Type[] parameterTypes;
-        
-        public MethodInvoker(Method method, ParameterConverters parameterConverters, Paranamer paranamer, Meta meta) {
+
+        public MethodInvoker(Method method, ParameterConverters parameterConverters,
+                StepInvocationPlan invocationPlan, Meta meta) {
             this.method = method;
             this.parameterConverters = parameterConverters;
-            this.paranamer = paranamer;
+            this.invocationPlan = invocationPlan;
             this.meta = meta;
-            this.parameterTypes = method.getGenericParameterTypes();
         }
 
         public Object invoke() throws InvocationTargetException, IllegalAccessException {
-            return method.invoke(stepsInstance(), parameterValuesFrom(meta));
-        }
-
-        private Parameter[] methodParameters() {
-            Parameter[] parameters = new Parameter[parameterTypes.length];
-            String[] annotatedNames = annotatedParameterNames(method);
-            String[] paranamerNames = paranamer.lookupParameterNames(method, false);
-
-            for (int position = 0; position < parameterTypes.length; position++) {
-                String name = parameterNameFor(position, annotatedNames, paranamerNames);
-                parameters[position] = new Parameter(position, parameterTypes[position], name);
-            }
-
-            return parameters;
-        }
-
-        private String parameterNameFor(int position, String[] annotatedNames, String[] paranamerNames) {
-            String annotatedName = nameByPosition(annotatedNames, position);
-            String paranamerName = nameByPosition(paranamerNames, position);
-            if (annotatedName != null) {
-                return annotatedName;
-            } else if (paranamerName != null) {
-                return paranamerName;
-            }
-            return null;
-        }
-
-        private String nameByPosition(String[] names, int position) {
-            return position < names.length ? names[position] : null;
+            return stepMethodInvoker.invoke(method, stepsInstance(), parameterValuesFrom(meta));
         }
 
         private Object[] parameterValuesFrom(Meta meta) {
-            Object[] values = new Object[parameterTypes.length];
-            for (Parameter parameter : methodParameters()) {
-                values[parameter.position] = parameterConverters.convert(parameter.valueFrom(meta), parameter.type);
+            Type[] types = invocationPlan.parameterTypes;
+            String[] names = invocationPlan.metaNames;
+            Object[] values = new Object[types.length];
+            for (int position = 0; position < types.length; position++) {
+                String value = names[position] != null ? meta.getProperty(names[position]) : null;
+                values[position] = parameterConverters.convert(value, types[position]);
             }
             return values;
         }
+    }
 
-        private class Parameter {
-            private final int position;
-            private final Type type;
-            private final String name;
-
-            public Parameter(int position, Type type, String name) {
-                this.position = position;
-                this.type = type;
-                this.name = name;
-            }
+    /**
+     * The invocation plan of a step method, resolving once the names, types and
+     * context bindings of its parameters, so that only the parameter values
+     * need to be bound upon each invocation.
+     */
+    private static final class StepInvocationPlan {
+        private final ParameterName[] parameterNames;
+        private final Type[] parameterTypes;
+        private final String[] metaNames;
 
-            public String valueFrom(Meta meta) {
-                if (name == null) {
-                    return null;
-                }
-                return meta.getProperty(name);
-            }
+        private StepInvocationPlan(ParameterName[] parameterNames, Type[] parameterTypes, String[] metaNames) {
+            this.parameterNames = parameterNames;
+            this.parameterTypes = parameterTypes;
+            this.metaNames = metaNames;
         }
     }
 
     private static class ParameterName {
-        private String name;
-        private boolean annotated;
-        private boolean fromContext;
+        private final String name;
+        private final boolean annotated;
+        private final boolean fromContext;
 
         private ParameterName(String name, boolean annotated, boolean fromContext) {
             this.name = name;
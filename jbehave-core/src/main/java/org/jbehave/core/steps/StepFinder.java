@@ -5,6 +5,9 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 
 import org.apache.commons.lang3.StringUtils;
 import org.jbehave.core.annotations.Given;
@@ -159,97 +162,100 @@ public class StepFinder {
 
     /**
      * Strategy to priorise candidate steps by <a
-     * href="http://en.wikipedia.org/wiki/Levenshtein_distance">Levenshtein Distance</a>
+     * href="http://en.wikipedia.org/wiki/Levenshtein_distance">Levenshtein Distance</a>.
+     * The scoring pattern of each candidate is derived once and the distance is calculated once per candidate
+     * and step, so that the sorting only compares the precomputed scores.
      */
     public static class ByLevenshteinDistance implements PrioritisingStrategy {
 
-        private LevenshteinDistance ld = new LevenshteinDistance();
+        private static final Pattern PARAMETER_BETWEEN_SPACES = Pattern.compile("\\s\\$\\w+\\s");
+        private static final Pattern PARAMETER_BEFORE_SPACES = Pattern.compile("\\$\\w + ");
+
+        private final LevenshteinDistance ld = new LevenshteinDistance();
+        private final Map<String, String> scoringPatterns = new ConcurrentHashMap<>();
 
         @Override
-        public List<StepCandidate> prioritise(final String stepAsText, List<StepCandidate> candidates) {
-            Collections.sort(candidates, new Comparator<StepCandidate>() {
-                @Override
-                public int compare(StepCandidate o1, StepCandidate o2) {
-                    String scoringPattern1 = scoringPattern(o1);
-                    String scoringPattern2 = scoringPattern(o2);
-                    String stepWithoutStartingWord = trimStartingWord(stepAsText);
-                    Integer score1 = 0 - ld.calculate(scoringPattern1, stepWithoutStartingWord);
-                    Integer score2 = 0 - ld.calculate(scoringPattern2, stepWithoutStartingWord);
-                    int result = score2.compareTo(score1);
-                    // default to strategy by priority if no score result
-                    return result != 0 ? result : o2.getPriority().compareTo(o1.getPriority());
-                }
+        public List<StepCandidate> prioritise(String stepAsText, List<StepCandidate> candidates) {
+            String stepWithoutStartingWord = trimStartingWord(stepAsText);
+            List<ScoredCandidate> scoredCandidates = new ArrayList<>(candidates.size());
+            for (StepCandidate candidate : candidates) {
+                int distance = ld.calculate(scoringPattern(candidate), stepWithoutStartingWord);
+                scoredCandidates.add(new ScoredCandidate(candidate, distance, candidate.getPriority()));
+            }
+            // lower distance first, defaulting to strategy by priority if distances are the same
+            scoredCandidates.sort(Comparator.comparingInt((ScoredCandidate scored) -> scored.distance)
+                    .thenComparing(scored -> scored.priority, Comparator.reverseOrder()));
+            for (int i = 0; i < scoredCandidates.size(); i++) {
+                candidates.set(i, scoredCandidates.get(i).candidate);
+            }
+            return candidates;
+        }
 
-                private String scoringPattern(StepCandidate candidate) {
-                    return candidate.getPatternAsString().replaceAll("\\s\\$\\w+\\s", " ").replaceAll("\\$\\w + ", "");
-                }
+        private String scoringPattern(StepCandidate candidate) {
+            String patternAsString = candidate.getPatternAsString();
+            String scoringPattern = scoringPatterns.get(patternAsString);
+            if (scoringPattern == null) {
+                scoringPattern = PARAMETER_BEFORE_SPACES.matcher(
+                        PARAMETER_BETWEEN_SPACES.matcher(patternAsString).replaceAll(" ")).replaceAll("");
+                scoringPatterns.put(patternAsString, scoringPattern);
+            }
+            return scoringPattern;
+        }
 
-                private String trimStartingWord(String stepAsString) {
-                    return StringUtils.substringAfter(stepAsString, " ");
-                }
+        private String trimStartingWord(String stepAsString) {
+            return StringUtils.substringAfter(stepAsString, " ");
+        }
 
-            });
-            return candidates;
+        private static class ScoredCandidate {
+            private final StepCandidate candidate;
+            private final int distance;
+            private final Integer priority;
+
+            ScoredCandidate(StepCandidate candidate, int distance, Integer priority) {
+                this.candidate = candidate;
+                this.distance = distance;
+                this.priority = priority;
+            }
         }
 
-        private class LevenshteinDistance {
+        private static class LevenshteinDistance {
 
+            /**
+             * Calculates the distance keeping only two rows of the matrix, the one being calculated and the
+             * previous one, each as long as the shorter string
+             */
             public int calculate(String s, String t) {
-                int d[][]; // matrix
-                int n; // length of s
-                int m; // length of t
-                int i; // iterates through s
-                int j; // iterates through t
-                char s_i; // ith character of s
-                char t_j; // jth character of t
-                int cost; // cost
-
-                // Step 1
-                n = s.length();
-                m = t.length();
-                if (n == 0) {
-                    return m;
+                if (s.length() < t.length()) {
+                    String shorter = s;
+                    s = t;
+                    t = shorter;
                 }
+                int n = s.length();
+                int m = t.length();
                 if (m == 0) {
                     return n;
                 }
-                d = new int[n + 1][m + 1];
-                // Step 2
-                for (i = 0; i <= n; i++) {
-                    d[i][0] = i;
-                }
-                for (j = 0; j <= m; j++) {
-                    d[0][j] = j;
+                int[] previous = new int[m + 1];
+                int[] current = new int[m + 1];
+                for (int j = 0; j <= m; j++) {
+                    previous[j] = j;
                 }
-                // Step 3
-                for (i = 1; i <= n; i++) {
-                    s_i = s.charAt(i - 1);
-                    // Step 4
-                    for (j = 1; j <= m; j++) {
-                        t_j = t.charAt(j - 1);
-                        // Step 5
-                        if (s_i == t_j) {
-                            cost = 0;
-                        } else {
-                            cost = 1;
-                        }
-                        // Step 6
-                        d[i][j] = minimum(d[i - 1][j] + 1, d[i][j - 1] + 1, d[i - 1][j - 1] + cost);
+                for (int i = 1; i <= n; i++) {
+                    char si = s.charAt(i - 1);
+                    current[0] = i;
+                    for (int j = 1; j <= m; j++) {
+                        int cost = si == t.charAt(j - 1) ? 0 : 1;
+                        current[j] = minimum(previous[j] + 1, current[j - 1] + 1, previous[j - 1] + cost);
                     }
+                    int[] swapped = previous;
+                    previous = current;
+                    current = swapped;
                 }
-                // Step 7
-                return d[n][m];
+                return previous[m];
             }
 
             private int minimum(int a, int b, int c) {
-                int mi = a;
-                if (b < mi) {
-                    mi = b;
-                }
-                if (c < mi) {
-                    mi = c;
-                }
-                return mi;
+                return Math.min(Math.min(a, b), c);
             }
 
         }
@@ -0,0 +1,43 @@
+package org.jbehave.core.steps;
+
+import java.util.regex.MatchResult;
+import java.util.regex.Matcher;
+
+/**
+ * The outcome of matching a textual step against the pattern of a {@link StepCandidate}, holding the groups captured
+ * by the match, so that the step can be parametrised without its pattern being matched again.
+ */
+public class StepMatchResult {
+
+    private final MatchResult matchResult;
+
+    /**
+     * Creates a step match from the current state of the matcher, which is unaffected by any later use of the
+     * matcher
+     *
+     * @param matcher the Matcher of the step pattern
+     */
+    public StepMatchResult(Matcher matcher) {
+        this.matchResult = matcher.toMatchResult();
+    }
+
+    /**
+     * Returns the number of captured groups
+     *
+     * @return The number of groups
+     */
+    public int groupCount() {
+        return matchResult.groupCount();
+    }
+
+    /**
+     * Returns the value captured by the group
+     *
+     * @param group the index of the group, starting from 1
+     * @return The captured value, or <code>null</code> if the group did not capture any value
+     */
+    public String group(int group) {
+        return matchResult.group(group);
+    }
+
+}
@@ -0,0 +1,26 @@
+package org.jbehave.core.steps;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Invokes the step methods on the steps instances. Implementations are expected to prepare the invocation of each
+ * method once and to reuse it for any later invocation, so they must be safe to use from concurrent threads.
+ */
+public interface StepMethodInvoker {
+
+    /**
+     * Invokes the step method on the steps instance, with the same contract as
+     * {@link Method#invoke(Object, Object...)}
+     *
+     * @param method the step Method
+     * @param stepsInstance the steps instance on which the method is invoked
+     * @param parameters the converted parameters of the method
+     * @return The value returned by the method, or <code>null</code> if the method is void
+     * @throws InvocationTargetException if the method throws an exception, which is then its cause
+     * @throws IllegalAccessException if the method cannot be accessed
+     */
+    Object invoke(Method method, Object stepsInstance, Object[] parameters)
+            throws InvocationTargetException, IllegalAccessException;
+
+}
@@ -16,6 +16,8 @@ public interface StepMonitor {
 
     void stepMatchesPattern(String step, boolean matches, StepPattern stepPattern, Method method, Object stepsInstance);
 
+    void stepResolutionCacheLookup(String step, boolean hit, long hits, long misses);
+
     void convertedValueOfType(String value, Type type, Object converted, Queue<Class<?>> converterClasses);
 
     void beforePerforming(String step, boolean dryRun, Method method);
@@ -0,0 +1,218 @@
+package org.jbehave.core.steps;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.jbehave.core.steps.StepCandidate.ResolvedComposedStep;
+
+/**
+ * <p>
+ * Bounded concurrent cache of the resolutions of textual steps against the {@link StepCandidate}s of a
+ * {@link StepCandidateIndex}. A resolution is keyed by the textual step and by the resolved {@link StepType} of the
+ * previous non-AND step, which is all that matching depends upon, and it is either the winning candidate, along with
+ * its {@link StepMatchResult}, or the outcome of the step being pending, ignorable or a comment. The resolution of a
+ * composite candidate also retains the resolution of its composed steps, once resolved.
+ * </p>
+ * <p>
+ * The composed steps are matched against the candidates prioritised for the text of the composite step, as the
+ * prioritising strategy may depend on it (e.g. by Levenshtein distance), so they cannot be resolved once and for all
+ * when the candidates are indexed. Their resolutions are instead cached by composite candidate and by order of the
+ * prioritised candidates: with a strategy not depending on the text, such as the default by priority field, the
+ * composed steps of a composite are then resolved once, whatever the texts matching the composite and whether the
+ * resolutions of these texts are evicted.
+ * </p>
+ * <p>
+ * As the cache is bound to the index, it is invalidated whenever the candidates change.
+ */
+class StepResolutionCache {
+
+    private final StepCandidateIndex candidateIndex;
+    private final int maxSize;
+    private final ConcurrentMap<Key, Resolution> resolutions = new ConcurrentHashMap<>();
+    private final ConcurrentMap<ComposedKey, List<ResolvedComposedStep>> composedSteps = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    StepResolutionCache(StepCandidateIndex candidateIndex, int maxSize) {
+        this.candidateIndex = candidateIndex;
+        this.maxSize = maxSize;
+    }
+
+    StepCandidateIndex candidateIndex() {
+        return candidateIndex;
+    }
+
+    Resolution resolve(String stepAsString, StepType previousNonAndStepType, Supplier<Resolution> resolver,
+            StepMonitor stepMonitor) {
+        Key key = new Key(stepAsString, previousNonAndStepType);
+        Resolution resolution = resolutions.get(key);
+        if (resolution != null) {
+            stepMonitor.stepResolutionCacheLookup(stepAsString, true, hits.incrementAndGet(), misses.get());
+            if (resolution.kind() == Kind.MATCHED) {
+                // the match is still notified, as it would be if the candidate were matched again
+                StepCandidate candidate = resolution.candidate();
+                candidate.useStepMonitor(stepMonitor);
+                candidate.matchedFromCache(stepAsString);
+            }
+            return resolution;
+        }
+        stepMonitor.stepResolutionCacheLookup(stepAsString, false, hits.get(), misses.incrementAndGet());
+        resolution = resolver.get();
+        if (maxSize > 0) {
+            evictIfFull();
+            resolutions.put(key, resolution);
+        }
+        return resolution;
+    }
+
+    /**
+     * Returns the resolution of the composed steps of the composite candidate against the candidates in the given
+     * order, resolving them if not already resolved for the same order
+     *
+     * @param composite the composite StepCandidate
+     * @param prioritisedCandidates the List of all StepCandidate, in order of priority
+     * @param resolver the resolver of the composed steps
+     * @return The List of ResolvedComposedStep
+     */
+    List<ResolvedComposedStep> composedSteps(StepCandidate composite, List<StepCandidate> prioritisedCandidates,
+            Supplier<List<ResolvedComposedStep>> resolver) {
+        ComposedKey key = new ComposedKey(composite, prioritisedCandidates);
+        List<ResolvedComposedStep> resolved = composedSteps.get(key);
+        if (resolved == null) {
+            resolved = resolver.get();
+            if (maxSize > 0) {
+                evictIfFull(composedSteps);
+                composedSteps.put(key, resolved);
+            }
+        }
+        return resolved;
+    }
+
+    private void evictIfFull() {
+        evictIfFull(resolutions);
+    }
+
+    private void evictIfFull(ConcurrentMap<?, ?> cache) {
+        Iterator<?> keys = cache.keySet().iterator();
+        while (cache.size() >= maxSize && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    long hits() {
+        return hits.get();
+    }
+
+    long misses() {
+        return misses.get();
+    }
+
+    enum Kind {
+        MATCHED, PENDING, IGNORABLE, COMMENT
+    }
+
+    static final class Resolution {
+
+        static final Resolution PENDING = new Resolution(Kind.PENDING, null, null);
+        static final Resolution IGNORABLE = new Resolution(Kind.IGNORABLE, null, null);
+        static final Resolution COMMENT = new Resolution(Kind.COMMENT, null, null);
+
+        private final Kind kind;
+        private final StepCandidate candidate;
+        private final StepMatchResult stepMatch;
+        private volatile List<ResolvedComposedStep> composedSteps;
+
+        private Resolution(Kind kind, StepCandidate candidate, StepMatchResult stepMatch) {
+            this.kind = kind;
+            this.candidate = candidate;
+            this.stepMatch = stepMatch;
+        }
+
+        static Resolution matched(StepCandidate candidate, StepMatchResult stepMatch) {
+            return new Resolution(Kind.MATCHED, candidate, stepMatch);
+        }
+
+        Kind kind() {
+            return kind;
+        }
+
+        StepCandidate candidate() {
+            return candidate;
+        }
+
+        StepMatchResult stepMatch() {
+            return stepMatch;
+        }
+
+        List<ResolvedComposedStep> composedSteps(Supplier<List<ResolvedComposedStep>> resolver) {
+            List<ResolvedComposedStep> resolved = composedSteps;
+            if (resolved == null) {
+                resolved = resolver.get();
+                composedSteps = resolved;
+            }
+            return resolved;
+        }
+    }
+
+    private static final class Key {
+
+        private final String stepAsString;
+        private final StepType previousNonAndStepType;
+
+        Key(String stepAsString, StepType previousNonAndStepType) {
+            this.stepAsString = stepAsString;
+            this.previousNonAndStepType = previousNonAndStepType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) o;
+            return stepAsString.equals(that.stepAsString) && previousNonAndStepType == that.previousNonAndStepType;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(stepAsString, previousNonAndStepType);
+        }
+    }
+
+    private static final class ComposedKey {
+
+        private final StepCandidate composite;
+        private final List<StepCandidate> prioritisedCandidates;
+
+        ComposedKey(StepCandidate composite, List<StepCandidate> prioritisedCandidates) {
+            this.composite = composite;
+            this.prioritisedCandidates = prioritisedCandidates;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ComposedKey)) {
+                return false;
+            }
+            ComposedKey that = (ComposedKey) o;
+            return composite == that.composite && prioritisedCandidates.equals(that.prioritisedCandidates);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(composite), prioritisedCandidates);
+        }
+    }
+}
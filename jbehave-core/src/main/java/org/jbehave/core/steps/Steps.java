@@ -123,6 +123,7 @@ public class Steps extends AbstractCandidateSteps {
         stepCreator = new StepCreator(type, stepsFactory, configuration().stepsContext(),
                 configuration().parameterConverters(), configuration().parameterControls(), null,
                 configuration().stepMonitor());
+        stepCreator.useStepMethodInvoker(configuration().stepMethodInvoker());
     }
 
     /**
@@ -152,6 +153,7 @@ public class Steps extends AbstractCandidateSteps {
         stepCreator = new StepCreator(type, stepsFactory, configuration().stepsContext(),
                 configuration().parameterConverters(), configuration().parameterControls(), null,
                 configuration().stepMonitor());
+        stepCreator.useStepMethodInvoker(configuration().stepMethodInvoker());
     }
 
     public Class<?> type() {
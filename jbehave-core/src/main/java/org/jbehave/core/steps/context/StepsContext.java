@@ -111,6 +111,112 @@ public class StepsContext {
         keysStored.set(new HashSet<String>());
     }
 
+    /**
+     * Returns the scope of the objects stored by the current thread
+     *
+     * @return The Scope
+     */
+    public Scope currentScope() {
+        return new Scope(getExampleObjects(), getScenarioObjects(), getStoryObjects(), getKeys());
+    }
+
+    /**
+     * Uses the scope of objects in the current thread, e.g. to perform a scenario in a thread other than the one of
+     * its story
+     *
+     * @param scope the Scope
+     */
+    public void useScope(Scope scope) {
+        exampleObjects.set(scope.exampleObjects);
+        scenarioObjects.set(scope.scenarioObjects);
+        storyObjects.set(scope.storyObjects);
+        keysStored.set(scope.keys);
+    }
+
+    /**
+     * Objects stored for an example, a scenario and a story
+     */
+    public static final class Scope {
+
+        private final Map<String, Object> exampleObjects;
+        private final Map<String, Object> scenarioObjects;
+        private final Map<String, Object> storyObjects;
+        private final Set<String> keys;
+        private final Scope parent;
+        private final boolean scenarioObjectsOfParent;
+
+        private Scope(Map<String, Object> exampleObjects, Map<String, Object> scenarioObjects,
+                Map<String, Object> storyObjects, Set<String> keys) {
+            this(exampleObjects, scenarioObjects, storyObjects, keys, null, false);
+        }
+
+        private Scope(Map<String, Object> exampleObjects, Map<String, Object> scenarioObjects,
+                Map<String, Object> storyObjects, Set<String> keys, Scope parent, boolean scenarioObjectsOfParent) {
+            this.exampleObjects = exampleObjects;
+            this.scenarioObjects = scenarioObjects;
+            this.storyObjects = storyObjects;
+            this.keys = keys;
+            this.parent = parent;
+            this.scenarioObjectsOfParent = scenarioObjectsOfParent;
+        }
+
+        /**
+         * Creates a scope with empty example and scenario objects and a copy of the story objects of this scope, so
+         * that the objects stored by a scenario are isolated from the ones of other scenarios
+         *
+         * @return The isolated Scope
+         */
+        public Scope isolated() {
+            Map<String, Object> storyObjects = new HashMap<>(this.storyObjects);
+            return new Scope(new HashMap<>(), new HashMap<>(), storyObjects, new HashSet<>(storyObjects.keySet()), this,
+                    false);
+        }
+
+        /**
+         * Creates a scope with empty example objects and a copy of the scenario and story objects of this scope, so
+         * that the objects stored by an example are isolated from the ones of other examples
+         *
+         * @return The isolated Scope
+         */
+        public Scope isolatedExample() {
+            Map<String, Object> scenarioObjects = new HashMap<>(this.scenarioObjects);
+            Map<String, Object> storyObjects = new HashMap<>(this.storyObjects);
+            Set<String> keys = new HashSet<>(storyObjects.keySet());
+            keys.addAll(scenarioObjects.keySet());
+            return new Scope(new HashMap<>(), scenarioObjects, storyObjects, keys, this, true);
+        }
+
+        /**
+         * Merges into the scope this isolated scope was created from the objects stored in this scope which outlive
+         * the isolation: the story objects, and the scenario objects for an example. The isolated scopes are merged in
+         * the order of their scenarios or examples.
+         *
+         * @throws ObjectAlreadyStoredException if an object is stored in this scope under a key which has been stored
+         * in the parent scope since the isolation, e.g. by another scenario performed in parallel
+         */
+        public void mergeIntoParent() {
+            if (parent == null) {
+                return;
+            }
+            merge(storyObjects, parent.storyObjects);
+            if (scenarioObjectsOfParent) {
+                merge(scenarioObjects, parent.scenarioObjects);
+            }
+        }
+
+        private void merge(Map<String, Object> objects, Map<String, Object> parentObjects) {
+            for (Map.Entry<String, Object> entry : objects.entrySet()) {
+                String key = entry.getKey();
+                if (parent.keys.add(key)) {
+                    parentObjects.put(key, entry.getValue());
+                } else if (parentObjects.get(key) != entry.getValue()) {
+                    // not the object copied from the parent on isolation
+                    throw new ObjectAlreadyStoredException(String.format(OBJECT_ALREADY_STORED_MESSAGE, key));
+                }
+            }
+        }
+    }
+
     @SuppressWarnings("serial")
     public static class ObjectNotStoredException extends RuntimeException {
 
@@ -2,12 +2,17 @@ package org.jbehave.core.configuration;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.HashMap;
 import java.util.Map;
 
 import org.jbehave.core.configuration.Keywords.KeywordNotFound;
+import org.jbehave.core.configuration.Keywords.StartingWordNotFound;
+import org.jbehave.core.configuration.Keywords.StepStartingWord;
+import org.jbehave.core.steps.StepType;
 import org.junit.jupiter.api.Test;
 
 class KeywordsBehaviour {
@@ -40,4 +45,33 @@ class KeywordsBehaviour {
         assertThrows(KeywordNotFound.class, () -> new Keywords(keywords));
     }
 
+    @Test
+    void shouldFindStartingWordsOfSteps() {
+        Map<String, String> words = Keywords.defaultKeywords();
+        words.put(Keywords.GIVEN, "Given|Assuming");
+        Keywords keywords = new Keywords(words);
+        StepStartingWord startingWord = keywords.stepStartingWord("Assuming a step", StepType.GIVEN);
+        assertThat(startingWord.getStepType(), equalTo(StepType.GIVEN));
+        assertThat(startingWord.getWord(), equalTo("Assuming"));
+        assertThat(startingWord.getBodyOffset(), equalTo(9));
+        assertThat(startingWord.stepWithoutStartingWord("Assuming a step"), equalTo("a step"));
+        assertThat(keywords.stepStartingWord("And a step", StepType.GIVEN).getStepType(), equalTo(StepType.AND));
+        assertThat(keywords.stepStartingWord("Then a step").getStepType(), equalTo(StepType.THEN));
+        assertThat(keywords.stepStartingWord("Then a step", StepType.GIVEN), is(nullValue()));
+        assertThat(keywords.stepStartingWord("Givena step"), is(nullValue()));
+        assertThat(keywords.stepStartingWord("Given"), is(nullValue()));
+        assertThat(keywords.stepWithoutStartingWord("Assuming a step"), equalTo("a step"));
+        assertThrows(StartingWordNotFound.class, () -> keywords.stepTypeFor("Givena step"));
+    }
+
+    @Test
+    void shouldDetermineIfStepStartsWithWords() {
+        Keywords keywords = new Keywords();
+        assertThat(keywords.stepStartsWithWords("Given a step", "Given", "a"), is(true));
+        assertThat(keywords.stepStartsWithWords("Given a step", "Given", "a", "step"), is(false));
+        assertThat(keywords.stepStartsWithWords("Given another step", "Given", "a"), is(false));
+        assertThat(keywords.stepStartsWithWord("Given a step", "Given"), is(true));
+        assertThat(keywords.stepStartsWithWord("Given", "Given"), is(false));
+    }
+
 }
@@ -17,6 +17,7 @@ import org.jbehave.core.io.StoryLoader;
 import org.jbehave.core.io.StoryPathResolver;
 import org.jbehave.core.model.ExamplesTableFactory;
 import org.jbehave.core.parsers.StepPatternParser;
+import org.jbehave.core.parsers.StoryCache;
 import org.jbehave.core.parsers.StoryParser;
 import org.jbehave.core.reporters.StoryReporter;
 import org.jbehave.core.reporters.StoryReporterBuilder;
@@ -39,6 +40,7 @@ class UnmodifiableConfigurationBehaviour {
         assertThat(unmodifiable.storyControls(), is(delegate.storyControls()));
         assertThat(unmodifiable.storyLoader(), is(delegate.storyLoader()));
         assertThat(unmodifiable.storyParser(), is(delegate.storyParser()));
+        assertThat(unmodifiable.storyCache(), is(delegate.storyCache()));
         assertThat(unmodifiable.storyPathResolver(), is(delegate.storyPathResolver()));
         assertThat(unmodifiable.defaultStoryReporter(), is(delegate.defaultStoryReporter()));
         assertThat(unmodifiable.storyReporter(storyPath), is(Matchers.notNullValue(Object.class)));
@@ -66,6 +68,7 @@ class UnmodifiableConfigurationBehaviour {
         assertThatNotAllowed(unmodifiable, "useStoryControls", StoryControls.class);
         assertThatNotAllowed(unmodifiable, "useStoryLoader", StoryLoader.class);
         assertThatNotAllowed(unmodifiable, "useStoryParser", StoryParser.class);
+        assertThatNotAllowed(unmodifiable, "useStoryCache", StoryCache.class);
         assertThatNotAllowed(unmodifiable, "useDefaultStoryReporter", StoryReporter.class);
         assertThatNotAllowed(unmodifiable, "useStoryReporterBuilder", StoryReporterBuilder.class);
         assertThatNotAllowed(unmodifiable, "useStoryPathResolver", StoryPathResolver.class);
@@ -29,6 +29,8 @@ class EmbedderControlsBehaviour {
         assertThat(embedderControls.storyTimeouts(), equalTo(defaultControls.storyTimeouts()));
         assertThat(embedderControls.failOnStoryTimeout(), is(defaultControls.failOnStoryTimeout()));
         assertThat(embedderControls.threads(), equalTo(defaultControls.threads()));
+        assertThat(embedderControls.scheduleLongestStoriesFirst(), is(defaultControls.scheduleLongestStoriesFirst()));
+        assertThat(embedderControls.executors(), equalTo(defaultControls.executors()));
 
         System.setProperty(PropertyBasedEmbedderControls.BATCH, "true");
         System.setProperty(PropertyBasedEmbedderControls.GENERATE_VIEW_AFTER_STORIES, "true");
@@ -41,6 +43,8 @@ class EmbedderControlsBehaviour {
         System.setProperty(PropertyBasedEmbedderControls.STORY_TIMEOUT_IN_SECS_BY_PATH, "**/shorts/*.story:3,**/longs/*.story:20");
         System.setProperty(PropertyBasedEmbedderControls.FAIL_ON_STORY_TIMEOUT, "true");
         System.setProperty(PropertyBasedEmbedderControls.THREADS, "5");
+        System.setProperty(PropertyBasedEmbedderControls.SCHEDULE_LONGEST_STORIES_FIRST, "true");
+        System.setProperty(PropertyBasedEmbedderControls.EXECUTORS, "forkJoin");
 
         assertThat(embedderControls.batch(), is(true));
         assertThat(embedderControls.generateViewAfterStories(), is(true));
@@ -52,6 +56,8 @@ class EmbedderControlsBehaviour {
         assertThat(embedderControls.storyTimeouts(), equalTo("300"));
         assertThat(embedderControls.failOnStoryTimeout(), is(true));
         assertThat(embedderControls.threads(), equalTo(5));
+        assertThat(embedderControls.scheduleLongestStoriesFirst(), is(true));
+        assertThat(embedderControls.executors(), equalTo("forkJoin"));
     }
     
     @Test
@@ -68,6 +74,8 @@ class EmbedderControlsBehaviour {
         assertThat(embedderControls.skip(), equalTo(delegate.skip()));
         assertThat(embedderControls.storyTimeouts(), equalTo(delegate.storyTimeouts()));
         assertThat(embedderControls.threads(), equalTo(delegate.threads()));
+        assertThat(embedderControls.scheduleLongestStoriesFirst(), is(delegate.scheduleLongestStoriesFirst()));
+        assertThat(embedderControls.executors(), equalTo(delegate.executors()));
         assertThatNotAllowed(embedderControls, "doBatch", boolean.class, true);
         assertThatNotAllowed(embedderControls, "doGenerateViewAfterStories", boolean.class, true);
         assertThatNotAllowed(embedderControls, "doIgnoreFailureInStories", boolean.class, true);
@@ -78,6 +86,8 @@ class EmbedderControlsBehaviour {
         assertThatNotAllowed(embedderControls, "useStoryTimeouts", String.class, "300");
         assertThatNotAllowed(embedderControls, "doFailOnStoryTimeout", boolean.class, true);
         assertThatNotAllowed(embedderControls, "useThreads", int.class, 1);
+        assertThatNotAllowed(embedderControls, "doScheduleLongestStoriesFirst", boolean.class, true);
+        assertThatNotAllowed(embedderControls, "useExecutors", String.class, "forkJoin");
     }
 
     private void assertThatNotAllowed(EmbedderControls unmodifiable, String methodName, Class<?> type, Object value)
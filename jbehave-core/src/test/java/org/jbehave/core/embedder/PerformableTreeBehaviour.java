@@ -3,50 +3,77 @@ package org.jbehave.core.embedder;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
 import static org.jbehave.core.steps.StepCollector.Stage;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.matches;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 import org.jbehave.core.annotations.Scope;
+import org.jbehave.core.annotations.Then;
+import org.jbehave.core.annotations.ToContext;
 import org.jbehave.core.annotations.When;
 import org.jbehave.core.configuration.Configuration;
 import org.jbehave.core.configuration.Keywords;
 import org.jbehave.core.configuration.MostUsefulConfiguration;
 import org.jbehave.core.embedder.PerformableTree.RunContext;
 import org.jbehave.core.failures.BatchFailures;
+import org.jbehave.core.failures.UUIDExceptionWrapper;
 import org.jbehave.core.io.StoryLoader;
+import org.jbehave.core.io.StreamingResourceLoader;
 import org.jbehave.core.model.ExamplesTable;
+import org.jbehave.core.model.ExamplesTableFactory;
 import org.jbehave.core.model.GivenStories;
 import org.jbehave.core.model.Lifecycle;
 import org.jbehave.core.model.Meta;
 import org.jbehave.core.model.Narrative;
 import org.jbehave.core.model.Scenario;
 import org.jbehave.core.model.Story;
+import org.jbehave.core.model.StoryDuration;
+import org.jbehave.core.model.TableTransformers;
+import org.jbehave.core.parsers.InMemoryStoryCache;
+import org.jbehave.core.parsers.RegexStoryParser;
+import org.jbehave.core.parsers.StoryParser;
 import org.jbehave.core.reporters.StoryReporter;
+import org.jbehave.core.reporters.StoryReporterBuilder;
+import org.jbehave.core.reporters.TxtOutput;
 import org.jbehave.core.steps.BeforeOrAfterStep;
 import org.jbehave.core.steps.CandidateSteps;
 import org.jbehave.core.steps.InstanceStepsFactory;
@@ -59,6 +86,8 @@ import org.jbehave.core.steps.StepCollector;
 import org.jbehave.core.steps.StepMonitor;
 import org.jbehave.core.steps.context.StepsContext;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.InOrder;
 
 /**
@@ -323,6 +352,322 @@ class PerformableTreeBehaviour {
         assertThat(failures.size(), is(2));
     }
 
+    @Test
+    void shouldPerformExamplesOfStreamingTableWhileReadingItsRows() {
+        String tablePath = "path/to/large.table";
+        StreamingResourceLoader resourceLoader = mock(StreamingResourceLoader.class);
+        when(resourceLoader.loadResourceAsReader(tablePath)).thenAnswer(
+                invocation -> new StringReader("|value|\n|one|\n|fail|\n|three|"));
+        ExamplesTable table = new ExamplesTableFactory(resourceLoader, new TableTransformers())
+                .createExamplesTable("{streaming=true}\n" + tablePath);
+        Scenario scenario = new Scenario("streaming scenario", Meta.EMPTY, GivenStories.EMPTY, table,
+                singletonList("When I see <value>"));
+        Story story = new Story(STORY_PATH, null, null, null, null, singletonList(scenario));
+
+        Configuration configuration = new MostUsefulConfiguration();
+        configuration.useStoryLoader(mock(StoryLoader.class));
+        Steps steps = new Steps();
+        List<CandidateSteps> candidateSteps = new InstanceStepsFactory(configuration, steps).createCandidateSteps();
+        BatchFailures failures = new BatchFailures();
+        PerformableTree performableTree = new PerformableTree();
+        RunContext runContext = performableTree.newRunContext(configuration, new AllStepCandidates(candidateSteps),
+                mock(EmbedderMonitor.class), new MetaFilter(), failures);
+        performableTree.addStories(runContext, singletonList(story));
+        // the header, then the rows until the first example scenario not filtered out
+        verify(resourceLoader, times(2)).loadResourceAsReader(tablePath);
+        performableTree.perform(runContext, story);
+
+        assertThat(steps.seen, equalTo(Arrays.asList("one", "three")));
+        assertThat(failures.size(), is(1));
+        PerformableTree.PerformableScenario performableScenario = performableTree.getRoot().getStories().get(0)
+                .getScenarios().get(0);
+        assertThat(performableScenario.getFailure(), instanceOf(UUIDExceptionWrapper.class));
+        assertThat(performableScenario.getExamples().size(), is(3));
+    }
+
+    @Test
+    void shouldReportExamplesOfStreamingTableWithoutReadingItWhole() {
+        String tablePath = "path/to/large.table";
+        StreamingResourceLoader resourceLoader = mock(StreamingResourceLoader.class);
+        when(resourceLoader.loadResourceAsReader(tablePath)).thenAnswer(
+                invocation -> new StringReader("|value|\n|one|\n|two|"));
+        ExamplesTable table = new ExamplesTableFactory(resourceLoader, new TableTransformers())
+                .createExamplesTable("{streaming=true}\n" + tablePath);
+        Scenario scenario = new Scenario("streaming scenario", Meta.EMPTY, GivenStories.EMPTY, table,
+                singletonList("When I see <value>"));
+        Story story = new Story(STORY_PATH, null, null, null, null, singletonList(scenario));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Configuration configuration = new MostUsefulConfiguration();
+        configuration.useStoryLoader(mock(StoryLoader.class));
+        configuration.useStoryReporterBuilder(new StoryReporterBuilder() {
+            @Override
+            public StoryReporter build(String storyPath) {
+                return new TxtOutput(new PrintStream(out));
+            }
+        });
+        Steps steps = new Steps();
+        List<CandidateSteps> candidateSteps = new InstanceStepsFactory(configuration, steps).createCandidateSteps();
+        PerformableTree performableTree = new PerformableTree();
+        RunContext runContext = performableTree.newRunContext(configuration, new AllStepCandidates(candidateSteps),
+                mock(EmbedderMonitor.class), new MetaFilter(), new BatchFailures());
+        performableTree.addStories(runContext, singletonList(story));
+        clearInvocations(resourceLoader);
+        performableTree.perform(runContext, story);
+
+        assertThat(steps.seen, equalTo(Arrays.asList("one", "two")));
+        // the rows are read once, as they are streamed, and reported one example at a time
+        verify(resourceLoader).loadResourceAsReader(tablePath);
+        verify(resourceLoader, never()).loadResourceAsText(tablePath);
+        String output = out.toString();
+        assertThat(output, containsString("|value|\n"));
+        assertThat(output, not(containsString("|one|")));
+        assertThat(output, containsString("{value=one}"));
+        assertThat(output, containsString("{value=two}"));
+    }
+
+    @Test
+    void shouldNotAddScenarioWithStreamingTableWhoseRowsAreAllFilteredOut() {
+        String tablePath = "path/to/large.table";
+        StreamingResourceLoader resourceLoader = mock(StreamingResourceLoader.class);
+        when(resourceLoader.loadResourceAsReader(tablePath)).thenAnswer(
+                invocation -> new StringReader("|Meta:|value|\n|@skip|one|\n|@skip|two|"));
+        ExamplesTable table = new ExamplesTableFactory(resourceLoader, new TableTransformers())
+                .createExamplesTable("{streaming=true}\n" + tablePath);
+        Scenario scenario = new Scenario("streaming scenario", Meta.EMPTY, GivenStories.EMPTY, table,
+                singletonList("When I see <value>"));
+        Story story = new Story(STORY_PATH, null, null, null, null, singletonList(scenario));
+
+        Configuration configuration = new MostUsefulConfiguration();
+        configuration.useStoryLoader(mock(StoryLoader.class));
+        List<CandidateSteps> candidateSteps = new InstanceStepsFactory(configuration, new Steps())
+                .createCandidateSteps();
+        PerformableTree performableTree = new PerformableTree();
+        RunContext runContext = performableTree.newRunContext(configuration, new AllStepCandidates(candidateSteps),
+                mock(EmbedderMonitor.class), new MetaFilter("-skip"), new BatchFailures());
+        performableTree.addStories(runContext, singletonList(story));
+
+        assertThat(performableTree.getRoot().getStories().get(0).getScenarios().size(), is(0));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "'',      false, true",
+            "true,    false, true",
+            "false,   false, false",
+            "false,   true,  false",
+            "TRUE,    false, true"
+    })
+    void shouldPerformScenariosInParallelAsSetByStoryMeta(String value, boolean configured, boolean expected) {
+        Meta meta = new Meta(singletonList((StoryControls.PARALLEL_SCENARIOS + " " + value).trim()));
+        Story story = new Story(STORY_PATH, null, meta, null, singletonList(new Scenario("scenario", emptyList())));
+
+        Configuration configuration = new MostUsefulConfiguration();
+        configuration.useStoryLoader(mock(StoryLoader.class));
+        configuration.storyControls().doParallelScenarios(configured);
+        PerformableTree performableTree = new PerformableTree();
+        RunContext runContext = performableTree.newRunContext(configuration,
+                new AllStepCandidates(new InstanceStepsFactory(configuration, new Steps()).createCandidateSteps()),
+                mock(EmbedderMonitor.class), new MetaFilter(), new BatchFailures());
+        performableTree.addStories(runContext, singletonList(story));
+
+        assertThat(performableTree.getRoot().getStories().get(0).isParallelScenarios(), is(expected));
+    }
+
+    @Test
+    void shouldPerformScenariosInParallelReportingThemInOrder() {
+        List<Scenario> scenarios = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            scenarios.add(new Scenario("scenario " + i, singletonList("When I meet at the barrier")));
+        }
+        scenarios.add(new Scenario("scenario 4", singletonList("When I fail")));
+        Story story = new Story(STORY_PATH, null, new Meta(singletonList(StoryControls.PARALLEL_SCENARIOS)), null,
+                scenarios);
+
+        StoryReporter storyReporter = mock(StoryReporter.class);
+        Configuration configuration = new MostUsefulConfiguration();
+        configuration.useStoryLoader(mock(StoryLoader.class));
+        configuration.useStoryReporterBuilder(new StoryReporterBuilder() {
+            @Override
+            public StoryReporter build(String storyPath) {
+                return storyReporter;
+            }
+        });
+        List<CandidateSteps> candidateSteps = new InstanceStepsFactory(configuration, new Steps())
+                .createCandidateSteps();
+        BatchFailures failures = new BatchFailures();
+        PerformableTree performableTree = new PerformableTree();
+        RunContext runContext = performableTree.newRunContext(configuration, new AllStepCandidates(candidateSteps),
+                mock(EmbedderMonitor.class), new MetaFilter(), failures);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            runContext.useExecutorService(executorService);
+            performableTree.addStories(runContext, singletonList(story));
+            performableTree.perform(runContext, story);
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        InOrder inOrder = inOrder(storyReporter);
+        inOrder.verify(storyReporter).beforeStory(story, false);
+        for (Scenario scenario : scenarios) {
+            inOrder.verify(storyReporter).beforeScenario(scenario);
+            inOrder.verify(storyReporter).afterScenario(any());
+        }
+        inOrder.verify(storyReporter).afterStory(false);
+        verify(storyReporter, times(3)).successful("When I meet at the barrier");
+        assertThat(failures.size(), is(1));
+        assertThat(performableTree.getRoot().getStories().get(0).getStatus(), is(PerformableTree.Status.FAILED));
+    }
+
+    @Test
+    void shouldInterruptScenariosPerformedInParallelOnceStoryTimesOut() throws Exception {
+        List<Scenario> scenarios = new ArrayList<>();
+        for (int i = 1; i <= 2; i++) {
+            scenarios.add(new Scenario("scenario " + i, Arrays.asList("When I block", "When I see " + i)));
+        }
+        Story story = new Story(STORY_PATH, null, new Meta(singletonList(StoryControls.PARALLEL_SCENARIOS)), null,
+                scenarios);
+
+        Configuration configuration = new MostUsefulConfiguration();
+        configuration.useStoryLoader(mock(StoryLoader.class));
+        Steps steps = new Steps();
+        List<CandidateSteps> candidateSteps = new InstanceStepsFactory(configuration, steps).createCandidateSteps();
+        PerformableTree performableTree = new PerformableTree();
+        RunContext runContext = performableTree.newRunContext(configuration, new AllStepCandidates(candidateSteps),
+                mock(EmbedderMonitor.class), new MetaFilter(), new BatchFailures());
+        ExecutorService executorService = Executors.newFixedThreadPool(1);
+        try {
+            runContext.useExecutorService(executorService);
+            performableTree.addStories(runContext, singletonList(story));
+            Thread storyThread = new Thread(() -> {
+                try {
+                    performableTree.perform(runContext, story);
+                } catch (UUIDExceptionWrapper e) {
+                    // the story is cancelled
+                }
+            });
+            storyThread.start();
+            assertThat(steps.blocking.await(5, TimeUnit.SECONDS), is(true));
+
+            runContext.cancelStory(story, new StoryDuration(1));
+            storyThread.interrupt();
+
+            assertThat(steps.interrupted.await(5, TimeUnit.SECONDS), is(true));
+            storyThread.join(5000);
+            assertThat(storyThread.isAlive(), is(false));
+        } finally {
+            executorService.shutdownNow();
+        }
+        assertThat(steps.seen, equalTo(Collections.emptyList()));
+    }
+
+    @Test
+    void shouldPerformExamplesInParallelKeepingRowOrderAndExampleScope() {
+        ExamplesTable table = new ExamplesTable("|value|\n|0|\n|1|\n|2|\n|3|\n|4|\n|5|");
+        Scenario scenario = new Scenario("parallel examples", Meta.EMPTY, GivenStories.EMPTY, table,
+                Arrays.asList("When I store <value>", "When I meet at the barrier", "Then I find <value>"));
+        Story story = new Story(STORY_PATH, singletonList(scenario));
+
+        StoryReporter storyReporter = mock(StoryReporter.class);
+        Configuration configuration = new MostUsefulConfiguration()
+                .useStoryControls(new StoryControls().useExamplesThreads(3));
+        configuration.useStoryLoader(mock(StoryLoader.class));
+        configuration.useStoryReporterBuilder(new StoryReporterBuilder() {
+            @Override
+            public StoryReporter build(String storyPath) {
+                return storyReporter;
+            }
+        });
+        List<CandidateSteps> candidateSteps = new InstanceStepsFactory(configuration,
+                new ExampleSteps(configuration.stepsContext())).createCandidateSteps();
+        BatchFailures failures = new BatchFailures();
+        PerformableTree performableTree = new PerformableTree();
+        RunContext runContext = performableTree.newRunContext(configuration, new AllStepCandidates(candidateSteps),
+                mock(EmbedderMonitor.class), new MetaFilter(), failures);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            runContext.useExecutorService(executorService);
+            performableTree.addStories(runContext, singletonList(story));
+            performableTree.perform(runContext, story);
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        InOrder inOrder = inOrder(storyReporter);
+        for (int row = 0; row < 6; row++) {
+            inOrder.verify(storyReporter).example(any(), eq(row));
+            inOrder.verify(storyReporter).successful(matches("Then I find \\W*" + row + "\\W*"));
+        }
+        assertThat(failures.size(), is(0));
+        assertThat(performableTree.getRoot().getStories().get(0).getStatus(), is(PerformableTree.Status.SUCCESSFUL));
+    }
+
+    @Test
+    void shouldKeepStoryObjectsOfScenariosPerformedInParallelInScenarioOrder() {
+        List<Scenario> scenarios = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            scenarios.add(new Scenario("scenario " + i,
+                    Arrays.asList("When I keep " + i + " for the story", "When I meet at the barrier")));
+        }
+        Story story = new Story(STORY_PATH, null, new Meta(singletonList(StoryControls.PARALLEL_SCENARIOS)), null,
+                scenarios);
+
+        Configuration configuration = new MostUsefulConfiguration();
+        configuration.useStoryLoader(mock(StoryLoader.class));
+        List<CandidateSteps> candidateSteps = new InstanceStepsFactory(configuration,
+                new ExampleSteps(configuration.stepsContext())).createCandidateSteps();
+        BatchFailures failures = new BatchFailures();
+        PerformableTree performableTree = new PerformableTree();
+        RunContext runContext = performableTree.newRunContext(configuration, new AllStepCandidates(candidateSteps),
+                mock(EmbedderMonitor.class), new MetaFilter(), failures);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            runContext.useExecutorService(executorService);
+            performableTree.addStories(runContext, singletonList(story));
+            performableTree.perform(runContext, story);
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertThat(failures.size(), is(0));
+        for (int i = 1; i <= 3; i++) {
+            assertThat(configuration.stepsContext().get("kept " + i), equalTo(String.valueOf(i)));
+        }
+    }
+
+    @Test
+    void shouldFailStoryWhenScenariosPerformedInParallelStoreStoryObjectsUnderSameKey() {
+        List<Scenario> scenarios = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            scenarios.add(new Scenario("scenario " + i,
+                    Arrays.asList("When I share " + i + " with the story", "When I meet at the barrier")));
+        }
+        Story story = new Story(STORY_PATH, null, new Meta(singletonList(StoryControls.PARALLEL_SCENARIOS)), null,
+                scenarios);
+
+        Configuration configuration = new MostUsefulConfiguration();
+        configuration.useStoryLoader(mock(StoryLoader.class));
+        List<CandidateSteps> candidateSteps = new InstanceStepsFactory(configuration,
+                new ExampleSteps(configuration.stepsContext())).createCandidateSteps();
+        BatchFailures failures = new BatchFailures();
+        PerformableTree performableTree = new PerformableTree();
+        RunContext runContext = performableTree.newRunContext(configuration, new AllStepCandidates(candidateSteps),
+                mock(EmbedderMonitor.class), new MetaFilter(), failures);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            runContext.useExecutorService(executorService);
+            performableTree.addStories(runContext, singletonList(story));
+            StepsContext.ObjectAlreadyStoredException thrown = assertThrows(
+                    StepsContext.ObjectAlreadyStoredException.class, () -> performableTree.perform(runContext, story));
+            assertThat(thrown.getMessage(), equalTo("Object key 'shared' has been already stored before."));
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertThat(configuration.stepsContext().get("shared"), equalTo("1"));
+    }
+
     @Test
     void shouldResetFailuresOnReRun() {
         Scenario scenario = new Scenario("base scenario title", Meta.EMPTY);
@@ -350,6 +695,32 @@ class PerformableTreeBehaviour {
         assertThat(failures.size(), is(1));
     }
 
+    @Test
+    void shouldParseGivenStoriesOnceAndFilterThemByAnchorWithoutMutatingCachedStory() {
+        String givenStoryPath = "given/path";
+        Story story = new Story(STORY_PATH, null, null, null,
+                new GivenStories(givenStoryPath + "#{id:1}," + givenStoryPath + "#{id:2}," + givenStoryPath),
+                singletonList(new Scenario("base scenario title", Meta.EMPTY)));
+
+        Configuration configuration = new MostUsefulConfiguration();
+        StoryLoader storyLoader = mock(StoryLoader.class);
+        when(storyLoader.loadStoryAsText(givenStoryPath)).thenReturn("Scenario: one\nMeta: @id 1\nGiven a step\n"
+                + "Scenario: two\nMeta: @id 2\nGiven a step");
+        StoryParser storyParser = spy(new RegexStoryParser());
+        configuration.useStoryLoader(storyLoader).useStoryParser(storyParser).useStoryCache(new InMemoryStoryCache());
+        AllStepCandidates allStepCandidates = new AllStepCandidates(emptyList());
+
+        PerformableTree performableTree = new PerformableTree();
+        RunContext runContext = performableTree.newRunContext(configuration, allStepCandidates,
+                mock(EmbedderMonitor.class), new MetaFilter(), mock(BatchFailures.class));
+        performableTree.addStories(runContext, singletonList(story));
+
+        verify(storyParser).parseStory(anyString(), eq(givenStoryPath));
+        Story givenStory = performableTree.storyOfPath(configuration, givenStoryPath);
+        assertThat(givenStory.getScenarios().size(), is(2));
+        verify(storyParser).parseStory(anyString(), eq(givenStoryPath));
+    }
+
     @Test
     void shouldNotShareStoryStateBetweenThreads() throws Throwable {
         RunContext context = runStoryInContext();
@@ -397,11 +768,75 @@ class PerformableTreeBehaviour {
         }
     }
 
+    public static class ExampleSteps {
+
+        private final StepsContext stepsContext;
+        private final CyclicBarrier barrier = new CyclicBarrier(3);
+
+        public ExampleSteps(StepsContext stepsContext) {
+            this.stepsContext = stepsContext;
+        }
+
+        @When("I store $value")
+        public void store(String value) {
+            stepsContext.put("value", value, ToContext.RetentionLevel.EXAMPLE);
+        }
+
+        @When("I keep $value for the story")
+        public void keep(String value) {
+            stepsContext.put("kept " + value, value, ToContext.RetentionLevel.STORY);
+        }
+
+        @When("I share $value with the story")
+        public void share(String value) {
+            stepsContext.put("shared", value, ToContext.RetentionLevel.STORY);
+        }
+
+        @When("I meet at the barrier")
+        public void meet() throws Exception {
+            barrier.await(5, TimeUnit.SECONDS);
+        }
+
+        @Then("I find $value")
+        public void find(String value) {
+            assertThat(stepsContext.get("value"), equalTo(value));
+        }
+    }
+
     public static class Steps {
 
+        private final List<String> seen = new ArrayList<>();
+        private final CyclicBarrier barrier = new CyclicBarrier(3);
+        private final CountDownLatch blocking = new CountDownLatch(2);
+        private final CountDownLatch interrupted = new CountDownLatch(2);
+
+        @When("I meet at the barrier")
+        public void meet() throws Exception {
+            barrier.await(5, TimeUnit.SECONDS);
+        }
+
+        @When("I block")
+        public void block() throws InterruptedException {
+            blocking.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+        }
+
         @When("I fail")
         public void fail() {
             throw new RuntimeException();
         }
+
+        @When("I see $value")
+        public void see(String value) {
+            if ("fail".equals(value)) {
+                fail();
+            }
+            seen.add(value);
+        }
     }
 }
@@ -35,6 +35,8 @@ class StoryControlsBehaviour {
                 arguments((Function<StoryControls, Object>) StoryControls::ignoreMetaFiltersIfGivenStory,               (BiFunction<StoryControls, Object, Object>) (c, v) -> c.doIgnoreMetaFiltersIfGivenStory((boolean) v),               asList(false, true)),
                 arguments((Function<StoryControls, Object>) StoryControls::metaByRow,                                   (BiFunction<StoryControls, Object, Object>) (c, v) -> c.doMetaByRow((boolean) v),                                   asList(false, true)),
                 arguments((Function<StoryControls, Object>) StoryControls::skipStoryIfGivenStoryFailed,                 (BiFunction<StoryControls, Object, Object>) (c, v) -> c.doSkipStoryIfGivenStoryFailed((boolean) v),                 asList(false, true)),
+                arguments((Function<StoryControls, Object>) StoryControls::parallelScenarios,                           (BiFunction<StoryControls, Object, Object>) (c, v) -> c.doParallelScenarios((boolean) v),                           asList(false, true)),
+                arguments((Function<StoryControls, Object>) StoryControls::examplesThreads,                             (BiFunction<StoryControls, Object, Object>) (c, v) -> c.useExamplesThreads((int) v),                                asList(1, 4)),
                 arguments((Function<StoryControls, Object>) StoryControls::storyMetaPrefix,                             (BiFunction<StoryControls, Object, Object>) (c, v) -> c.useStoryMetaPrefix((String) v),                             asList(EMPTY, NEW_VALUE)),
                 arguments((Function<StoryControls, Object>) StoryControls::scenarioMetaPrefix,                          (BiFunction<StoryControls, Object, Object>) (c, v) -> c.useScenarioMetaPrefix((String) v),                          asList(EMPTY, NEW_VALUE))
         );
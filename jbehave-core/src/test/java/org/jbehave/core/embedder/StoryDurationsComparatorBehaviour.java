@@ -0,0 +1,53 @@
+package org.jbehave.core.embedder;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
+
+import org.jbehave.core.model.Story;
+import org.junit.jupiter.api.Test;
+
+class StoryDurationsComparatorBehaviour {
+
+    private final Comparator<Story> byPath = Comparator.comparing(Story::getPath);
+
+    @Test
+    void shouldOrderStoriesLongestFirstWithUnknownStoriesFirst() {
+        Properties storyDurations = new Properties();
+        storyDurations.setProperty("a_short.story", "1200");
+        storyDurations.setProperty("a_long.story", "45000");
+        storyDurations.setProperty("another_long.story", "45000");
+        storyDurations.setProperty("a_medium.story", "8000");
+        storyDurations.setProperty("a_broken.story", "not a duration");
+        storyDurations.setProperty("total", "99200");
+        storyDurations.setProperty("threads", "2");
+        storyDurations.setProperty("threadAverage", "49600");
+
+        List<String> paths = asList("a_short.story", "a_new.story", "another_long.story", "a_medium.story",
+                "a_broken.story", "a_long.story", "total");
+        List<String> ordered = paths.stream()
+                .map(Story::new)
+                .sorted(new StoryDurationsComparator(storyDurations, byPath))
+                .map(Story::getPath)
+                .collect(toList());
+
+        assertThat(ordered, equalTo(asList("a_broken.story", "a_new.story", "total", "a_long.story",
+                "another_long.story", "a_medium.story", "a_short.story")));
+    }
+
+    @Test
+    void shouldFallBackToGivenOrderWithoutStoryDurations() {
+        List<String> ordered = asList("b.story", "c.story", "a.story").stream()
+                .map(Story::new)
+                .sorted(new StoryDurationsComparator(new Properties(), byPath))
+                .map(Story::getPath)
+                .collect(toList());
+
+        assertThat(ordered, equalTo(asList("a.story", "b.story", "c.story")));
+    }
+}
@@ -2,20 +2,40 @@ package org.jbehave.core.embedder;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
 
 import org.codehaus.plexus.util.FileUtils;
 import org.jbehave.core.configuration.Configuration;
 import org.jbehave.core.configuration.MostUsefulConfiguration;
+import org.jbehave.core.embedder.PerformableTree.RunContext;
 import org.jbehave.core.embedder.StoryManager.RunningStory;
+import org.jbehave.core.embedder.StoryManager.StoryOutcome;
+import org.jbehave.core.failures.BatchFailures;
+import org.jbehave.core.io.StoryLoader;
+import org.jbehave.core.io.StoryResourceNotFound;
+import org.jbehave.core.model.Story;
 import org.jbehave.core.steps.InjectableStepsFactory;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 class StoryManagerBehaviour {
 
@@ -38,4 +58,111 @@ class StoryManagerBehaviour {
         assertThat(outputDirectory.exists(), is(true));
     }
 
+    @Test
+    void shouldLoadStoriesInParallelKeepingTheOrderOfPaths() {
+        List<String> storyPaths = Arrays.asList("one.story", "two.story", "three.story", "four.story");
+        StoryLoader storyLoader = mock(StoryLoader.class);
+        for (String storyPath : storyPaths) {
+            when(storyLoader.loadStoryAsText(storyPath)).thenReturn("Lifecycle:\nExamples:\n|row|\n|1|\n|2|\n"
+                    + "Scenario: " + storyPath + "\nGiven a step");
+        }
+        Configuration configuration = new MostUsefulConfiguration().useStoryLoader(storyLoader);
+        ExecutorService executorService = Executors.newFixedThreadPool(3);
+        try {
+            StoryManager manager = new StoryManager(configuration, stepsFactory, embedderControls.useThreads(3),
+                    embedderMonitor, executorService, performableTree);
+            List<Story> stories = manager.storiesOfPaths(storyPaths);
+            assertThat(stories.stream().map(Story::getPath).collect(Collectors.toList()), equalTo(storyPaths));
+
+            configuration.setParallelStoryExamplesEnabled(true);
+            List<Story> splitStories = manager.storiesOfPaths(storyPaths);
+            assertThat(splitStories.size(), equalTo(8));
+            assertThat(splitStories.get(2).getPath(), equalTo("two [0].story"));
+            assertThat(splitStories.get(3).getScenarios().get(0).getTitle(), equalTo("two.story"));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldFailLoadingStoriesInParallelWithFailureOfFirstFailingPath() {
+        StoryLoader storyLoader = mock(StoryLoader.class);
+        when(storyLoader.loadStoryAsText("one.story")).thenReturn("Scenario: one\nGiven a step");
+        StoryResourceNotFound notFound = new StoryResourceNotFound("two.story", getClass().getClassLoader());
+        when(storyLoader.loadStoryAsText("two.story")).thenThrow(notFound);
+        when(storyLoader.loadStoryAsText("three.story")).thenThrow(new IllegalStateException());
+        Configuration configuration = new MostUsefulConfiguration().useStoryLoader(storyLoader);
+        ExecutorService executorService = Executors.newFixedThreadPool(3);
+        try {
+            StoryManager manager = new StoryManager(configuration, stepsFactory, embedderControls.useThreads(3),
+                    embedderMonitor, executorService, performableTree);
+            StoryResourceNotFound thrown = assertThrows(StoryResourceNotFound.class,
+                    () -> manager.storiesOfPaths(Arrays.asList("one.story", "two.story", "three.story")));
+            assertThat(thrown, is(notFound));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldCollectOutcomesOfStoriesAsTheyComplete() {
+        Story passing = new Story("passing.story");
+        Story failing = new Story("failing.story");
+        PerformableTree performableTree = mock(PerformableTree.class);
+        RunContext context = mock(RunContext.class);
+        FilteredStory filteredStory = mock(FilteredStory.class);
+        when(performableTree.newRunContext(any(), any(), any(), any(), any())).thenReturn(context);
+        when(context.filter(any(Story.class))).thenReturn(filteredStory);
+        when(context.getFailures()).thenReturn(new BatchFailures());
+        IllegalStateException failure = new IllegalStateException();
+        doThrow(failure).when(performableTree).perform(context, failing);
+        Configuration configuration = new MostUsefulConfiguration();
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            StoryManager manager = new StoryManager(configuration, stepsFactory, embedderControls.useThreads(2),
+                    embedderMonitor, executorService, performableTree);
+            manager.runStories(Arrays.asList(passing, failing), new MetaFilter(), new BatchFailures());
+            assertThat(manager.outcomes().size(), equalTo(2));
+            for (StoryOutcome outcome : manager.outcomes()) {
+                assertThat(outcome.isDone(), is(true));
+                assertThat(outcome.isFailed(), is(outcome.getPath().equals("failing.story")));
+            }
+            ArgumentCaptor<Throwable> captor = ArgumentCaptor.forClass(Throwable.class);
+            verify(context).addFailure(eq(failing), captor.capture());
+            assertThat(captor.getValue().getCause(), is(failure));
+            verify(context, never()).addFailure(eq(passing), any(Throwable.class));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldWaitForStoriesRunAgainUntilTheyAllComplete() {
+        Story passing = new Story("passing.story");
+        Story failing = new Story("failing.story");
+        PerformableTree performableTree = mock(PerformableTree.class);
+        RunContext context = mock(RunContext.class);
+        FilteredStory filteredStory = mock(FilteredStory.class);
+        when(performableTree.newRunContext(any(), any(), any(), any(), any())).thenReturn(context);
+        when(context.filter(any(Story.class))).thenReturn(filteredStory);
+        when(context.getFailures()).thenReturn(new BatchFailures());
+        doThrow(new IllegalStateException()).when(performableTree).perform(context, failing);
+        Configuration configuration = new MostUsefulConfiguration();
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            StoryManager manager = new StoryManager(configuration, stepsFactory, embedderControls.useThreads(2),
+                    embedderMonitor, executorService, performableTree);
+            for (int run = 0; run < 2; run++) {
+                manager.runStories(Arrays.asList(passing, failing, passing), new MetaFilter(), new BatchFailures());
+                assertThat(manager.outcomes().size(), equalTo(2));
+                for (StoryOutcome outcome : manager.outcomes()) {
+                    assertThat(outcome.isDone(), is(true));
+                }
+            }
+            verify(context, times(2)).addFailure(eq(failing), any(Throwable.class));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
 }
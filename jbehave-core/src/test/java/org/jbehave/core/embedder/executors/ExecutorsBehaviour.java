@@ -1,11 +1,18 @@
 package org.jbehave.core.embedder.executors;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 
+import org.jbehave.core.embedder.EmbedderClassLoader;
+import org.jbehave.core.embedder.EmbedderClassLoader.InstantiationFailed;
 import org.jbehave.core.embedder.EmbedderControls;
+import org.jbehave.core.embedder.executors.VirtualThreadExecutors.VirtualThreadsNotSupported;
 import org.junit.jupiter.api.Test;
 
 class ExecutorsBehaviour {
@@ -14,6 +21,48 @@ class ExecutorsBehaviour {
     void shouldCreateExecutors() {
         assertThat(new FixedThreadExecutors().create(new EmbedderControls()), instanceOf(ExecutorService.class));
         assertThat(new DirectExecutorService().create(new EmbedderControls()), instanceOf(ExecutorService.class));
+        assertThat(new ForkJoinExecutors().create(new EmbedderControls()), instanceOf(ForkJoinPool.class));
     }
-  
+
+    @Test
+    void shouldCreateForkJoinExecutorsWithParallelismOfThreads() {
+        ForkJoinPool pool = (ForkJoinPool) new ForkJoinExecutors().create(new EmbedderControls().useThreads(3));
+        assertThat(pool.getParallelism(), equalTo(3));
+        pool.shutdownNow();
+    }
+
+    @Test
+    void shouldCreateVirtualThreadExecutorsWhenSupported() throws Exception {
+        EmbedderControls controls = new EmbedderControls().useThreads(2);
+        if (virtualThreadsSupported()) {
+            ExecutorService executorService = new VirtualThreadExecutors().create(controls);
+            Thread thread = executorService.submit(Thread::currentThread).get(5, TimeUnit.SECONDS);
+            assertThat(Thread.class.getMethod("isVirtual").invoke(thread), equalTo(true));
+            executorService.shutdownNow();
+        } else {
+            assertThrows(VirtualThreadsNotSupported.class, () -> new VirtualThreadExecutors().create(controls));
+        }
+    }
+
+    @Test
+    void shouldResolveExecutorsByName() {
+        EmbedderClassLoader classLoader = new EmbedderClassLoader(getClass().getClassLoader());
+        assertThat(ExecutorServiceFactories.forName("fixed", classLoader), instanceOf(FixedThreadExecutors.class));
+        assertThat(ExecutorServiceFactories.forName("direct", classLoader), instanceOf(DirectExecutorService.class));
+        assertThat(ExecutorServiceFactories.forName("forkJoin", classLoader), instanceOf(ForkJoinExecutors.class));
+        assertThat(ExecutorServiceFactories.forName("virtual", classLoader), instanceOf(VirtualThreadExecutors.class));
+        assertThat(ExecutorServiceFactories.forName(ForkJoinExecutors.class.getName(), classLoader),
+                instanceOf(ForkJoinExecutors.class));
+        assertThrows(InstantiationFailed.class, () -> ExecutorServiceFactories.forName("unknown", classLoader));
+    }
+
+    private boolean virtualThreadsSupported() {
+        try {
+            Thread.class.getMethod("ofVirtual");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
 }
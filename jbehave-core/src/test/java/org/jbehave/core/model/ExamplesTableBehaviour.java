@@ -11,6 +11,12 @@ import static org.hamcrest.Matchers.instanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import java.beans.BeanInfo;
 import java.beans.IntrospectionException;
@@ -25,6 +31,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -41,6 +48,7 @@ import org.jbehave.core.model.ExamplesTable.ColumnNotFound;
 import org.jbehave.core.model.ExamplesTable.RowNotFound;
 import org.jbehave.core.model.ExamplesTable.TableProperties;
 import org.jbehave.core.model.TableTransformers.TableTransformer;
+import org.jbehave.core.steps.ConvertedParameters;
 import org.jbehave.core.steps.ConvertedParameters.ValueNotFound;
 import org.jbehave.core.steps.ParameterControls;
 import org.jbehave.core.steps.ParameterConverters;
@@ -245,6 +253,33 @@ public class ExamplesTableBehaviour {
         ensureColumnOrderIsPreserved(table);
     }
 
+    @Test
+    void shouldParseTableAsLandscapeWithDistinctHeaderAndValueSeparators() {
+        ExamplesTable table = new ExamplesTable("{transformer=FROM_LANDSCAPE}\n!one!11!12!\n!two!21!22!", "|", "!",
+                "|--");
+        assertThat(table.getHeaders(), equalTo(asList("one", "two")));
+        assertThat(table.getRowCount(), equalTo(2));
+        assertThat(table.getRow(0), equalTo(rowOf("11", "21")));
+        assertThat(table.getRow(1), equalTo(rowOf("12", "22")));
+    }
+
+    @Test
+    void shouldFormatTableWithDistinctHeaderAndValueSeparators() {
+        ExamplesTable table = new ExamplesTable("{transformer=FORMATTING}\n|one|two|\n!11!12!\n|--ignored\n!21!22!",
+                "|", "!", "|--");
+        assertThat(table.getHeaders(), equalTo(asList("one", "two")));
+        assertThat(table.getRowCount(), equalTo(2));
+        assertThat(table.getRow(0), equalTo(rowOf("11", "12")));
+        assertThat(table.getRow(1), equalTo(rowOf("21", "22")));
+    }
+
+    private Map<String, String> rowOf(String one, String two) {
+        Map<String, String> row = new HashMap<>();
+        row.put("one", one);
+        row.put("two", two);
+        return row;
+    }
+
     @Test
     void shouldParseTableWithCustomTransformerSpecifiedViaProperties() {
         String tableWithProperties = "{transformer=myTransformer, trim=false}\n" + tableWithCommentsAsString;
@@ -307,6 +342,42 @@ public class ExamplesTableBehaviour {
         ensureColumnOrderIsPreserved(table);
     }
 
+    @Test
+    void shouldParseTableOnceForSequenceOfRowsTransformers() {
+        String tableWithProperties =
+                        "{transformer=UPPERCASING}\n"
+                      + "{transformer=FROM_LANDSCAPE}\n"
+                      + "{transformer=FORMATTING}\n"
+                    + landscapeTableAsString;
+        TableTransformers tableTransformers = new TableTransformers();
+        tableTransformers.useTransformer("UPPERCASING", new TableTransformers.RowsTransformer() {
+
+            @Override
+            public List<List<String>> transformRows(List<List<String>> rows, TableProperties properties) {
+                List<List<String>> transformed = new ArrayList<>();
+                for (List<String> row : rows) {
+                    List<String> values = new ArrayList<>(row);
+                    values.set(0, values.get(0).toUpperCase());
+                    transformed.add(values);
+                }
+                return transformed;
+            }
+
+        });
+        LoadFromClasspath resourceLoader = new LoadFromClasspath();
+        LocalizedKeywords keywords = new LocalizedKeywords();
+        ParameterConverters parameterConverters = new ParameterConverters(resourceLoader, tableTransformers);
+        TableParsers tableParsers = spy(new TableParsers(keywords, parameterConverters));
+        ExamplesTableFactory factory = new ExamplesTableFactory(keywords, resourceLoader, parameterConverters,
+                new ParameterControls(), tableParsers, tableTransformers);
+        ExamplesTable table = factory.createExamplesTable(tableWithProperties);
+        assertThat(table.getHeaders(), equalTo(asList("ONE", "TWO")));
+        ensureRowContentIs(table.getRows(), 0, asList("11", "12"));
+        ensureRowContentIs(table.getRows(), 1, asList("21", "22"));
+        verify(tableParsers, times(1)).parseRowsAsValues(anyString(), any(TableProperties.class));
+        verify(tableParsers, never()).parseRows(anyString(), any(TableProperties.class));
+    }
+
     private void ensureColumnOrderIsPreserved(ExamplesTable table) {
         assertThat(table.getHeaders(), equalTo(asList("one", "two")));
         List<Map<String, String>> rows = table.getRows();
@@ -575,6 +646,70 @@ public class ExamplesTableBehaviour {
         assertThat(updatedTable.asString(), equalTo("|one|two|three|\n|11|12|13|\n|21|22|23|\n"));
     }
 
+    @Test
+    void shouldExposeRowsAsMapsBackedByTable() {
+        // Given
+        ExamplesTableFactory factory = createFactory();
+
+        // When
+        String tableAsString = "|one|two|three|\n|11|12|\n|21|22|23|";
+        ExamplesTable examplesTable = factory.createExamplesTable(tableAsString);
+        Map<String, String> firstRow = examplesTable.getRows().get(0);
+        Map<String, String> secondRow = examplesTable.getRow(1);
+        secondRow.entrySet().iterator().next().setValue("211");
+        secondRow.remove("three");
+
+        // Then
+        Map<String, String> expected = new HashMap<>();
+        expected.put("one", "11");
+        expected.put("two", "12");
+        expected.put("three", "");
+        assertThat(firstRow, equalTo(expected));
+        assertThat(examplesTable.getColumn("three"), equalTo(asList("", null)));
+        assertThat(new ArrayList<>(examplesTable.getRow(1).keySet()), equalTo(asList("one", "two", "three")));
+        assertThat(examplesTable.asString(), equalTo("|one|two|three|\n|11|12||\n|211|22||\n"));
+    }
+
+    @Test
+    void shouldKeepColumnsMappedToNullInRows() {
+        // Given
+        ExamplesTableFactory factory = createFactory();
+        ExamplesTable originalTable = factory.createExamplesTable("|one|two|\n|11|12|");
+        Map<String, String> row = new LinkedHashMap<>();
+        row.put("one", "11");
+        row.put("two", null);
+
+        // When
+        ExamplesTable updatedTable = originalTable.withRows(Collections.singletonList(row));
+        Map<String, String> updatedRow = updatedTable.getRow(0);
+
+        // Then
+        assertThat(updatedRow, equalTo(row));
+        assertThat(updatedRow.containsKey("two"), is(true));
+        assertThat(updatedRow.size(), is(2));
+        updatedRow.remove("two");
+        assertThat(updatedRow.containsKey("two"), is(false));
+        assertThat(updatedTable.getRow(0).get("two"), equalTo(""));
+    }
+
+    @Test
+    void shouldCopyRowsOnWriteOnlyIntoTableWithDefaults() {
+        // Given
+        ExamplesTableFactory factory = createFactory();
+        ExamplesTable originalTable = factory.createExamplesTable("|one|two|\n|11|12|\n|21|22|");
+        ExamplesTable tableWithDefaults = originalTable.withDefaults(new ConvertedParameters(
+                Collections.singletonMap("three", "3"), new ParameterConverters()));
+
+        // When
+        tableWithDefaults.getRow(0).put("one", "111");
+        originalTable.withRowValues(1, Collections.singletonMap("two", "222"));
+
+        // Then
+        assertThat(originalTable.asString(), equalTo("|one|two|\n|11|12|\n|21|222|\n"));
+        assertThat(tableWithDefaults.asString(), equalTo("|one|two|\n|111|12|\n|21|22|\n"));
+        assertThat(tableWithDefaults.getRowAsParameters(1).valueAs("three", String.class), equalTo("3"));
+    }
+
     @Test
     void shouldAllowBuildingOfTableFromEmptyContent() {
         // Given
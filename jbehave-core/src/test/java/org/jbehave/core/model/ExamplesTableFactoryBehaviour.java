@@ -1,12 +1,32 @@
 package org.jbehave.core.model;
 
+import static java.util.Arrays.asList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.StringReader;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 import org.jbehave.core.io.LoadFromClasspath;
 import org.jbehave.core.io.ResourceLoader;
+import org.jbehave.core.io.StreamingResourceLoader;
 import org.junit.jupiter.api.Test;
 
 class ExamplesTableFactoryBehaviour {
@@ -106,4 +126,144 @@ class ExamplesTableFactoryBehaviour {
         // Then
         assertThat(examplesTable.asString(), equalTo(FILTERED_TABLE_WITH_INLINED_SEPARATTORS));
     }
+
+    @Test
+    void shouldCreateStreamingExamplesTableReadingRowsFromResourceWhenStreamed() {
+        // Given
+        StreamingResourceLoader resourceLoader = mock(StreamingResourceLoader.class);
+        ExamplesTableFactory factory = new ExamplesTableFactory(resourceLoader, new TableTransformers());
+        AtomicInteger closedReaders = new AtomicInteger();
+        when(resourceLoader.loadResourceAsReader(RESOURCE_PATH)).thenAnswer(invocation -> new StringReader(
+                TABLE_WITH_INLINED_SEPARATTORS) {
+            @Override
+            public void close() {
+                closedReaders.incrementAndGet();
+                super.close();
+            }
+        });
+
+        // When
+        ExamplesTable examplesTable = factory.createExamplesTable("{streaming=true}\n" + RESOURCE_PATH);
+        List<Map<String, String>> rows;
+        try (Stream<Map<String, String>> streamedRows = examplesTable.streamRows()) {
+            rows = streamedRows.collect(Collectors.toList());
+        }
+
+        // Then
+        assertThat(examplesTable, instanceOf(StreamingExamplesTable.class));
+        assertThat(examplesTable.isStreaming(), is(true));
+        assertThat(examplesTable.getHeaders(), equalTo(asList("header 1", "header 2", "....", "header n")));
+        assertThat(rows.size(), equalTo(2));
+        assertThat(rows.get(0).get("header 1"), equalTo("value 11"));
+        assertThat(rows.get(1).get("header n"), equalTo("value mn"));
+        assertThat(closedReaders.get(), equalTo(2));
+        verify(resourceLoader, never()).loadResourceAsText(RESOURCE_PATH);
+    }
+
+    @Test
+    void shouldReadWholeStreamingExamplesTableWhenRowsAreAccessedByIndex() {
+        // Given
+        ResourceLoader resourceLoader = mock(ResourceLoader.class);
+        ExamplesTableFactory factory = new ExamplesTableFactory(resourceLoader, new TableTransformers());
+        when(resourceLoader.loadResourceAsText(RESOURCE_PATH)).thenReturn(TABLE_AS_STRING);
+
+        // When
+        ExamplesTable examplesTable = factory.createExamplesTable("{streaming=true}\n" + RESOURCE_PATH);
+
+        // Then
+        assertThat(examplesTable.getRowCount(), equalTo(1));
+        assertThat(examplesTable.getRow(0).get("two"), equalTo("22"));
+        assertThat(examplesTable.asString(), equalTo("{streaming=true}\n" + RESOURCE_PATH));
+        ExamplesTable modifiedTable = examplesTable.withRowValues(0, Collections.singletonMap("one", "1"));
+        assertThat(modifiedTable, not(instanceOf(StreamingExamplesTable.class)));
+        assertThat(modifiedTable.getRow(0).get("one"), equalTo("1"));
+        assertThat(examplesTable.getRow(0).get("one"), equalTo("11"));
+        assertThat(examplesTable.withRows(Collections.emptyList()).getRowCount(), equalTo(0));
+        clearInvocations(resourceLoader);
+        assertThat(examplesTable.getRowCount(), equalTo(1));
+        verify(resourceLoader, never()).loadResourceAsText(RESOURCE_PATH);
+    }
+
+    @Test
+    void shouldNotCreateStreamingExamplesTableWithTransformers() {
+        // Given
+        ResourceLoader resourceLoader = mock(ResourceLoader.class);
+        ExamplesTableFactory factory = new ExamplesTableFactory(resourceLoader, new TableTransformers());
+        when(resourceLoader.loadResourceAsText(RESOURCE_PATH)).thenReturn(TABLE_AS_STRING);
+
+        // When
+        String input = "{streaming=true, transformer=FROM_LANDSCAPE}\n" + RESOURCE_PATH;
+
+        // Then
+        assertThrows(IllegalArgumentException.class, () -> factory.createExamplesTable(input));
+    }
+
+    @Test
+    void shouldParseAndTransformSameInputOnceAndCreateIndependentCopies() {
+        // Given
+        ResourceLoader resourceLoader = mock(ResourceLoader.class);
+        TableTransformers tableTransformers = new TableTransformers();
+        AtomicInteger transformations = new AtomicInteger();
+        tableTransformers.useTransformer("counting", (tableAsString, tableParsers, properties) -> {
+            transformations.incrementAndGet();
+            return tableAsString;
+        });
+        ExamplesTableFactory factory = new ExamplesTableFactory(resourceLoader, tableTransformers);
+        when(resourceLoader.loadResourceAsText(RESOURCE_PATH)).thenReturn(TABLE_AS_STRING);
+        String input = "{transformer=counting}\n" + RESOURCE_PATH;
+
+        // When
+        ExamplesTable first = factory.createExamplesTable(input);
+        first.withRowValues(0, Collections.singletonMap("one", "111"));
+        first.getProperties().setProperty("changed", "true");
+        ExamplesTable second = factory.createExamplesTable(input);
+
+        // Then
+        assertThat(second, not(sameInstance(first)));
+        assertThat(first.getRow(0).get("one"), equalTo("111"));
+        assertThat(second.getRow(0).get("one"), equalTo("11"));
+        assertThat(first.getProperties().getProperty("changed"), equalTo("true"));
+        assertThat(second.getProperties().getProperty("changed"), is(nullValue()));
+        assertThat(second.getInput(), equalTo(input));
+        assertThat(transformations.get(), equalTo(1));
+        verify(resourceLoader, times(1)).loadResourceAsText(RESOURCE_PATH);
+    }
+
+    @Test
+    void shouldTransformTableEachTimeWithNonCacheableTransformer() {
+        // Given
+        TableTransformers tableTransformers = new TableTransformers();
+        AtomicInteger transformations = new AtomicInteger();
+        tableTransformers.useTransformer("counting", (tableAsString, tableParsers, properties) -> {
+            transformations.incrementAndGet();
+            return tableAsString;
+        }, false);
+        ExamplesTableFactory factory = new ExamplesTableFactory(new LoadFromClasspath(), tableTransformers);
+        String input = "{transformer=counting}\n" + TABLE_AS_STRING;
+
+        // When
+        factory.createExamplesTable(input);
+        factory.createExamplesTable(input);
+
+        // Then
+        assertThat(transformations.get(), equalTo(2));
+    }
+
+    @Test
+    void shouldTransformTableAgainOnceTransformerIsRegisteredAgain() {
+        // Given
+        TableTransformers tableTransformers = new TableTransformers();
+        tableTransformers.useTransformer("replacing", (tableAsString, tableParsers, properties) -> tableAsString);
+        ExamplesTableFactory factory = new ExamplesTableFactory(new LoadFromClasspath(), tableTransformers);
+        String input = "{transformer=replacing}\n" + TABLE_AS_STRING;
+        factory.createExamplesTable(input);
+
+        // When
+        tableTransformers.useTransformer("replacing",
+                (tableAsString, tableParsers, properties) -> tableAsString.replace("11", "111"));
+        ExamplesTable table = factory.createExamplesTable(input);
+
+        // Then
+        assertThat(table.getRow(0).get("one"), equalTo("111"));
+    }
 }
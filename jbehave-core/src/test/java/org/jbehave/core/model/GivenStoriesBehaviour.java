@@ -4,6 +4,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 
 import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
@@ -57,4 +58,19 @@ class GivenStoriesBehaviour {
         assertThat(givenStories.getPaths(), equalTo(Arrays.asList(GIVEN_STORY_PATH1)));
     }
 
+    @Test
+    void shouldParametriseGivenStoriesWithoutChangingThem() {
+        GivenStories givenStories = new GivenStories(GIVEN_STORY_PATH1 + "#{0}");
+        givenStories.useExamplesTable(new ExamplesTable("|country|\n|UK|"));
+        GivenStory givenStory = givenStories.getStories().get(0);
+
+        givenStories.useExamplesTable(new ExamplesTable("|country|\n|FR|"));
+        GivenStory parametrisedAgain = givenStories.getStories().get(0);
+
+        assertThat(givenStory.getPath(), equalTo(GIVEN_STORY_PATH1));
+        assertThat(givenStory.getAnchor(), equalTo("0"));
+        assertThat(givenStory.getParameters(), equalTo(Collections.singletonMap("country", "UK")));
+        assertThat(parametrisedAgain.getParameters(), equalTo(Collections.singletonMap("country", "FR")));
+    }
+
 }
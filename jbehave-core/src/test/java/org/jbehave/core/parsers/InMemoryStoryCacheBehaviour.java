@@ -0,0 +1,57 @@
+package org.jbehave.core.parsers;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.jbehave.core.model.Story;
+import org.junit.jupiter.api.Test;
+
+class InMemoryStoryCacheBehaviour {
+
+    private static final String STORY_PATH = "path/to/my.story";
+    private static final String STORY = "Scenario: a scenario\nGiven a step";
+
+    private final StoryParser storyParser = spy(new RegexStoryParser());
+    private final InMemoryStoryCache storyCache = new InMemoryStoryCache();
+
+    @Test
+    void shouldParseStoryOnceForSameText() {
+        Story story = storyCache.storyOf(STORY_PATH, STORY, storyParser);
+        assertThat(storyCache.storyOf(STORY_PATH, new String(STORY), storyParser), sameInstance(story));
+        assertThat(story.getPath(), equalTo(STORY_PATH));
+        verify(storyParser).parseStory(STORY, STORY_PATH);
+    }
+
+    @Test
+    void shouldParseStoryAgainWhenTextChanges() {
+        Story story = storyCache.storyOf(STORY_PATH, STORY, storyParser);
+        String changedStory = STORY + "\nThen another step";
+        Story changed = storyCache.storyOf(STORY_PATH, changedStory, storyParser);
+        assertThat(changed, not(sameInstance(story)));
+        assertThat(changed.getScenarios().get(0).getSteps().size(), equalTo(2));
+        assertThat(storyCache.storyOf(STORY_PATH, changedStory, storyParser), sameInstance(changed));
+    }
+
+    @Test
+    void shouldParseStoryAgainWhenParserChanges() {
+        Story story = storyCache.storyOf(STORY_PATH, STORY, storyParser);
+        assertThat(storyCache.storyOf(STORY_PATH, STORY, new RegexStoryParser()), not(sameInstance(story)));
+    }
+
+    @Test
+    void shouldNotCacheStoriesWithoutPathOrOnceCleared() {
+        storyCache.storyOf(null, STORY, storyParser);
+        storyCache.storyOf(null, STORY, storyParser);
+        verify(storyParser, times(2)).parseStory(STORY, null);
+        storyCache.storyOf(STORY_PATH, STORY, storyParser);
+        storyCache.clear();
+        storyCache.storyOf(STORY_PATH, STORY, storyParser);
+        verify(storyParser, times(2)).parseStory(STORY, STORY_PATH);
+    }
+
+}
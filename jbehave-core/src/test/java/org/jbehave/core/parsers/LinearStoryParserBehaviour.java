@@ -0,0 +1,102 @@
+package org.jbehave.core.parsers;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jbehave.core.io.LoadFromClasspath;
+import org.jbehave.core.model.ExamplesTableFactory;
+import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.Story;
+import org.jbehave.core.model.TableTransformers;
+import org.jbehave.core.parsers.ConformanceCheckingStoryParser.NonConformingStory;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies the {@link LinearStoryParser} in conformance mode against the {@link RegexStoryParser}, on all the
+ * stories of the {@link RegexStoryParserBehaviour} and on the stories of the test resources.
+ */
+class LinearStoryParserBehaviour extends RegexStoryParserBehaviour {
+
+    private final ExamplesTableFactory tableFactory = new ExamplesTableFactory(new LoadFromClasspath(),
+            new TableTransformers());
+
+    @Override
+    StoryParser storyParser(ExamplesTableFactory tableFactory) {
+        return new ConformanceCheckingStoryParser(tableFactory);
+    }
+
+    @Test
+    void shouldConformToRegexStoryParserOnStoriesOfCorpus() throws IOException {
+        StoryParser parser = storyParser(tableFactory);
+        List<Path> stories;
+        try (Stream<Path> paths = Files.walk(Paths.get("src/test/resources"))) {
+            stories = paths.filter(path -> path.toString().endsWith(".story")).collect(Collectors.toList());
+        }
+        assertThat(stories.size(), greaterThan(0));
+        for (Path path : stories) {
+            String storyAsText = new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+            parser.parseStory(storyAsText, path.toString());
+            parser.parseStory(storyAsText.replace("\n", "\r\n"), path.toString());
+        }
+    }
+
+    @Test
+    void shouldConformToRegexStoryParserOnEdgeCases() {
+        StoryParser parser = storyParser(tableFactory);
+        String[] stories = {
+            "",
+            "Scenario:",
+            "Scenario:Scenario:",
+            "Scenario: only a title\n",
+            "Scenario: title\r\nGiven a step\r\n",
+            "Scenario: title\nGiven a step\n\n",
+            "Scenario: title\nGiven\tstep with tab\nGivenno space\nThen last",
+            "Narrative: In order to x As a y I want to z Narrative: As a a I want to b So that c\nScenario:",
+            "Meta: @a b\nMeta: @c\nNarrative:\nIn order to x\nAs a y\nI want to z\nGivenStories: a.story\n"
+                    + "Lifecycle:\nExamples:\n|one|\n|1|\nBefore:\nGiven before\nAfter:\nOutcome: ANY MetaFilter: +x\n"
+                    + "Then after\nScenario: s\nMeta: @m\nGivenStories: b.story#{0}\nGiven a\nExamples:\n|p|\n|1|\n"
+                    + "!-- comment",
+            "Scenario: commented\nGiven a\n!-- Scenario: not a scenario\nThen b\nScenario: next\nGiven c",
+            "Lifecycle:\nAfter:\nScope: STORY\nOutcome: FAILURE\nGiven failure\nScope: STEP\nThen done\n"
+                    + "Before:\nGiven misplaced\nScenario:\nGiven s"
+        };
+        for (String storyAsText : stories) {
+            parser.parseStory(storyAsText, "edge.story");
+        }
+    }
+
+    @Test
+    void shouldParseLongStoriesWithoutBacktracking() {
+        StringBuilder story = new StringBuilder("Scenario: long\nGiven a very long step");
+        for (int i = 0; i < 100000; i++) {
+            story.append(" and more");
+        }
+        story.append("\nThen it is parsed");
+        Story parsed = new LinearStoryParser(tableFactory).parseStory(story.toString());
+        Scenario scenario = parsed.getScenarios().get(0);
+        assertThat(scenario.getSteps().size(), equalTo(2));
+        assertThat(scenario.getSteps().get(1), equalTo("Then it is parsed"));
+    }
+
+    @Test
+    void shouldFailIfParserDoesNotConformToReferenceParser() {
+        StoryParser parser = new ConformanceCheckingStoryParser(new LinearStoryParser(tableFactory),
+                new TransformingStoryParser(new RegexStoryParser(tableFactory), text -> text.replace("a", "b")));
+        NonConformingStory exception = assertThrows(NonConformingStory.class,
+            () -> parser.parseStory("Scenario: a\nGiven a", "path/to/my.story"));
+        assertThat(exception.getMessage(), containsString("path/to/my.story"));
+    }
+
+}
@@ -0,0 +1,171 @@
+package org.jbehave.core.parsers;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jbehave.core.annotations.AfterScenario.Outcome;
+import org.jbehave.core.annotations.Scope;
+import org.jbehave.core.i18n.LocalizedKeywords;
+import org.jbehave.core.io.LoadFromClasspath;
+import org.jbehave.core.model.ExamplesTableFactory;
+import org.jbehave.core.model.Lifecycle;
+import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.Story;
+import org.jbehave.core.model.TableTransformers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PersistentStoryCacheBehaviour {
+
+    private static final String STORY_PATH = "path/to/my.story";
+    private static final String STORY = "A story description\n"
+            + "Meta: @theme caching\n"
+            + "Narrative:\nIn order to run faster\nAs a developer\nI want to parse stories once\n"
+            + "GivenStories: path/to/given.story#{0}\n"
+            + "Lifecycle:\nExamples:\n|country|\n|UK|\n"
+            + "Before:\nScope: STORY\nGiven a before story step\n"
+            + "After:\nOutcome: FAILURE\nMetaFilter: +theme caching\nThen an after failure step\n"
+            + "Scenario: first\nMeta: @id 1\nGiven a step with <name>\nThen another step\n"
+            + "Examples:\n|name|\n|one|\n|two|\n"
+            + "Scenario: second\nGivenStories: path/to/other.story\nWhen a step";
+
+    private final ExamplesTableFactory tableFactory = new ExamplesTableFactory(new LoadFromClasspath(),
+            new TableTransformers());
+
+    @TempDir
+    File directory;
+
+    @Test
+    void shouldPersistParsedStoryAndReadItInLaterRunsWithoutParsing() {
+        // the parsers of all runs are spies, as the class of the parser is part of the fingerprint
+        Story parsed = new PersistentStoryCache(directory, tableFactory).storyOf(STORY_PATH, STORY,
+                spy(new RegexStoryParser(tableFactory)));
+
+        StoryParser storyParser = spy(new RegexStoryParser(tableFactory));
+        Story read = new PersistentStoryCache(directory, tableFactory).storyOf(STORY_PATH, STORY, storyParser);
+
+        verify(storyParser, never()).parseStory(anyString(), anyString());
+        assertThat(read, not(sameInstance(parsed)));
+        assertThat(read.getPath(), equalTo(STORY_PATH));
+        assertThat(read.getName(), equalTo("my.story"));
+        assertThat(read.getDescription().asString(), equalTo("A story description"));
+        assertThat(read.getMeta().getProperty("theme"), equalTo("caching"));
+        assertThat(read.getNarrative().inOrderTo(), equalTo("run faster"));
+        assertThat(read.getNarrative().asA(), equalTo("developer"));
+        assertThat(read.getNarrative().iWantTo(), equalTo("parse stories once"));
+        assertThat(read.getGivenStories().getStories().get(0).getParameters().get("country"), equalTo("UK"));
+        Lifecycle lifecycle = read.getLifecycle();
+        assertThat(lifecycle.getExamplesTable().asString(), equalTo(parsed.getLifecycle().getExamplesTable()
+                .asString()));
+        assertThat(lifecycle.getBeforeSteps(Scope.STORY), equalTo(parsed.getLifecycle().getBeforeSteps(Scope.STORY)));
+        assertThat(lifecycle.getAfterSteps(Outcome.FAILURE).get(0), equalTo("Then an after failure step"));
+        assertThat(lifecycle.getMetaFilter(Outcome.FAILURE).asString(), equalTo("+theme caching"));
+        assertThat(read.getScenarios().size(), equalTo(2));
+        for (int i = 0; i < 2; i++) {
+            Scenario expected = parsed.getScenarios().get(i);
+            Scenario actual = read.getScenarios().get(i);
+            assertThat(actual.getTitle(), equalTo(expected.getTitle()));
+            assertThat(actual.getMeta().getPropertyNames(), equalTo(expected.getMeta().getPropertyNames()));
+            assertThat(actual.getGivenStories().asString(), equalTo(expected.getGivenStories().asString()));
+            assertThat(actual.getExamplesTable().getRows(), equalTo(expected.getExamplesTable().getRows()));
+            assertThat(actual.getSteps(), equalTo(expected.getSteps()));
+        }
+    }
+
+    @Test
+    void shouldParseStoryAgainWhenTextChanges() {
+        new PersistentStoryCache(directory, tableFactory).storyOf(STORY_PATH, STORY,
+                spy(new RegexStoryParser(tableFactory)));
+
+        StoryParser storyParser = spy(new RegexStoryParser(tableFactory));
+        String changedStory = STORY + "\nThen a new step";
+        Story read = new PersistentStoryCache(directory, tableFactory).storyOf(STORY_PATH, changedStory,
+                storyParser);
+
+        verify(storyParser).parseStory(changedStory, STORY_PATH);
+        assertThat(read.getScenarios().get(1).getSteps().size(), equalTo(2));
+    }
+
+    @Test
+    void shouldParseStoryAgainWhenKeywordsOrParserChange() {
+        new PersistentStoryCache(directory, tableFactory).storyOf(STORY_PATH, STORY,
+                spy(new RegexStoryParser(tableFactory)));
+
+        ExamplesTableFactory germanTableFactory = new ExamplesTableFactory(new LocalizedKeywords(Locale.GERMAN),
+                new LoadFromClasspath(), new TableTransformers());
+        StoryParser germanParser = spy(new RegexStoryParser(germanTableFactory));
+        new PersistentStoryCache(directory, germanTableFactory).storyOf(STORY_PATH, STORY, germanParser);
+        verify(germanParser).parseStory(STORY, STORY_PATH);
+
+        StoryParser linearParser = spy(new LinearStoryParser(tableFactory));
+        new PersistentStoryCache(directory, tableFactory).storyOf(STORY_PATH, STORY, linearParser);
+        verify(linearParser).parseStory(STORY, STORY_PATH);
+    }
+
+    @Test
+    void shouldParseStoryAgainWhenPersistedStoryIsCorrupted() throws IOException {
+        new PersistentStoryCache(directory, tableFactory).storyOf(STORY_PATH, STORY,
+                spy(new RegexStoryParser(tableFactory)));
+        List<Path> files;
+        try (Stream<Path> paths = Files.list(directory.toPath())) {
+            files = paths.collect(Collectors.toList());
+        }
+        assertThat(files.size(), equalTo(1));
+        byte[] bytes = Files.readAllBytes(files.get(0));
+        Files.write(files.get(0), Arrays.copyOf(bytes, bytes.length / 2));
+
+        StoryParser storyParser = spy(new RegexStoryParser(tableFactory));
+        PersistentStoryCache storyCache = new PersistentStoryCache(directory, tableFactory);
+        Story story = storyCache.storyOf(STORY_PATH, STORY, storyParser);
+        assertThat(story.getScenarios().size(), equalTo(2));
+        assertThat(storyCache.storyOf(STORY_PATH, STORY, storyParser), sameInstance(story));
+        verify(storyParser, times(1)).parseStory(STORY, STORY_PATH);
+        assertThat(Files.size(files.get(0)), equalTo((long) bytes.length));
+    }
+
+    @Test
+    void shouldReportFailureToPersistStoryAndDeleteTemporaryFile() throws IOException {
+        new PersistentStoryCache(directory, tableFactory).storyOf(STORY_PATH, STORY,
+                spy(new RegexStoryParser(tableFactory)));
+        Path file;
+        try (Stream<Path> paths = Files.list(directory.toPath())) {
+            file = paths.findFirst().get();
+        }
+        // the persisted story is replaced by a non-empty directory, which the temporary file cannot replace
+        Files.delete(file);
+        Files.createDirectories(file.resolve("blocking"));
+
+        StoryCacheMonitor monitor = mock(StoryCacheMonitor.class);
+        StoryParser storyParser = spy(new RegexStoryParser(tableFactory));
+        Story story = new PersistentStoryCache(directory, tableFactory, monitor).storyOf(STORY_PATH, STORY,
+                storyParser);
+
+        assertThat(story.getScenarios().size(), equalTo(2));
+        verify(monitor).storyPersistenceFailed(eq(STORY_PATH), eq(file), any(IOException.class));
+        try (Stream<Path> paths = Files.list(directory.toPath())) {
+            assertThat(paths.collect(Collectors.toList()), equalTo(Collections.singletonList(file)));
+        }
+    }
+
+}
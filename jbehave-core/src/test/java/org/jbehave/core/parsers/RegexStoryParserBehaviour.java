@@ -10,7 +10,9 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 
 import java.io.File;
 import java.util.ArrayList;
@@ -41,9 +43,14 @@ import org.junit.jupiter.api.Test;
 class RegexStoryParserBehaviour {
 
     private static final String NL = "\n";
-    private StoryParser parser = new RegexStoryParser();
+    private StoryParser parser = storyParser(
+            new ExamplesTableFactory(new LoadFromClasspath(), new TableTransformers()));
     private String storyPath = "path/to/my.story";
 
+    StoryParser storyParser(ExamplesTableFactory tableFactory) {
+        return new RegexStoryParser(tableFactory);
+    }
+
     @Test
     void shouldParseStoryAndProvideNameFromPath() {
         Story story = parser.parseStory(EMPTY, storyPath);
@@ -58,6 +65,32 @@ class RegexStoryParserBehaviour {
         assertThat(story.getName(), equalTo(EMPTY));
     }
 
+    @Test
+    void shouldShareGrammarCompiledOncePerKeywords() {
+        Keywords keywords = new LocalizedKeywords();
+        ExamplesTableFactory tableFactory = new ExamplesTableFactory(keywords, new LoadFromClasspath(),
+                new TableTransformers());
+        RegexStoryParser storyParser = new RegexStoryParser(tableFactory);
+        RegexCompositeParser compositeParser = new RegexCompositeParser(keywords);
+        assertThat(storyParser.grammar(), notNullValue());
+        assertThat(storyParser.grammar(), sameInstance(new RegexStoryParser(tableFactory).grammar()));
+        assertThat(compositeParser.grammar(), sameInstance(storyParser.grammar()));
+        assertThat(new RegexCompositeParser(new LocalizedKeywords()).grammar(),
+                not(sameInstance(storyParser.grammar())));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void shouldKeepRegexFragmentsForSubclasses() {
+        RegexStoryParser parser = new RegexStoryParser();
+        String startingWords = "(?:" + String.join("|", parser.keywords().startingWords()) + ")";
+        assertThat(parser.concatenateInitialStartingWords(), equalTo("\\r?\\n" + startingWords));
+        assertThat(parser.concatenateFollowingStartingWords(), equalTo("\\r?\\n" + startingWords + "\\s"));
+        assertThat(parser.concatenateWithOr("Meta:", "Narrative:"), equalTo("(?:Meta:|Narrative:)"));
+        assertThat(parser.splitElements("Scenario: one" + NL + "Scenario: two", "Scenario:"),
+                equalTo(asList("Scenario:\n one" + NL, "Scenario:\n two")));
+    }
+
     @Test
     void shouldParseStoryWithMetaAndGivenStories() {
         String wholeStory = "Meta: @skip @theme parsing" + NL + 
@@ -230,7 +263,7 @@ class RegexStoryParserBehaviour {
     @Test
     void shouldParseStoryWithSynonymsOfStartingWords() {
         LocalizedKeywords keywords = new LocalizedKeywords(new Locale("sy"));
-        StoryParser parser = new RegexStoryParser(
+        StoryParser parser = storyParser(
                 new ExamplesTableFactory(keywords, new LoadFromClasspath(), new TableTransformers()));
 
         String wholeStory = "Given a scenario" + NL +
@@ -547,7 +580,7 @@ class RegexStoryParserBehaviour {
                 "Szenario:" +NL +
                 "Wenn ein Kunde 20 T-Shirts bestellt";
         LocalizedKeywords keywords = new LocalizedKeywords(Locale.GERMAN);
-        parser = new RegexStoryParser(
+        parser = storyParser(
                 new ExamplesTableFactory(keywords, new LoadFromClasspath(), new TableTransformers()));
         Story story = parser.parseStory(wholeStory, storyPath);
         List<String> beforeSteps = story.getLifecycle().getBeforeSteps(Scope.SCENARIO);
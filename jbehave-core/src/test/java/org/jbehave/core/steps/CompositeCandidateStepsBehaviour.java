@@ -5,6 +5,7 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.jbehave.core.steps.StepCandidateBehaviour.candidateMatchingStep;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 
 import java.util.ArrayList;
@@ -22,6 +23,8 @@ import org.jbehave.core.annotations.Then;
 import org.jbehave.core.annotations.When;
 import org.jbehave.core.configuration.MostUsefulConfiguration;
 import org.jbehave.core.reporters.StoryReporter;
+import org.jbehave.core.steps.StepCandidate.CompositeCycleFound;
+import org.jbehave.core.steps.StepCandidate.ResolvedComposedStep;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -77,6 +80,84 @@ class CompositeCandidateStepsBehaviour {
 
     }
 
+    @Test
+    void shouldResolveComposedStepsOnceAndParametriseThemOnEachUse() {
+        SimpleSteps steps = new SimpleSteps();
+        List<StepCandidate> candidates = new ArrayList<>();
+        candidates.addAll(steps.listCandidates());
+        candidates.addAll(new SimpleCompositeSteps().listCandidates());
+        StepCandidate candidate = candidateMatchingStep(candidates, "Given $customer has previously bought a $product");
+        List<ResolvedComposedStep> resolvedComposedSteps = candidate.resolveComposedSteps(candidates);
+        assertThat(resolvedComposedSteps.size(), equalTo(2));
+        assertThat(resolvedComposedSteps.get(0).candidate(), equalTo(candidates.get(0)));
+        assertThat(resolvedComposedSteps.get(1).candidate(), equalTo(candidates.get(1)));
+        for (String customer : new String[] { "Mr Jones", "Ms Smith" }) {
+            List<Step> composedSteps = new ArrayList<>();
+            String stepAsString = "Given " + customer + " has previously bought a ticket";
+            candidate.addResolvedComposedSteps(composedSteps, stepAsString, candidate.match(stepAsString, null),
+                    new HashMap<>(), resolvedComposedSteps);
+            for (Step step : composedSteps) {
+                step.perform(mock(StoryReporter.class), null);
+            }
+            assertThat(steps.loggedIn, equalTo(customer));
+            assertThat(steps.added, equalTo("ticket"));
+        }
+    }
+
+    @Test
+    void shouldResolveNestedCompositesSharingTheirResolution() {
+        List<StepCandidate> candidates = new SharedCompositeSteps().listCandidates();
+        StepCandidate candidate = candidateMatchingStep(candidates, "Given all is set up");
+        List<ResolvedComposedStep> resolvedComposedSteps = candidate.resolveComposedSteps(candidates);
+        assertThat(resolvedComposedSteps.size(), equalTo(3));
+        assertThat(resolvedComposedSteps.get(0).composedSteps().size(), equalTo(1));
+        assertThat(resolvedComposedSteps.get(1).composedSteps(),
+                is(resolvedComposedSteps.get(0).composedSteps()));
+        assertThat(resolvedComposedSteps.get(2).kind(), equalTo(ResolvedComposedStep.Kind.PENDING));
+    }
+
+    static class SharedCompositeSteps extends Steps {
+
+        @Given("all is set up")
+        @Composite(steps = { "Given the user is logged in", "And the user is logged in", "Given an unknown step" })
+        public void allIsSetUp() {
+        }
+
+        @Given("the user is logged in")
+        @Composite(steps = { "When the user logs in" })
+        public void theUserIsLoggedIn() {
+        }
+
+        @When("the user logs in")
+        public void theUserLogsIn() {
+        }
+
+    }
+
+    @Test
+    void shouldFailToResolveCompositesComposedOfThemselves() {
+        List<StepCandidate> candidates = new CyclicCompositeSteps().listCandidates();
+        StepCandidate candidate = candidateMatchingStep(candidates, "Given a cycle");
+        CompositeCycleFound failure = assertThrows(CompositeCycleFound.class,
+                () -> candidate.resolveComposedSteps(candidates));
+        assertThat(failure.getMessage(), equalTo("Composite step GIVEN a cycle is composed of itself: "
+                + "[GIVEN a cycle, WHEN the cycle goes on] -> GIVEN a cycle"));
+    }
+
+    static class CyclicCompositeSteps extends Steps {
+
+        @Given("a cycle")
+        @Composite(steps = { "When the cycle goes on" })
+        public void aCycle() {
+        }
+
+        @When("the cycle goes on")
+        @Composite(steps = { "Given a cycle" })
+        public void theCycleGoesOn() {
+        }
+
+    }
+
     static class SimpleCompositeSteps extends Steps {
 
         @Given("$customer has previously bought a $product")
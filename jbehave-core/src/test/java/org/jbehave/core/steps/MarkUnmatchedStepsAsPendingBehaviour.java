@@ -31,6 +31,7 @@ import org.jbehave.core.annotations.Scope;
 import org.jbehave.core.embedder.MatchingStepMonitor;
 import org.jbehave.core.failures.PendingStepFound;
 import org.jbehave.core.failures.UUIDExceptionWrapper;
+import org.jbehave.core.i18n.LocalizedKeywords;
 import org.jbehave.core.model.ExamplesTable;
 import org.jbehave.core.model.Lifecycle;
 import org.jbehave.core.model.Meta;
@@ -39,6 +40,7 @@ import org.jbehave.core.model.Story;
 import org.jbehave.core.reporters.StoryReporter;
 import org.jbehave.core.steps.AbstractStepResult.Comment;
 import org.jbehave.core.steps.AbstractStepResult.Ignorable;
+import org.jbehave.core.steps.StepCandidate.ResolvedComposedStep;
 import org.jbehave.core.steps.StepCollector.Stage;
 import org.jbehave.core.steps.StepCreator.PendingStep;
 import org.jbehave.core.steps.StepCreator.StepExecutionType;
@@ -51,6 +53,7 @@ class MarkUnmatchedStepsAsPendingBehaviour
     private final StepCollector stepCollector = new MarkUnmatchedStepsAsPending();
     private final StepMonitor stepMonitor = new NullStepMonitor();
     private final Map<String, String> parameters = new HashMap<>();
+    private final StepMatchResult stepMatch = mock(StepMatchResult.class);
 
     @Test
     void shouldCreateExecutableStepsWhenCandidatesAreMatched()
@@ -60,8 +63,8 @@ class MarkUnmatchedStepsAsPendingBehaviour
         Step executableStep = mock(Step.class);
 
         String stepAsString = "my step";
-        when(candidate.matches(stepAsString, null)).thenReturn(true);
-        when(candidate.createMatchedStep(stepAsString, parameters, emptyList())).thenReturn(executableStep);
+        when(candidate.match(stepAsString, null)).thenReturn(stepMatch);
+        when(candidate.createMatchedStep(stepAsString, stepMatch, parameters, emptyList())).thenReturn(executableStep);
 
         // When
         List<Step> executableSteps = stepCollector.collectScenarioSteps(singletonList(candidate),
@@ -72,6 +75,81 @@ class MarkUnmatchedStepsAsPendingBehaviour
         assertThat(executableSteps.get(0), equalTo(executableStep));
     }
 
+    @Test
+    void shouldResolveRepeatedStepsFromCache()
+    {
+        // Given
+        StepCandidate candidate = mock(StepCandidate.class);
+        Step executableStep = mock(Step.class);
+        StepMonitor monitor = mock(StepMonitor.class);
+
+        String stepAsString = "my step";
+        when(candidate.match(stepAsString, null)).thenReturn(stepMatch);
+        when(candidate.createMatchedStep(stepAsString, stepMatch, parameters, emptyList())).thenReturn(executableStep);
+
+        // When
+        List<Step> executableSteps = stepCollector.collectScenarioSteps(singletonList(candidate),
+                createScenario(stepAsString, stepAsString), parameters, monitor);
+
+        // Then
+        assertThat(executableSteps, equalTo(asList(executableStep, executableStep)));
+        verify(candidate, times(1)).match(stepAsString, null);
+        verify(monitor).stepResolutionCacheLookup(stepAsString, false, 0, 1);
+        verify(monitor).stepResolutionCacheLookup(stepAsString, true, 1, 1);
+    }
+
+    @Test
+    void shouldKeepResolutionsOfIndexedCandidatesWhenCollectingAlternatelyForOtherCandidates()
+    {
+        // Given
+        StepCandidate candidate = mock(StepCandidate.class);
+        StepCandidate otherCandidate = mock(StepCandidate.class);
+        Step executableStep = mock(Step.class);
+        List<StepCandidate> candidates = new StepCandidateIndex(singletonList(candidate)).asList();
+        List<StepCandidate> otherCandidates = new StepCandidateIndex(singletonList(otherCandidate)).asList();
+
+        String stepAsString = "my step";
+        when(candidate.match(stepAsString, null)).thenReturn(stepMatch);
+        when(candidate.createMatchedStep(stepAsString, stepMatch, parameters, emptyList())).thenReturn(executableStep);
+        when(otherCandidate.match(stepAsString, null)).thenReturn(stepMatch);
+        when(otherCandidate.createMatchedStep(stepAsString, stepMatch, parameters, emptyList())).thenReturn(
+                executableStep);
+
+        // When
+        for (int i = 0; i < 2; i++) {
+            stepCollector.collectScenarioSteps(candidates, createScenario(stepAsString), parameters, stepMonitor);
+            stepCollector.collectScenarioSteps(otherCandidates, createScenario(stepAsString), parameters,
+                    stepMonitor);
+        }
+
+        // Then
+        verify(candidate, times(1)).match(stepAsString, null);
+        verify(otherCandidate, times(1)).match(stepAsString, null);
+    }
+
+    @Test
+    void shouldNotResolveRepeatedStepsFromCacheIfDisabled()
+    {
+        // Given
+        StepCandidate candidate = mock(StepCandidate.class);
+        Step executableStep = mock(Step.class);
+        StepCollector stepCollector = new MarkUnmatchedStepsAsPending(new StepFinder(), new LocalizedKeywords(), 0);
+
+        String stepAsString = "my step";
+        when(candidate.match(stepAsString, null)).thenReturn(stepMatch);
+        when(candidate.match(stepAsString, stepAsString)).thenReturn(stepMatch);
+        when(candidate.createMatchedStep(stepAsString, stepMatch, parameters, emptyList())).thenReturn(executableStep);
+
+        // When
+        List<Step> executableSteps = stepCollector.collectScenarioSteps(singletonList(candidate),
+                createScenario(stepAsString, stepAsString), parameters, stepMonitor);
+
+        // Then
+        assertThat(executableSteps, equalTo(asList(executableStep, executableStep)));
+        verify(candidate).match(stepAsString, null);
+        verify(candidate).match(stepAsString, stepAsString);
+    }
+
     @Test
     void shouldCreateExecutableStepsOnlyFromPreviousNonAndStep()
     {
@@ -83,10 +161,10 @@ class MarkUnmatchedStepsAsPendingBehaviour
 
         String myStep = "my step";
         when(candidate.matches(myStep)).thenReturn(true);
-        when(candidate.createMatchedStep(myStep, parameters, emptyList())).thenReturn(step);
+        when(candidate.createMatchedStep(myStep, stepMatch, parameters, emptyList())).thenReturn(step);
         String myAndStep = "And my step";
         when(andCandidate.matches(myAndStep)).thenReturn(true);
-        when(andCandidate.createMatchedStep(myAndStep, parameters, emptyList())).thenReturn(andStep);
+        when(andCandidate.createMatchedStep(myAndStep, stepMatch, parameters, emptyList())).thenReturn(andStep);
 
         // When
         List<Step> executableSteps = stepCollector.collectScenarioSteps(asList(candidate, andCandidate),
@@ -108,18 +186,18 @@ class MarkUnmatchedStepsAsPendingBehaviour
         Step failureStep = mock(Step.class, "failureStep");
 
         String myAnyStep = "my any step";
-        when(anyCandidate.matches(myAnyStep, null)).thenReturn(true);
-        when(anyCandidate.createMatchedStepUponOutcome(myAnyStep, parameters, emptyList(), Outcome.ANY))
+        when(anyCandidate.match(myAnyStep, null)).thenReturn(stepMatch);
+        when(anyCandidate.createMatchedStepUponOutcome(myAnyStep, stepMatch, parameters, emptyList(), Outcome.ANY))
                 .thenReturn(anyStep);
         String mySuccessStep = "my success step";
-        when(successCandidate.matches(mySuccessStep, null)).thenReturn(true);
+        when(successCandidate.match(mySuccessStep, null)).thenReturn(stepMatch);
         when(successCandidate
-                .createMatchedStepUponOutcome(mySuccessStep, parameters, emptyList(), Outcome.SUCCESS))
+                .createMatchedStepUponOutcome(mySuccessStep, stepMatch, parameters, emptyList(), Outcome.SUCCESS))
                 .thenReturn(successStep);
         String myFailureStep = "my failure step";
-        when(successCandidate.matches(myFailureStep, null)).thenReturn(true);
+        when(successCandidate.match(myFailureStep, null)).thenReturn(stepMatch);
         when(successCandidate
-                .createMatchedStepUponOutcome(myFailureStep, parameters, emptyList(), Outcome.FAILURE))
+                .createMatchedStepUponOutcome(myFailureStep, stepMatch, parameters, emptyList(), Outcome.FAILURE))
                 .thenReturn(failureStep);
 
         Lifecycle lifecycle = new Lifecycle(ExamplesTable.EMPTY, emptyList(),
@@ -151,18 +229,18 @@ class MarkUnmatchedStepsAsPendingBehaviour
         Step failureStep = mock(Step.class, "failureStep");
 
         String myAnyStep = "my any step";
-        when(anyCandidate.matches(myAnyStep, null)).thenReturn(true);
-        when(anyCandidate.createMatchedStepUponOutcome(myAnyStep, parameters, emptyList(), Outcome.ANY))
+        when(anyCandidate.match(myAnyStep, null)).thenReturn(stepMatch);
+        when(anyCandidate.createMatchedStepUponOutcome(myAnyStep, stepMatch, parameters, emptyList(), Outcome.ANY))
                 .thenReturn(anyStep);
         String mySuccessStep = "my success step";
-        when(successCandidate.matches(mySuccessStep, null)).thenReturn(true);
+        when(successCandidate.match(mySuccessStep, null)).thenReturn(stepMatch);
         when(successCandidate
-                .createMatchedStepUponOutcome(mySuccessStep, parameters, emptyList(), Outcome.SUCCESS))
+                .createMatchedStepUponOutcome(mySuccessStep, stepMatch, parameters, emptyList(), Outcome.SUCCESS))
                 .thenReturn(successStep);
         String myFailureStep = "my failure step";
-        when(successCandidate.matches(myFailureStep, null)).thenReturn(true);
+        when(successCandidate.match(myFailureStep, null)).thenReturn(stepMatch);
         when(successCandidate
-                .createMatchedStepUponOutcome(myFailureStep, parameters, emptyList(), Outcome.FAILURE))
+                .createMatchedStepUponOutcome(myFailureStep, stepMatch, parameters, emptyList(), Outcome.FAILURE))
                 .thenReturn(failureStep);
 
         Scope scope = Scope.STORY;
@@ -196,18 +274,61 @@ class MarkUnmatchedStepsAsPendingBehaviour
         Step executableComposite = mock(Step.class, "composite");
 
         String compositeAsText = "my composite step";
-        when(compositeCandidate.matches(compositeAsText, null)).thenReturn(true);
+        when(compositeCandidate.match(compositeAsText, null)).thenReturn(stepMatch);
         when(compositeCandidate.isComposite()).thenReturn(true);
-        when(compositeCandidate.createMatchedStep(compositeAsText, parameters, emptyList())).thenReturn(
+        when(compositeCandidate.createMatchedStep(compositeAsText, stepMatch, parameters, emptyList())).thenReturn(
                 executableComposite);
 
+        List<ResolvedComposedStep> resolvedComposedSteps = singletonList(
+                new ResolvedComposedStep("!-- ignored", null, ResolvedComposedStep.Kind.IGNORABLE));
+        when(compositeCandidate.resolveComposedSteps(
+                asList(compositeCandidate, composedCandidate1, composedCandidate2))).thenReturn(resolvedComposedSteps);
+
         // When
-        stepCollector.collectScenarioSteps(asList(compositeCandidate, composedCandidate2, composedCandidate1),
-                createScenario(compositeAsText), parameters, stepMonitor);
+        List<StepCandidate> candidates = asList(compositeCandidate, composedCandidate2, composedCandidate1);
+        stepCollector.collectScenarioSteps(candidates, createScenario(compositeAsText), parameters, stepMonitor);
+        stepCollector.collectScenarioSteps(candidates, createScenario(compositeAsText), parameters, stepMonitor);
 
         // Then
-        verify(compositeCandidate, times(1)).addComposedSteps(new ArrayList<>(), compositeAsText, parameters,
+        verify(compositeCandidate, times(1)).resolveComposedSteps(
                 asList(compositeCandidate, composedCandidate1, composedCandidate2));
+        verify(compositeCandidate, times(2)).addResolvedComposedSteps(new ArrayList<>(), compositeAsText, stepMatch,
+                parameters, resolvedComposedSteps);
+    }
+
+    @Test
+    void shouldResolveComposedStepsOnceForAllStepsMatchingACompositeWithTheSamePriorities()
+    {
+        // Given
+        StepCandidate compositeCandidate = mock(StepCandidate.class, "compositeCandidate");
+        StepCandidate composedCandidate = mock(StepCandidate.class, "composedCandidate");
+        when(compositeCandidate.getPriority()).thenReturn(2);
+        when(composedCandidate.getPriority()).thenReturn(1);
+
+        String firstCompositeAsText = "my composite step with 1";
+        String secondCompositeAsText = "my composite step with 2";
+        when(compositeCandidate.match(firstCompositeAsText, null)).thenReturn(stepMatch);
+        when(compositeCandidate.match(secondCompositeAsText, null)).thenReturn(stepMatch);
+        when(compositeCandidate.isComposite()).thenReturn(true);
+
+        List<ResolvedComposedStep> resolvedComposedSteps = singletonList(
+                new ResolvedComposedStep("!-- ignored", null, ResolvedComposedStep.Kind.IGNORABLE));
+        when(compositeCandidate.resolveComposedSteps(asList(compositeCandidate, composedCandidate))).thenReturn(
+                resolvedComposedSteps);
+
+        // When
+        List<StepCandidate> candidates = asList(composedCandidate, compositeCandidate);
+        stepCollector.collectScenarioSteps(candidates, createScenario(firstCompositeAsText), parameters,
+                stepMonitor);
+        stepCollector.collectScenarioSteps(candidates, createScenario(secondCompositeAsText), parameters,
+                stepMonitor);
+
+        // Then
+        verify(compositeCandidate, times(1)).resolveComposedSteps(asList(compositeCandidate, composedCandidate));
+        verify(compositeCandidate).addResolvedComposedSteps(new ArrayList<>(), firstCompositeAsText, stepMatch,
+                parameters, resolvedComposedSteps);
+        verify(compositeCandidate).addResolvedComposedSteps(new ArrayList<>(), secondCompositeAsText, stepMatch,
+                parameters, resolvedComposedSteps);
     }
 
     @Test
@@ -430,18 +551,18 @@ class MarkUnmatchedStepsAsPendingBehaviour
 
         // all matching the same step string with different priorities
         String stepAsString = "Given a step";
-        when(candidate1.matches(stepAsString, null)).thenReturn(true);
-        when(candidate2.matches(stepAsString, null)).thenReturn(true);
-        when(candidate3.matches(stepAsString, null)).thenReturn(true);
-        when(candidate4.matches(stepAsString, null)).thenReturn(true);
+        when(candidate1.match(stepAsString, null)).thenReturn(stepMatch);
+        when(candidate2.match(stepAsString, null)).thenReturn(stepMatch);
+        when(candidate3.match(stepAsString, null)).thenReturn(stepMatch);
+        when(candidate4.match(stepAsString, null)).thenReturn(stepMatch);
         when(candidate1.getPriority()).thenReturn(1);
         when(candidate2.getPriority()).thenReturn(2);
         when(candidate3.getPriority()).thenReturn(3);
         when(candidate4.getPriority()).thenReturn(4);
-        when(candidate1.createMatchedStep(stepAsString, parameters, emptyList())).thenReturn(step1);
-        when(candidate2.createMatchedStep(stepAsString, parameters, emptyList())).thenReturn(step2);
-        when(candidate3.createMatchedStep(stepAsString, parameters, emptyList())).thenReturn(step3);
-        when(candidate4.createMatchedStep(stepAsString, parameters, emptyList())).thenReturn(step4);
+        when(candidate1.createMatchedStep(stepAsString, stepMatch, parameters, emptyList())).thenReturn(step1);
+        when(candidate2.createMatchedStep(stepAsString, stepMatch, parameters, emptyList())).thenReturn(step2);
+        when(candidate3.createMatchedStep(stepAsString, stepMatch, parameters, emptyList())).thenReturn(step3);
+        when(candidate4.createMatchedStep(stepAsString, stepMatch, parameters, emptyList())).thenReturn(step4);
 
         // When we collect the list of steps
         List<Step> steps = stepCollector.collectScenarioSteps(asList(candidate1, candidate2, candidate3, candidate4),
@@ -467,18 +588,18 @@ class MarkUnmatchedStepsAsPendingBehaviour
 
         // all matching the same step string with different priorities
         String stepAsString = "Given a step";
-        when(candidate1.matches(stepAsString, null)).thenReturn(true);
-        when(candidate2.matches(stepAsString, null)).thenReturn(true);
-        when(candidate3.matches(stepAsString, null)).thenReturn(true);
-        when(candidate4.matches(stepAsString, null)).thenReturn(true);
+        when(candidate1.match(stepAsString, null)).thenReturn(stepMatch);
+        when(candidate2.match(stepAsString, null)).thenReturn(stepMatch);
+        when(candidate3.match(stepAsString, null)).thenReturn(stepMatch);
+        when(candidate4.match(stepAsString, null)).thenReturn(stepMatch);
         when(candidate1.getPatternAsString()).thenReturn("Given I do something");
         when(candidate2.getPatternAsString()).thenReturn("When I do something ");
         when(candidate3.getPatternAsString()).thenReturn("Then I do something");
         when(candidate4.getPatternAsString()).thenReturn("And I do something");
-        when(candidate1.createMatchedStep(stepAsString, parameters, emptyList())).thenReturn(step1);
-        when(candidate2.createMatchedStep(stepAsString, parameters, emptyList())).thenReturn(step2);
-        when(candidate3.createMatchedStep(stepAsString, parameters, emptyList())).thenReturn(step3);
-        when(candidate4.createMatchedStep(stepAsString, parameters, emptyList())).thenReturn(step4);
+        when(candidate1.createMatchedStep(stepAsString, stepMatch, parameters, emptyList())).thenReturn(step1);
+        when(candidate2.createMatchedStep(stepAsString, stepMatch, parameters, emptyList())).thenReturn(step2);
+        when(candidate3.createMatchedStep(stepAsString, stepMatch, parameters, emptyList())).thenReturn(step3);
+        when(candidate4.createMatchedStep(stepAsString, stepMatch, parameters, emptyList())).thenReturn(step4);
 
         StepCollector stepCollector = new MarkUnmatchedStepsAsPending(new StepFinder(new ByLevenshteinDistance()));
         List<Step> steps = stepCollector.collectScenarioSteps(asList(candidate1, candidate2, candidate3, candidate4),
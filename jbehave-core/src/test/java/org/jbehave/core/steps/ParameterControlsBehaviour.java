@@ -0,0 +1,46 @@
+package org.jbehave.core.steps;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jbehave.core.steps.ParameterControls.DelimitedNamesTemplate;
+import org.junit.jupiter.api.Test;
+
+class ParameterControlsBehaviour {
+
+    @Test
+    void shouldReplaceAllDelimitedNamesInSinglePass() {
+        ParameterControls parameterControls = new ParameterControls();
+        Map<String, String> namedParameters = new HashMap<>();
+        namedParameters.put("one", "<two>");
+        namedParameters.put("two", "2");
+        assertThat(parameterControls.replaceAllDelimitedNames("<one> and <two>, <one>, <three> and <<two>>",
+                namedParameters), equalTo("<two> and 2, <two>, <three> and <2>"));
+    }
+
+    @Test
+    void shouldReplaceAllDelimitedNamesWithCustomDelimiters() {
+        ParameterControls parameterControls = new ParameterControls().useNameDelimiterLeft("[[")
+                .useNameDelimiterRight("]]");
+        Map<String, String> namedParameters = new HashMap<>();
+        namedParameters.put("one", "1");
+        assertThat(parameterControls.replaceAllDelimitedNames("[[one]] <one> [[one] [[[one]]]", namedParameters),
+                equalTo("1 <one> [[one] [1]"));
+    }
+
+    @Test
+    void shouldCacheTemplatesByText() {
+        ParameterControls parameterControls = new ParameterControls();
+        DelimitedNamesTemplate template = parameterControls.template("<one> to <two>");
+        assertThat(template.names(), equalTo(asList("one", "two")));
+        assertThat(parameterControls.template("<one> to <two>"), sameInstance(template));
+        parameterControls.useNameDelimiterLeft("{");
+        assertThat(parameterControls.template("<one> to <two>").names().isEmpty(), equalTo(true));
+    }
+
+}
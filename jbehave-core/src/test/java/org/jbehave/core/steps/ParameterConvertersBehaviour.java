@@ -1,6 +1,7 @@
 package org.jbehave.core.steps;
 
 import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
@@ -11,7 +12,11 @@ import static org.hamcrest.Matchers.empty;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.beans.IntrospectionException;
@@ -43,6 +48,7 @@ import java.time.YearMonth;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Currency;
 import java.util.Date;
@@ -52,10 +58,12 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.NavigableSet;
+import java.util.Queue;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Pattern;
@@ -592,6 +600,88 @@ class ParameterConvertersBehaviour {
         assertThrows(ParameterConversionFailed.class, () -> original.convert("foo", Bar.class));
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldConvertToCustomObjectUsingConverterAddedAfterConversionFailed() {
+        ParameterConverters parameterConverters = new ParameterConverters(new LoadFromClasspath());
+        Type type = new TypeLiteral<List<Bar>>() {}.getType();
+        assertThrows(ParameterConversionFailed.class, () -> parameterConverters.convert("foo", Bar.class));
+        assertThrows(ParameterConversionFailed.class, () -> parameterConverters.convert("foo", type));
+        parameterConverters.addConverters(new FooToBarParameterConverter());
+        assertThat((Bar) parameterConverters.convert("foo", Bar.class), is(Bar.INSTANCE));
+        assertThatCollectionIs((List<Bar>) parameterConverters.convert("foo", type), Bar.INSTANCE);
+    }
+
+    @Test
+    void shouldReuseConvertersResolvedForType() {
+        StepMonitor monitor = mock(StepMonitor.class);
+        ParameterConverters parameterConverters = new ParameterConverters(monitor, new LoadFromClasspath(),
+                new ParameterControls(), new TableTransformers());
+        AtomicInteger resolutions = new AtomicInteger();
+        parameterConverters.addConverters(new FooToBarParameterConverter() {
+            @Override
+            public boolean canConvertTo(Type type) {
+                resolutions.incrementAndGet();
+                return super.canConvertTo(type);
+            }
+        });
+        parameterConverters.convert("foo", Bar.class);
+        parameterConverters.convert("foo", Bar.class);
+        assertThat(resolutions.get(), is(1));
+        verify(monitor, times(2)).convertedValueOfType(eq("foo"), eq(Bar.class), any(), any());
+    }
+
+    @Test
+    void shouldNotReuseConvertersResolvedForTypeWhileConvertersWereAdded() {
+        ParameterConverters parameterConverters = new ParameterConverters(new LoadFromClasspath());
+        AtomicInteger addedResolutions = new AtomicInteger();
+        ParameterConverter<String, Bar> added = new FooToBarParameterConverter() {
+            @Override
+            public boolean canConvertTo(Type type) {
+                addedResolutions.incrementAndGet();
+                return super.canConvertTo(type);
+            }
+        };
+        AtomicBoolean adding = new AtomicBoolean(true);
+        parameterConverters.addConverters(new FooToBarParameterConverter() {
+            @Override
+            public boolean canConvertTo(Type type) {
+                if (adding.getAndSet(false)) {
+                    parameterConverters.addConverters(added);
+                }
+                return super.canConvertTo(type);
+            }
+        });
+        parameterConverters.convert("foo", Bar.class);
+        assertThat(addedResolutions.get(), is(0));
+        parameterConverters.convert("foo", Bar.class);
+        parameterConverters.convert("foo", Bar.class);
+        assertThat(addedResolutions.get(), is(1));
+    }
+
+    @Test
+    void shouldReportConvertersResolvedForTypeToMonitorConsumingThem() {
+        List<List<Class<?>>> reportedClasses = new ArrayList<>();
+        StepMonitor monitor = new NullStepMonitor() {
+            @Override
+            public void convertedValueOfType(String value, Type type, Object converted,
+                    Queue<Class<?>> converterClasses) {
+                List<Class<?>> classes = new ArrayList<>();
+                while (!converterClasses.isEmpty()) {
+                    classes.add(converterClasses.poll());
+                }
+                reportedClasses.add(classes);
+            }
+        };
+        ParameterConverters parameterConverters = new ParameterConverters(monitor, new LoadFromClasspath(),
+                new ParameterControls(), new TableTransformers());
+        parameterConverters.addConverters(new FooToBarParameterConverter());
+        parameterConverters.convert("foo", Bar.class);
+        parameterConverters.convert("foo", Bar.class);
+        List<Class<?>> expected = singletonList(FooToBarParameterConverter.class);
+        assertThat(reportedClasses, equalTo(asList(expected, expected)));
+    }
+
     @Test
     void shouldConvertToCustomObjectUsingCustomConverter() {
         ParameterConverters parameterConverters = new ParameterConverters(new LoadFromClasspath());
@@ -182,6 +182,30 @@ class StepCandidateBehaviour {
         assertThat((String) someSteps.args, equalTo("1st"));
     }
 
+    @Test
+    void shouldRetainMatchOfStep() throws Exception {
+        Method method = SomeSteps.class.getMethod("aMethod");
+        StepCandidate candidate = candidateWith("windows on the $nth floor", WHEN, method, new SomeSteps());
+        StepMatchResult stepMatch = candidate.match("When windows on the 1st floor", null);
+        assertThat(stepMatch.groupCount(), equalTo(1));
+        assertThat(stepMatch.group(1), equalTo("1st"));
+        assertThat(candidate.match("When windows on the 1st floor are open", null), is(nullValue()));
+        assertThat(candidate.match("And windows on the 1st floor", null), is(nullValue()));
+    }
+
+    @Test
+    void shouldCreatePerformableStepUsingTheRetainedMatch() throws Exception {
+        SomeSteps someSteps = new SomeSteps();
+        Method method = SomeSteps.class.getMethod("aMethodWith", String.class);
+        StepCandidate candidate = candidateWith("I live on the $nth floor", THEN, method, someSteps);
+        String stepAsString = "Then I live on the 1st floor";
+        StepMatchResult stepMatch = candidate.match(stepAsString, null);
+        StoryReporter reporter = mock(StoryReporter.class);
+        candidate.createMatchedStep(stepAsString, stepMatch, namedParameters, emptyList()).perform(reporter, null);
+        verifyBeforeExecutableStep(reporter, stepAsString);
+        assertThat((String) someSteps.args, equalTo("1st"));
+    }
+
     @Test
     void shouldCreatePerformableStepUsingTheMatchedStringAndNamedParameterWithPartialValue() throws Exception {
         SomeSteps someSteps = new SomeSteps();
@@ -0,0 +1,181 @@
+package org.jbehave.core.steps;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.jbehave.core.steps.StepType.GIVEN;
+import static org.jbehave.core.steps.StepType.THEN;
+import static org.jbehave.core.steps.StepType.WHEN;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+
+import org.jbehave.core.configuration.MostUsefulConfiguration;
+import org.jbehave.core.embedder.AllStepCandidates;
+import org.jbehave.core.i18n.LocalizedKeywords;
+import org.jbehave.core.parsers.AutomatonPatternParser;
+import org.jbehave.core.parsers.RegexPrefixCapturingPatternParser;
+import org.jbehave.core.parsers.StepPatternParser;
+import org.jbehave.core.steps.context.StepsContext;
+import org.junit.jupiter.api.Test;
+
+class StepCandidateIndexBehaviour {
+
+    private final RegexPrefixCapturingPatternParser patternParser = new RegexPrefixCapturingPatternParser();
+
+    @Test
+    void shouldFindOnlyCandidatesWithMatchingTypeAndLiteralPrefix() throws Exception {
+        StepCandidate apples = candidateWith("I have $number apples", GIVEN);
+        StepCandidate pears = candidateWith("I have $number pears", GIVEN);
+        StepCandidate oranges = candidateWith("I sell $number oranges", GIVEN);
+        StepCandidate eat = candidateWith("I have eaten $number apples", WHEN);
+        StepCandidate count = candidateWith("I have $number apples left", THEN);
+        StepCandidateIndex index = new StepCandidateIndex(asList(apples, pears, oranges, eat, count));
+
+        assertThat(index.findCandidates("Given I have 3 apples"), equalTo(asList(apples, pears)));
+        assertThat(index.findCandidates("When I have eaten 2 apples"), equalTo(asList(eat)));
+        assertThat(index.findCandidates("Then I sell 1 oranges"), is(empty()));
+        assertThat(index.findCandidates("Given you have 3 apples"), is(empty()));
+    }
+
+    @Test
+    void shouldBeRetrievedFromTheViewOfItsCandidates() throws Exception {
+        StepCandidate apples = candidateWith("I have $number apples", GIVEN);
+        StepCandidate pears = candidateWith("I have $number pears", GIVEN);
+        StepCandidateIndex index = new StepCandidateIndex(asList(apples, pears));
+
+        List<StepCandidate> view = index.asList();
+        assertThat(view, equalTo(asList(apples, pears)));
+        assertThat(index.indexes(view), is(true));
+        assertThat(StepCandidateIndex.of(view), sameInstance(index));
+        assertThat(StepCandidateIndex.of(asList(apples, pears)), not(sameInstance(index)));
+        assertThrows(UnsupportedOperationException.class, () -> view.add(apples));
+
+        AllStepCandidates allStepCandidates = new AllStepCandidates(Collections.emptyList());
+        assertThat(StepCandidateIndex.of(allStepCandidates.getRegularSteps()),
+                sameInstance(allStepCandidates.getRegularStepsIndex()));
+    }
+
+    @Test
+    void shouldFindCandidatesOfAllTypesForAndSteps() throws Exception {
+        StepCandidate given = candidateWith("I have $number apples", GIVEN);
+        StepCandidate when = candidateWith("I eat $number apples", WHEN);
+        StepCandidate then = candidateWith("I have $number apples left", THEN);
+        StepCandidateIndex index = new StepCandidateIndex(asList(then, when, given));
+
+        assertThat(index.findCandidates("And I have 1 apples left"), equalTo(asList(then, given)));
+    }
+
+    @Test
+    void shouldFoldWhitespaceAsThePatternDoes() throws Exception {
+        StepCandidate candidate = candidateWith("windows on the $nth floor", WHEN);
+        StepCandidateIndex index = new StepCandidateIndex(asList(candidate));
+
+        assertThat(index.findCandidates("When windows  on\tthe\n1st floor"), equalTo(asList(candidate)));
+        assertThat(index.findCandidates("When windows on the  floor"), equalTo(asList(candidate)));
+        assertThat(index.findCandidates("When windowson the 1st floor"), is(empty()));
+    }
+
+    @Test
+    void shouldPreserveOrderOfIndexedCandidates() throws Exception {
+        StepCandidate withParameterFirst = candidateWith("$who has $number apples", GIVEN);
+        StepCandidate withLongPrefix = candidateWith("I have $number apples", GIVEN);
+        StepCandidate withShortPrefix = candidateWith("I $verb $number apples", GIVEN);
+        StepCandidate unindexed = mock(StepCandidate.class);
+        StepCandidateIndex index = new StepCandidateIndex(
+                asList(withLongPrefix, unindexed, withParameterFirst, withShortPrefix));
+
+        assertThat(index.findCandidates("Given I have 3 apples"),
+                equalTo(asList(withLongPrefix, unindexed, withParameterFirst, withShortPrefix)));
+        assertThat(index.findCandidates("Given Fred has 3 apples"), equalTo(asList(unindexed, withParameterFirst)));
+    }
+
+    @Test
+    void shouldIndexCandidatesByLiteralPrefixOfResolvedPattern() {
+        assertThat(literalPrefixOf("a price of 10.5 (net) is $price"), equalTo("a price of 10.5 (net) is "));
+        assertThat(literalPrefixOf("I    laugh"), equalTo("I laugh"));
+        assertThat(literalPrefixOf("$who laughs"), equalTo(""));
+        assertThat(literalPrefixOf("I laugh or cry"), equalTo("I laugh or cry"));
+        assertThat(literalPrefixOf("I laugh|cry"), is(nullValue()));
+        assertThat(StepCandidateIndex.literalPrefix(null), is(nullValue()));
+    }
+
+    @Test
+    void shouldFindOnlyCandidatesWhoseWholePatternMatchesViaAutomaton() throws Exception {
+        StepPatternParser parser = new AutomatonPatternParser();
+        StepCandidate apples = candidateWith("I have $number apples", GIVEN, parser);
+        StepCandidate applesLeft = candidateWith("I have $number apples left", GIVEN, parser);
+        StepCandidate anything = candidateWith("I have $something", GIVEN, parser);
+        StepCandidate pears = candidateWith("I have $number pears.", GIVEN, parser);
+        StepCandidate eat = candidateWith("I have eaten $number apples", WHEN, parser);
+        StepCandidate prefixed = candidateWith("I have $number apples", GIVEN);
+        StepCandidateIndex index = new StepCandidateIndex(asList(apples, applesLeft, anything, pears, eat, prefixed));
+
+        assertThat(index.findCandidates("Given I have 3 apples"), equalTo(asList(apples, anything, prefixed)));
+        assertThat(index.findCandidates("Given I have 3 apples left"),
+                equalTo(asList(applesLeft, anything, prefixed)));
+        assertThat(index.findCandidates("Given I have 3 pears."), equalTo(asList(anything, pears, prefixed)));
+        assertThat(index.findCandidates("Given I have 3 pears!"), equalTo(asList(anything, prefixed)));
+        assertThat(index.findCandidates("When I have eaten 2 apples"), equalTo(asList(eat)));
+        assertThat(index.findCandidates("And I have eaten 2 apples"),
+                equalTo(asList(apples, anything, eat, prefixed)));
+        assertThat(index.findCandidates("Then I have eaten 2 apples"), is(empty()));
+    }
+
+    @Test
+    void shouldFoldWhitespaceAndCaptureAnyCharacterAsThePatternDoesViaAutomaton() throws Exception {
+        StepPatternParser parser = new AutomatonPatternParser();
+        StepCandidate candidate = candidateWith("windows on the $nth floor", WHEN, parser);
+        StepCandidate table = candidateWith("the table $table", WHEN, parser);
+        StepCandidateIndex index = new StepCandidateIndex(asList(candidate, table));
+
+        assertThat(index.findCandidates("When windows  on\tthe\n1st floor"), equalTo(asList(candidate)));
+        assertThat(index.findCandidates("When windows on the \n1st\n floor"), equalTo(asList(candidate)));
+        assertThat(index.findCandidates("When windows on the  floor"), equalTo(asList(candidate)));
+        assertThat(index.findCandidates("When windowson the 1st floor"), is(empty()));
+        assertThat(index.findCandidates("When windows on the 1st floor "), is(empty()));
+        assertThat(index.findCandidates("When the table\n|a|b|\n|1|2|"), equalTo(asList(table)));
+        for (String step : asList("windows  on\tthe\n1st floor", "windows on the 1st floor ", "the table\n|a|")) {
+            for (StepCandidate found : asList(candidate, table)) {
+                assertThat(index.findCandidates("When " + step).contains(found),
+                        equalTo(found.getStepMatcher().matcher(step).matches()));
+            }
+        }
+    }
+
+    @Test
+    void shouldTokeniseOnlyPatternsOfAutomatonStepMatchers() {
+        StepPatternParser parser = new AutomatonPatternParser();
+        assertThat(StepCandidateIndex.patternTokens(parser.parseStep(GIVEN, "a $b (c).")),
+                equalTo(new int[] { 'a', -1, -2, -1, '(', 'c', ')', '.' }));
+        assertThat(StepCandidateIndex.patternTokens(parser.parseStep(GIVEN, "I laugh|cry")), is(nullValue()));
+        assertThat(StepCandidateIndex.patternTokens(patternParser.parseStep(GIVEN, "I laugh")), is(nullValue()));
+    }
+
+    private String literalPrefixOf(String pattern) {
+        return StepCandidateIndex.literalPrefix(patternParser.parseStep(GIVEN, pattern));
+    }
+
+    private StepCandidate candidateWith(String patternAsString, StepType stepType) throws Exception {
+        return candidateWith(patternAsString, stepType, patternParser);
+    }
+
+    private StepCandidate candidateWith(String patternAsString, StepType stepType, StepPatternParser patternParser)
+            throws Exception {
+        Method method = SomeSteps.class.getMethod("aMethod");
+        MostUsefulConfiguration configuration = new MostUsefulConfiguration();
+        SomeSteps instance = new SomeSteps();
+        return new StepCandidate(patternAsString, 0, stepType, method, instance.getClass(),
+                new InstanceStepsFactory(configuration, instance), new StepsContext(), new LocalizedKeywords(),
+                patternParser, configuration.parameterConverters(), new ParameterControls());
+    }
+
+}
@@ -12,6 +12,7 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -30,6 +31,7 @@ import java.util.stream.Stream;
 
 import com.thoughtworks.paranamer.BytecodeReadingParanamer;
 import com.thoughtworks.paranamer.CachingParanamer;
+import com.thoughtworks.paranamer.Paranamer;
 
 import org.jbehave.core.annotations.AfterScenario;
 import org.jbehave.core.configuration.Keywords;
@@ -148,7 +150,8 @@ class StepCreatorBehaviour {
         // When
         when(stepMatcher.parameterNames()).thenReturn(new String[] {});
         Matcher matcher = Pattern.compile("foo").matcher("bar");
-        assertThrows(ParameterNotFound.class, () -> stepCreator.matchedParameter(matcher, "unknown"));
+        assertThrows(ParameterNotFound.class,
+                () -> stepCreator.matchedParameter(new StepMatchResult(matcher), "unknown"));
         // Then .. fail as expected
     }
 
@@ -319,6 +322,29 @@ class StepCreatorBehaviour {
         assertThat((String) stepsInstance.args, is("shopping cart"));
     }
 
+    @Test
+    void shouldLookUpParameterNamesOncePerMethodUntilParanamerIsChanged() throws Exception {
+        // Given
+        SomeSteps stepsInstance = new SomeSteps();
+        StepCreator stepCreator = stepCreatorUsing(stepsInstance, mock(StepMatcher.class), new ParameterControls());
+        Paranamer paranamer = mock(Paranamer.class);
+        Method method = SomeSteps.methodFor("aMethodWithoutNamedAnnotation");
+        when(paranamer.lookupParameterNames(method, false)).thenReturn(new String[] { "theme" });
+        stepCreator.useParanamer(paranamer);
+        Properties properties = new Properties();
+        properties.put("theme", "shopping cart");
+
+        // When
+        stepCreator.createBeforeOrAfterStep(method, new Meta(properties)).perform(null, null);
+        stepCreator.createBeforeOrAfterStep(method, new Meta(properties)).perform(null, null);
+        stepCreator.useParanamer(paranamer);
+        stepCreator.createBeforeOrAfterStep(method, new Meta(properties)).perform(null, null);
+
+        // Then
+        assertThat((String) stepsInstance.args, is("shopping cart"));
+        verify(paranamer, times(2)).lookupParameterNames(method, false);
+    }
+
     @Test
     void shouldHandleFailureInBeforeOrAfterStepWithMeta() throws Exception {
         // Given
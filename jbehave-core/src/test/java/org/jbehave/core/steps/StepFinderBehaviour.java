@@ -7,6 +7,7 @@ import static org.jbehave.core.steps.StepType.GIVEN;
 import static org.jbehave.core.steps.StepType.THEN;
 import static org.jbehave.core.steps.StepType.WHEN;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -14,6 +15,7 @@ import org.jbehave.core.annotations.Given;
 import org.jbehave.core.annotations.Then;
 import org.jbehave.core.annotations.When;
 import org.jbehave.core.configuration.MostUsefulConfiguration;
+import org.jbehave.core.steps.StepFinder.ByLevenshteinDistance;
 import org.junit.jupiter.api.Test;
 
 class StepFinderBehaviour {
@@ -31,6 +33,22 @@ class StepFinderBehaviour {
         assertThatStepdocIs(stepdocs.get(2), "thenFoo", "thenFoo(java.lang.String)", "foo named $name", "Then", THEN, mySteps);        
     }
     
+    @Test
+    void shouldPrioritiseCandidatesByLevenshteinDistanceAndThenByPriority() {
+        StepFinder finder = new StepFinder(new ByLevenshteinDistance());
+        List<StepCandidate> candidates = new ArrayList<>(
+                new InstanceStepsFactory(new MostUsefulConfiguration(), new PrioritisedSteps()).createCandidateSteps()
+                        .get(0).listCandidates());
+        for (int i = 0; i < 2; i++) {
+            List<StepCandidate> prioritised = finder.prioritise("Given a step named foo", candidates);
+            assertThat(prioritised.get(0).getMethod().getName(), equalTo("aStepNamed"));
+            assertThat(prioritised.get(1).getMethod().getName(), equalTo("aStopNamed"));
+            assertThat(prioritised.get(2).getMethod().getName(), equalTo("aStep"));
+            assertThat(prioritised.get(3).getMethod().getName(), equalTo("anotherStep"));
+            Collections.reverse(candidates);
+        }
+    }
+
     private void assertThatStepdocIs(Stepdoc stepdoc, String methodName, String methodSignature, String pattern, String startingWord, StepType stepType, Object stepsInstance) {
         assertThat(stepdoc.getMethod().getName(), equalTo(methodName));
         assertThat(stepdoc.toString(), containsString(methodName));
@@ -60,6 +78,25 @@ class StepFinderBehaviour {
         }
 
     }
-    
+
+    static class PrioritisedSteps {
+
+        @Given("a step named $name")
+        public void aStepNamed(String name) {
+        }
+
+        @Given("a step $name")
+        public void aStep(String name) {
+        }
+
+        @Given("another step $name")
+        public void anotherStep(String name) {
+        }
+
+        @Given(value = "a stop named $name", priority = 1)
+        public void aStopNamed(String name) {
+        }
+
+    }
 
 }
@@ -0,0 +1,132 @@
+package org.jbehave.core.steps;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import org.jbehave.core.failures.IgnoringStepsFailure;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class StepMethodInvokerBehaviour {
+
+    static Stream<StepMethodInvoker> invokers() {
+        return Stream.of(new ReflectiveStepMethodInvoker(), new MethodHandleStepMethodInvoker(),
+                new LambdaStepMethodInvoker());
+    }
+
+    @ParameterizedTest
+    @MethodSource("invokers")
+    void shouldInvokeMethodsWithParametersAndReturnTheirValue(StepMethodInvoker invoker) throws Exception {
+        InvokedSteps steps = new InvokedSteps();
+        assertThat(invoker.invoke(method("add", int.class, int.class), steps, new Object[] { 1, 2 }), equalTo(3));
+        assertThat(invoker.invoke(method("add", int.class, int.class), steps, new Object[] { 3, 4 }), equalTo(7));
+        assertThat(invoker.invoke(method("concat", String.class, String.class, String.class), steps,
+                new Object[] { "a", "b", "c" }), equalTo("abc"));
+        assertThat(invoker.invoke(method("twice", String.class), steps, new Object[] { "a" }), equalTo("aa"));
+        assertThat(invoker.invoke(method("named"), steps, new Object[0]), equalTo("steps"));
+        assertThat(invoker.invoke(method("staticNamed"), null, new Object[0]), equalTo("static steps"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("invokers")
+    void shouldInvokeVoidMethods(StepMethodInvoker invoker) throws Exception {
+        InvokedSteps steps = new InvokedSteps();
+        assertThat(invoker.invoke(method("record", String.class), steps, new Object[] { "a" }), is(nullValue()));
+        assertThat(invoker.invoke(method("record"), steps, new Object[0]), is(nullValue()));
+        assertThat(steps.recorded, equalTo("a!"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("invokers")
+    void shouldWrapFailureOfMethod(StepMethodInvoker invoker) throws Exception {
+        InvokedSteps steps = new InvokedSteps();
+        InvocationTargetException exception = assertThrows(InvocationTargetException.class,
+                () -> invoker.invoke(method("ignore"), steps, new Object[0]));
+        assertThat(exception.getCause(), instanceOf(IgnoringStepsFailure.class));
+    }
+
+    @ParameterizedTest
+    @MethodSource("invokers")
+    void shouldWidenPrimitiveParameters(StepMethodInvoker invoker) throws Exception {
+        InvokedSteps steps = new InvokedSteps();
+        assertThat(invoker.invoke(method("sum", long.class, double.class), steps, new Object[] { 1, 'a' }),
+                equalTo(98.0));
+    }
+
+    @ParameterizedTest
+    @MethodSource("invokers")
+    void shouldNotWrapFailureToInvokeMethod(StepMethodInvoker invoker) throws Exception {
+        InvokedSteps steps = new InvokedSteps();
+        Method add = method("add", int.class, int.class);
+        assertThrows(NullPointerException.class, () -> invoker.invoke(add, null, new Object[] { 1, 2 }));
+        assertThrows(IllegalArgumentException.class, () -> invoker.invoke(add, "steps", new Object[] { 1, 2 }));
+        assertThrows(IllegalArgumentException.class, () -> invoker.invoke(add, steps, new Object[] { 1 }));
+        assertThrows(IllegalArgumentException.class, () -> invoker.invoke(add, steps, new Object[] { 1, null }));
+        assertThrows(IllegalArgumentException.class, () -> invoker.invoke(add, steps, new Object[] { 1, "2" }));
+        assertThrows(IllegalArgumentException.class, () -> invoker.invoke(add, steps, new Object[] { 1, 2L }));
+        assertThrows(IllegalArgumentException.class,
+                () -> invoker.invoke(method("twice", String.class), steps, new Object[] { 2 }));
+    }
+
+    @Test
+    void shouldGenerateLambdaInvokers() throws Exception {
+        InvocationTargetException exception = assertThrows(InvocationTargetException.class,
+                () -> new LambdaStepMethodInvoker().invoke(method("ignore"), new InvokedSteps(), new Object[0]));
+        assertThat(Arrays.stream(exception.getCause().getStackTrace())
+                .anyMatch(element -> element.getMethodName().startsWith("lambda$lambdaInvoker")), is(true));
+    }
+
+    private static Method method(String name, Class<?>... parameterTypes) throws NoSuchMethodException {
+        return InvokedSteps.class.getMethod(name, parameterTypes);
+    }
+
+    public static class InvokedSteps {
+        private String recorded = "";
+
+        public int add(int first, int second) {
+            return first + second;
+        }
+
+        public double sum(long first, double second) {
+            return first + second;
+        }
+
+        public String concat(String first, String second, String third) {
+            return first + second + third;
+        }
+
+        public String twice(String value) {
+            return value + value;
+        }
+
+        public String named() {
+            return "steps";
+        }
+
+        public static String staticNamed() {
+            return "static steps";
+        }
+
+        public void record(String value) {
+            recorded += value;
+        }
+
+        public void record() {
+            recorded += "!";
+        }
+
+        public void ignore() {
+            throw new IgnoringStepsFailure("ignoring");
+        }
+    }
+}
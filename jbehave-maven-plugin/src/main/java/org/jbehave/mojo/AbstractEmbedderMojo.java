@@ -143,6 +143,19 @@ public abstract class AbstractEmbedderMojo extends AbstractMojo {
     @Parameter(defaultValue = "1")
     int threads = 1;
 
+    /**
+     * The boolean flag to schedule stories longest first, using the durations recorded by the previous run
+     */
+    @Parameter(defaultValue = "false")
+    boolean scheduleLongestStoriesFirst = false;
+
+    /**
+     * The name of the executors, one of "fixed", "direct", "forkJoin" or "virtual", or the class name of an
+     * {@link ExecutorServiceFactory}, used unless the executors class is set
+     */
+    @Parameter(defaultValue = "fixed")
+    String executors = "fixed";
+
     /**
      * The embedder class
      */
@@ -326,7 +339,8 @@ public abstract class AbstractEmbedderMojo extends AbstractMojo {
                 .doGenerateViewAfterStories(generateViewAfterStories).doIgnoreFailureInStories(ignoreFailureInStories)
                 .doIgnoreFailureInView(ignoreFailureInView).doVerboseFailures(verboseFailures)
                 .doVerboseFiltering(verboseFiltering)
-                .doFailOnStoryTimeout(failOnStoryTimeout).useThreads(threads);
+                .doFailOnStoryTimeout(failOnStoryTimeout).useThreads(threads)
+                .doScheduleLongestStoriesFirst(scheduleLongestStoriesFirst).useExecutors(executors);
         if (storyTimeouts != null) {
             embedderControls.useStoryTimeouts(storyTimeouts);
         }        
@@ -4,6 +4,7 @@ import static java.util.Arrays.asList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -19,6 +20,7 @@ import java.util.List;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.model.Build;
@@ -70,6 +72,8 @@ public class EmbedderMojoBehaviour {
         assertThat(embedderControls.storyTimeouts(), equalTo("300"));
         assertThat(embedderControls.failOnStoryTimeout(), is(false));
         assertThat(embedderControls.threads(), equalTo(1));
+        assertThat(embedderControls.scheduleLongestStoriesFirst(), is(false));
+        assertThat(embedderControls.executors(), equalTo("fixed"));
     }
 
     @Test
@@ -89,6 +93,8 @@ public class EmbedderMojoBehaviour {
         mojo.storyTimeouts = "**/longs/BddTest2Long.feature:7";
         mojo.failOnStoryTimeout = true;
         mojo.threads = 2;
+        mojo.scheduleLongestStoriesFirst = true;
+        mojo.executors = "forkJoin";
         Embedder embedder = mojo.newEmbedder();
         // Then
         EmbedderControls embedderControls = embedder.embedderControls();
@@ -99,6 +105,9 @@ public class EmbedderMojoBehaviour {
         assertThat(embedderControls.skip(), is(true));
         assertThat(embedderControls.storyTimeouts(), is("**/longs/BddTest2Long.feature:7"));
         assertThat(embedderControls.threads(), is(2));
+        assertThat(embedderControls.scheduleLongestStoriesFirst(), is(true));
+        assertThat(embedderControls.executors(), equalTo("forkJoin"));
+        assertThat(embedder.executorService(), instanceOf(ForkJoinPool.class));
     }
 
     @Test
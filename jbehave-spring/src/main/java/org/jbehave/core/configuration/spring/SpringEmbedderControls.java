@@ -89,4 +89,20 @@ public class SpringEmbedderControls extends EmbedderControls {
     public void setThreads(int threads) {
         useThreads(threads);
     }
+
+    public boolean isScheduleLongestStoriesFirst() {
+        return scheduleLongestStoriesFirst();
+    }
+
+    public void setScheduleLongestStoriesFirst(boolean scheduleLongestStoriesFirst) {
+        doScheduleLongestStoriesFirst(scheduleLongestStoriesFirst);
+    }
+
+    public String getExecutors() {
+        return executors();
+    }
+
+    public void setExecutors(String executors) {
+        useExecutors(executors);
+    }
 }
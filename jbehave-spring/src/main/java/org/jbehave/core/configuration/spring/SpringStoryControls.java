@@ -87,4 +87,20 @@ public class SpringStoryControls extends StoryControls {
     public void setSkipStoryIfGivenStoryFailed(boolean skipStoryIfGivenStoryFailed) {
         doSkipStoryIfGivenStoryFailed(skipStoryIfGivenStoryFailed);
     }
+
+    public boolean isParallelScenarios() {
+        return parallelScenarios();
+    }
+
+    public void setParallelScenarios(boolean parallelScenarios) {
+        doParallelScenarios(parallelScenarios);
+    }
+
+    public int getExamplesThreads() {
+        return examplesThreads();
+    }
+
+    public void setExamplesThreads(int examplesThreads) {
+        useExamplesThreads(examplesThreads);
+    }
 }